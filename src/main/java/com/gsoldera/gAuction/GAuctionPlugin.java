@@ -1,23 +1,33 @@
 package com.gsoldera.gAuction;
 
+import java.io.IOException;
+
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.slf4j.Logger;
 
 import com.gsoldera.gAuction.auction.AuctionManager;
+import com.gsoldera.gAuction.auction.WarehouseManager;
 import com.gsoldera.gAuction.commands.AuctionAdminCommand;
 import com.gsoldera.gAuction.commands.AuctionCommand;
 import com.gsoldera.gAuction.config.ConfigManager;
+import com.gsoldera.gAuction.config.ConfigWatcher;
 import com.gsoldera.gAuction.database.DatabaseManager;
 import com.gsoldera.gAuction.economy.EconomyManager;
+import com.gsoldera.gAuction.economy.EscrowManager;
 import com.gsoldera.gAuction.gui.AuctionBidGUI;
 import com.gsoldera.gAuction.gui.AuctionConfirmGUI;
 import com.gsoldera.gAuction.gui.AuctionHistoryGUI;
 import com.gsoldera.gAuction.gui.AuctionMainGUI;
 import com.gsoldera.gAuction.gui.AuctionWarehouseGUI;
+import com.gsoldera.gAuction.gui.GuiTemplates;
+import com.gsoldera.gAuction.gui.ViewManager;
+import com.gsoldera.gAuction.listeners.ChatPromptManager;
 import com.gsoldera.gAuction.listeners.InventoryClickListener;
+import com.gsoldera.gAuction.listeners.PlayerConnectionListener;
 import com.gsoldera.gAuction.messages.MessageManager;
+import com.gsoldera.gAuction.utils.ItemCache;
 import com.gsoldera.gAuction.utils.ItemSerializer;
 
 /**
@@ -30,11 +40,18 @@ public final class GAuctionPlugin extends JavaPlugin {
     // Core components
     private Logger logger;
     private ConfigManager configManager;
+    private ConfigWatcher configWatcher;
     private DatabaseManager databaseManager;
     private EconomyManager economyManager;
+    private EscrowManager escrowManager;
     private AuctionManager auctionManager;
+    private WarehouseManager warehouseManager;
     private MessageManager messageManager;
+    private GuiTemplates guiTemplates;
+    private ViewManager viewManager;
+    private ChatPromptManager chatPromptManager;
     private ItemSerializer itemSerializer;
+    private ItemCache itemCache;
 
     @SuppressWarnings("deprecation")
     @Override
@@ -61,9 +78,15 @@ public final class GAuctionPlugin extends JavaPlugin {
         // Config must be first
         configManager = new ConfigManager(this);
         configManager.loadConfig();
+        startConfigWatcher();
 
         // Message system depends on config
         messageManager = new MessageManager(this);
+        guiTemplates = new GuiTemplates(this);
+
+        // Open GUIs are tracked before anything can ask for a refresh
+        viewManager = new ViewManager(this);
+        chatPromptManager = new ChatPromptManager(this);
 
         // Economy can work without other components
         economyManager = new EconomyManager(this);
@@ -75,11 +98,33 @@ public final class GAuctionPlugin extends JavaPlugin {
         databaseManager = new DatabaseManager(this, configManager);
         databaseManager.initialize();
 
+        // Decoded history items are shared by every GUI reading them
+        itemCache = new ItemCache();
+
+        // Warehouse counters must be ready before auctions start storing items
+        warehouseManager = new WarehouseManager(this);
+        warehouseManager.loadCounts();
+
+        // Escrow ledger must drop holds of the last run before new bids come in
+        escrowManager = new EscrowManager(this);
+        escrowManager.releaseStaleHolds();
+        escrowManager.loadPendingCredits();
+
         // Auction system depends on everything else
         auctionManager = new AuctionManager(this);
         auctionManager.loadPendingAuctions();
     }
 
+    private void startConfigWatcher() {
+        if (!configManager.isAutoReload()) return;
+
+        try {
+            configWatcher = new ConfigWatcher(this);
+        } catch (IOException e) {
+            logger.warn("Could not watch config.yml, changes need /auctionadmin reload", e);
+        }
+    }
+
     private void registerCommands() {
         var auctionCommand = getCommand("auction");
         var adminCommand = getCommand("auctionadmin");
@@ -99,6 +144,9 @@ public final class GAuctionPlugin extends JavaPlugin {
 
     private void registerListeners() {
         getServer().getPluginManager().registerEvents(new InventoryClickListener(), this);
+        getServer().getPluginManager().registerEvents(viewManager, this);
+        getServer().getPluginManager().registerEvents(chatPromptManager, this);
+        getServer().getPluginManager().registerEvents(new PlayerConnectionListener(escrowManager), this);
     }
 
     @Override
@@ -117,10 +165,18 @@ public final class GAuctionPlugin extends JavaPlugin {
             }
 
             // Shutdown components in reverse order
+            if (configWatcher != null) {
+                configWatcher.shutdown();
+            }
+
             if (auctionManager != null) {
                 auctionManager.shutdown();
             }
 
+            if (viewManager != null) {
+                viewManager.shutdown();
+            }
+
             if (databaseManager != null) {
                 databaseManager.shutdown();
             }
@@ -150,7 +206,13 @@ public final class GAuctionPlugin extends JavaPlugin {
     public ConfigManager getConfigManager() { return configManager; }
     public DatabaseManager getDatabaseManager() { return databaseManager; }
     public EconomyManager getEconomyManager() { return economyManager; }
+    public EscrowManager getEscrowManager() { return escrowManager; }
     public AuctionManager getAuctionManager() { return auctionManager; }
+    public WarehouseManager getWarehouseManager() { return warehouseManager; }
     public MessageManager getMessageManager() { return messageManager; }
+    public GuiTemplates getGuiTemplates() { return guiTemplates; }
+    public ViewManager getViewManager() { return viewManager; }
+    public ChatPromptManager getChatPromptManager() { return chatPromptManager; }
     public ItemSerializer getItemSerializer() { return itemSerializer; }
+    public ItemCache getItemCache() { return itemCache; }
 }
@@ -0,0 +1,34 @@
+package com.gsoldera.gAuction.auction;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Broad kinds of auctioned items, each with its own share of the queue under the fair scheduler
+ */
+public enum AuctionCategory {
+    /** Enchanted items */
+    RARE,
+    /** Tools, weapons and armor, anything that wears out */
+    TOOLS,
+    /** Placeable blocks */
+    BLOCKS,
+    /** Everything else */
+    OTHER;
+
+    /**
+     * Gets the category of an item
+     * Checked in declaration order, so an enchanted sword is rare rather than a tool
+     */
+    public static AuctionCategory of(ItemStack item) {
+        if (!item.getEnchantments().isEmpty()) {
+            return RARE;
+        }
+
+        Material type = item.getType();
+        if (type.getMaxDurability() > 0) {
+            return TOOLS;
+        }
+        return type.isBlock() ? BLOCKS : OTHER;
+    }
+}
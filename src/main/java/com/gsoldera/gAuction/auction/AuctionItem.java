@@ -1,18 +1,21 @@
 package com.gsoldera.gAuction.auction;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
 import com.google.gson.JsonObject;
 import com.gsoldera.gAuction.GAuctionPlugin;
-import com.gsoldera.gAuction.economy.EconomyManager;
 import com.gsoldera.gAuction.utils.ItemSerializer;
 
 /**
  * Represents an item being auctioned
  * Manages auction state, bidding, and timing
+ * Bid state is lock-free: see {@link BidState}
  */
 public class AuctionItem {
     private final UUID id;
@@ -21,18 +24,24 @@ public class AuctionItem {
 
     private final ItemStack item;
     private final JsonObject itemDetails;
+    private final AuctionCategory category;
 
     private final long duration;
     private final double minBid;
     private final double stepValue;
     
-    private double currentBid;
-    private UUID currentBidderUUID;
-    private String currentBidderName;
+    // Leading bid, replaced as a whole so readers never need a lock
+    private final AtomicReference<BidState> bidState;
+    // Hidden maximum bids, kept in memory only
+    private final ProxyBook proxies;
 
-    private long startTime;
-    private long endTime;
-    private AuctionStatus status;
+    private volatile long startTime;
+    // Deadline, moved forward by late bids with a plain atomic update; timers follow it lazily
+    private final AtomicLong endTime;
+    private final AtomicInteger extensions;
+    private volatile AuctionStatus status;
+    // Paid queue boost, higher starts first
+    private volatile int priority;
 
     /**
      * Represents the possible states of an auction
@@ -59,45 +68,98 @@ public class AuctionItem {
      * @param duration Duration of auction in milliseconds
      */
     public AuctionItem(Player seller, ItemStack item, double minBid, double stepValue, long duration) {
-        this.id = UUID.randomUUID();
-        this.sellerUUID = seller.getUniqueId();
-        this.sellerName = seller.getName();
+        this(UUID.randomUUID(), seller.getUniqueId(), seller.getName(), item, minBid, stepValue, duration, null);
+    }
+
+    /**
+     * Recreates an auction saved before a restart
+     * The seller does not have to be online
+     * @param bid Leading bid to restore, or null if nobody had bid
+     */
+    AuctionItem(UUID id, UUID sellerUUID, String sellerName, ItemStack item, double minBid, double stepValue,
+                long duration, BidState bid) {
+        this.id = id;
+        this.sellerUUID = sellerUUID;
+        this.sellerName = sellerName;
 
         this.item = item.clone();
         this.itemDetails = ItemSerializer.createItemDetailsJson(item);
+        this.category = AuctionCategory.of(item);
 
         this.minBid = minBid;
         this.stepValue = stepValue;
-        this.currentBid = minBid;
+        this.bidState = new AtomicReference<>(bid != null ? bid : BidState.opening(minBid));
+        this.proxies = new ProxyBook();
 
         this.duration = duration;
+        this.endTime = new AtomicLong();
+        this.extensions = new AtomicInteger();
         this.status = AuctionStatus.ACTIVE;
     }
 
     /**
-     * Places a bid on this auction
+     * Tries to make a bid the leading one
+     * Succeeds only if nobody changed the bid state since {@code expected} was read
+     * @param expected The state the bid was validated against
      * @param bidder The player placing the bid
      * @param bidAmount The amount being bid
-     * @return true if bid was successful, false otherwise
+     * @return The new state, whose payment the caller must complete, or null if the bid lost
      */
-    public boolean placeBid(Player bidder, double bidAmount) {
-        if (status != AuctionStatus.ACTIVE) {
-            return false;
-        }
+    public BidState tryPlaceBid(BidState expected, Player bidder, double bidAmount) {
+        return tryPlaceBid(expected, bidder.getUniqueId(), bidder.getName(), bidAmount);
+    }
 
-        if (bidAmount < getMinimumNextBid()) {
-            return false;
+    /**
+     * Tries to make a bid the leading one on behalf of a bidder who may be offline
+     * @see #tryPlaceBid(BidState, Player, double)
+     */
+    BidState tryPlaceBid(BidState expected, UUID bidderUUID, String bidderName, double bidAmount) {
+        if (status != AuctionStatus.ACTIVE || expected.closed()) {
+            return null;
         }
 
-        if (!hasEnoughMoney(bidder, bidAmount)) {
-            return false;
+        if (bidAmount < getMinimumNextBid(expected)) {
+            return null;
         }
 
-        this.currentBid = bidAmount;
-        this.currentBidderUUID = bidder.getUniqueId();
-        this.currentBidderName = bidder.getName();
+        BidState accepted = expected.withBid(bidderUUID, bidderName, bidAmount);
+        return bidState.compareAndSet(expected, accepted) ? accepted : null;
+    }
+
+    /**
+     * Puts back the previous leading bid after an accepted bid could not reserve its funds
+     * @param failed The state installed by the failed bid
+     * @param previous The state it replaced
+     * @return true if the bid was rolled back, false if a newer bid already replaced it
+     */
+    public boolean revertBid(BidState failed, BidState previous) {
+        while (true) {
+            BidState current = bidState.get();
+            if (current.sequence() != failed.sequence()) {
+                return false;
+            }
+            // Keep the closed flag in case the auction ended meanwhile
+            if (bidState.compareAndSet(current, previous.withClosed(current.closed()))) {
+                return true;
+            }
+        }
+    }
 
-        return true;
+    /**
+     * Stops accepting bids
+     * @return The final bid state
+     */
+    public BidState closeBidding() {
+        while (true) {
+            BidState current = bidState.get();
+            if (current.closed()) {
+                return current;
+            }
+            BidState closed = current.withClosed(true);
+            if (bidState.compareAndSet(current, closed)) {
+                return closed;
+            }
+        }
     }
 
     /**
@@ -105,7 +167,46 @@ public class AuctionItem {
      */
     public void start() {
         this.startTime = System.currentTimeMillis();
-        this.endTime = startTime + duration;
+        this.endTime.set(startTime + duration);
+        this.extensions.set(0);
+    }
+
+    /**
+     * Pushes the deadline forward after a late bid
+     * Only bids inside the closing window extend it, at most {@code maxExtensions} times, and the
+     * deadline becomes at least {@code extension} away, so it never moves back. No timer is touched.
+     * @param window Closing window in milliseconds
+     * @param extension Time left after the extension, in milliseconds
+     * @param maxExtensions Most extensions per auction
+     * @return true if the deadline moved
+     */
+    boolean extendDeadline(long window, long extension, int maxExtensions) {
+        long now = System.currentTimeMillis();
+        long deadline = endTime.get();
+        if (deadline <= now || deadline - now > window || now + extension <= deadline) {
+            return false;
+        }
+        if (extensions.getAndUpdate(count -> count < maxExtensions ? count + 1 : count) >= maxExtensions) {
+            return false;
+        }
+        endTime.accumulateAndGet(now + extension, Math::max);
+        return true;
+    }
+
+    /**
+     * Changes the queue priority; only the queue may call this, it has to re-sort the auction
+     */
+    void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Starts the auction timer with the time it had left before a restart
+     * @param remaining Remaining time in milliseconds
+     */
+    void resume(long remaining) {
+        this.endTime.set(System.currentTimeMillis() + Math.min(remaining, duration));
+        this.startTime = endTime.get() - duration;
     }
 
     /**
@@ -113,15 +214,26 @@ public class AuctionItem {
      * @return The minimum next bid amount
      */
     public double getMinimumNextBid() {
-        if (GAuctionPlugin.getInstance().getConfigManager().isStepEnabled()) {
-            return currentBid + stepValue;
-        }
-        return currentBid + 0.01;
+        return getMinimumNextBid(bidState.get());
     }
 
-    private boolean hasEnoughMoney(Player bidder, double amount) {
-        EconomyManager economyManager = GAuctionPlugin.getInstance().getEconomyManager();
-        return economyManager != null && economyManager.hasBalance(bidder, amount);
+    /**
+     * Gets the minimum amount required to beat a given bid state
+     * @param state Snapshot to compute from
+     * @return The minimum next bid amount
+     */
+    public double getMinimumNextBid(BidState state) {
+        return getMinimumNextBid(state.amount());
+    }
+
+    /**
+     * Gets the smallest bid that beats an amount
+     */
+    public double getMinimumNextBid(double amount) {
+        if (GAuctionPlugin.getInstance().getConfigManager().getSettings().stepEnabled()) {
+            return amount + stepValue;
+        }
+        return amount + 0.01;
     }
 
     /**
@@ -137,7 +249,7 @@ public class AuctionItem {
      * @return true if auction time has elapsed, false otherwise
      */
     public boolean hasExpired() {
-        return System.currentTimeMillis() >= endTime;
+        return System.currentTimeMillis() >= endTime.get();
     }
 
     /**
@@ -145,7 +257,7 @@ public class AuctionItem {
      * @return Remaining time or 0 if expired
      */
     public long getRemainingTime() {
-        return Math.max(0, endTime - System.currentTimeMillis());
+        return Math.max(0, endTime.get() - System.currentTimeMillis());
     }
 
     // Getters
@@ -154,12 +266,16 @@ public class AuctionItem {
     public String getSellerName() { return sellerName; }
     public ItemStack getItem() { return item; }
     public JsonObject getItemDetails() { return itemDetails; }
+    public AuctionCategory getCategory() { return category; }
+    public int getPriority() { return priority; }
     public double getMinBid() { return minBid; }
-    public double getCurrentBid() { return currentBid; }
-    public UUID getCurrentBidderUUID() { return currentBidderUUID; }
-    public String getCurrentBidderName() { return currentBidderName; }
+    public BidState getBidState() { return bidState.get(); }
+    ProxyBook getProxies() { return proxies; }
+    public double getCurrentBid() { return bidState.get().amount(); }
+    public UUID getCurrentBidderUUID() { return bidState.get().bidderUUID(); }
+    public String getCurrentBidderName() { return bidState.get().bidderName(); }
     public long getStartTime() { return startTime; }
-    public long getEndTime() { return endTime; }
+    public long getEndTime() { return endTime.get(); }
     public AuctionStatus getStatus() { return status; }
     public double getStepValue() { return stepValue; }
     public long getDuration() { return duration; }
@@ -170,7 +286,7 @@ public class AuctionItem {
                 "id=" + id +
                 ", seller=" + sellerName +
                 ", item=" + item.getType() +
-                ", currentBid=" + currentBid +
+                ", currentBid=" + getCurrentBid() +
                 ", status=" + status +
                 '}';
     }
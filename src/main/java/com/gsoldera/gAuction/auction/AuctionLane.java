@@ -0,0 +1,62 @@
+package com.gsoldera.gAuction.auction;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One auction slot that runs independently of the others
+ * Each lane has its own current auction and lock; all lanes pull from the shared queue.
+ * State is only changed by AuctionManager while holding the lane lock; bidders read it without locking.
+ */
+final class AuctionLane {
+    private final int index;
+    private final ReentrantLock lock;
+
+    private volatile AuctionItem currentAuction;
+    private volatile boolean processingAuction;
+
+    AuctionLane(int index) {
+        this.index = index;
+        this.lock = new ReentrantLock();
+    }
+
+    /**
+     * Gets the zero-based lane index
+     */
+    int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the number shown to players, starting at 1
+     */
+    int getDisplayNumber() {
+        return index + 1;
+    }
+
+    ReentrantLock getLock() {
+        return lock;
+    }
+
+    AuctionItem getCurrentAuction() {
+        return currentAuction;
+    }
+
+    void setCurrentAuction(AuctionItem auction) {
+        this.currentAuction = auction;
+    }
+
+    boolean isProcessingAuction() {
+        return processingAuction;
+    }
+
+    void setProcessingAuction(boolean processing) {
+        this.processingAuction = processing;
+    }
+
+    /**
+     * Checks if the lane can take the next auction from the queue
+     */
+    boolean isIdle() {
+        return currentAuction == null && !processingAuction;
+    }
+}
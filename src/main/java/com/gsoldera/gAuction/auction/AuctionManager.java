@@ -4,31 +4,30 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.slf4j.Logger;
 
 import com.gsoldera.gAuction.GAuctionPlugin;
+import com.gsoldera.gAuction.config.AuctionSettings;
 import com.gsoldera.gAuction.config.ConfigManager;
 import com.gsoldera.gAuction.database.DatabaseManager;
+import com.gsoldera.gAuction.database.PendingWrite;
 import com.gsoldera.gAuction.economy.EconomyManager;
+import com.gsoldera.gAuction.economy.EscrowManager;
 import com.gsoldera.gAuction.gui.AuctionMainGUI;
 import com.gsoldera.gAuction.messages.MessageManager;
+import com.gsoldera.gAuction.utils.ItemCodec;
 import com.gsoldera.gAuction.utils.ItemSerializer;
 
 /**
@@ -36,29 +35,28 @@ import com.gsoldera.gAuction.utils.ItemSerializer;
  * Handles auction creation, bidding, and completion
  */
 public final class AuctionManager {
+    // Resolution of the timing wheel, well below the one second countdown
+    private static final long TIMER_TICK_MILLIS = 100;
+
     private final GAuctionPlugin plugin;
     private final Logger logger;
     private final ConfigManager configManager;
     private final DatabaseManager databaseManager;
     private final EconomyManager economyManager;
+    private final EscrowManager escrowManager;
     private final MessageManager messageManager;
+    private final WarehouseManager warehouseManager;
     
     // Auction state
-    private AuctionItem currentAuction;
-    private final Queue<AuctionItem> auctionQueue;
-    private boolean isProcessingAuction;
+    private final List<AuctionLane> lanes;
+    private final AuctionQueue auctionQueue;
     
-    // Concurrency control
-    private final ReentrantLock auctionLock;
-    private final ScheduledExecutorService scheduler;
-    private ScheduledFuture<?> auctionTimer;
-    private ScheduledFuture<?> countdownTimer;
-    private ScheduledFuture<?> autoCheckTimer;
+    // Concurrency control: each lane has its own lock, queue admission has this one
+    private final ReentrantLock queueLock;
+    // Owns every auction deadline; per-auction timers are grouped under the auction id
+    private final TimingWheel timingWheel;
+    private TimingWheel.Timeout autoCheckTimer;
     
-    // Auction settings
-    private final int maxQueueSize;
-    private final double publicationFee;
-    private final double bidFee;
     private final Map<UUID, Long> lastAuctionTime;
     
     public AuctionManager(GAuctionPlugin plugin) {
@@ -67,33 +65,42 @@ public final class AuctionManager {
         this.configManager = plugin.getConfigManager();
         this.databaseManager = plugin.getDatabaseManager();
         this.economyManager = plugin.getEconomyManager();
+        this.escrowManager = plugin.getEscrowManager();
         this.messageManager = plugin.getMessageManager();
+        this.warehouseManager = plugin.getWarehouseManager();
         
         // Initialize state
-        this.auctionQueue = new ConcurrentLinkedQueue<>();
-        this.isProcessingAuction = false;
+        AuctionSettings settings = configManager.getSettings();
+        this.auctionQueue = new AuctionQueue(
+            QueueScheduler.create(settings.queueScheduler(), configManager::getSettings, logger));
+        int laneCount = configManager.getAuctionLanes();
+        List<AuctionLane> createdLanes = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            createdLanes.add(new AuctionLane(i));
+        }
+        this.lanes = List.copyOf(createdLanes);
         
         // Initialize concurrency controls
-        this.auctionLock = new ReentrantLock();
-        this.scheduler = Executors.newSingleThreadScheduledExecutor(
-            r -> new Thread(r, "GAuction-Scheduler")
-        );
-        
-        // Load settings
-        this.maxQueueSize = configManager.getMaxQueueSize();
-        this.publicationFee = configManager.getPublicationFee();
-        this.bidFee = configManager.getBidFee();
+        this.queueLock = new ReentrantLock();
+        this.timingWheel = new TimingWheel(logger, TIMER_TICK_MILLIS, TimeUnit.MILLISECONDS, "GAuction-Scheduler");
 
         // Add auto-check every minute
-        autoCheckTimer = scheduler.scheduleAtFixedRate(
+        autoCheckTimer = timingWheel.scheduleAtFixedRate(
+            null,
             () -> Bukkit.getScheduler().runTask(plugin, () -> {
-                if (!auctionLock.tryLock()) return;
-                try {
-                    if (!isProcessingAuction && (currentAuction == null || currentAuction.hasExpired())) {
-                        scheduleNextAuction();
+                for (AuctionLane lane : lanes) {
+                    if (!lane.getLock().tryLock()) continue;
+                    try {
+                        AuctionItem current = lane.getCurrentAuction();
+                        if (!lane.isProcessingAuction() && (current == null || current.hasExpired())) {
+                            scheduleNextAuction(lane);
+                        } else if (current != null) {
+                            // Keeps the saved remaining time close in case the server crashes
+                            saveLaneState(lane, current);
+                        }
+                    } finally {
+                        lane.getLock().unlock();
                     }
-                } finally {
-                    auctionLock.unlock();
                 }
             }),
             60, 60, TimeUnit.SECONDS
@@ -109,12 +116,13 @@ public final class AuctionManager {
         }, 20L * 60, 20L * 60); // Run every minute
     }
 
-    private void broadcastTimeCheckpoint(TimeCheckpoint checkpoint) {
-        if (currentAuction == null) return;
+    private void broadcastTimeCheckpoint(AuctionLane lane, AuctionItem auction, TimeCheckpoint checkpoint) {
+        // A timer that was already running when its auction ended must not announce the next one
+        if (lane.getCurrentAuction() != auction) return;
 
         Map<String, String> placeholders = new HashMap<>();
-        placeholders.put("item", currentAuction.getItem().getType().name());
-        placeholders.put("bid", String.valueOf(currentAuction.getCurrentBid()));
+        placeholders.put("item", auction.getItem().getType().name());
+        placeholders.put("bid", String.valueOf(auction.getCurrentBid()));
         
         String messageKey = switch (checkpoint) {
             case HALF_TIME -> "messages.broadcasts.auction.half_time";
@@ -126,117 +134,142 @@ public final class AuctionManager {
             case ONE_SECOND -> "messages.broadcasts.auction.countdown.one";
         };
 
-        messageManager.broadcast(messageKey, placeholders);
+        broadcast(lane, messageKey, placeholders);
+    }
+
+    /**
+     * Broadcasts a lane event, tagged with the lane when more than one is running
+     */
+    private void broadcast(AuctionLane lane, String key, Map<String, String> placeholders) {
+        placeholders.put("lane", String.valueOf(lane.getDisplayNumber()));
+        if (lanes.size() == 1) {
+            messageManager.broadcast(key, placeholders);
+            return;
+        }
+        String tag = messageManager.getPlainMessage("messages.broadcasts.lane_tag", placeholders);
+        messageManager.broadcast(key, placeholders, tag);
     }
 
     /**
-     * Schedules the next auction in queue
+     * Finishes the lane's current auction, if any, and starts the next one from the shared queue
      */
-    private void scheduleNextAuction() {
+    private void scheduleNextAuction(AuctionLane lane) {
+        lane.getLock().lock();
         try {
-            auctionLock.lock();
-            isProcessingAuction = true;
+            lane.setProcessingAuction(true);
 
-            if (currentAuction != null) {
-                finalizeCurrentAuction(false);
+            if (lane.getCurrentAuction() != null) {
+                finalizeCurrentAuction(lane, false);
             }
 
-            currentAuction = auctionQueue.poll();
+            AuctionItem next = auctionQueue.poll();
+            lane.setCurrentAuction(next);
 
-            if (currentAuction != null) {
-                currentAuction.start();
-                scheduleAuctionTimers(currentAuction);
+            if (next != null) {
+                next.start();
+                saveLaneState(lane, next);
+                scheduleAuctionTimers(lane, next);
                 
                 Map<String, String> placeholders = new HashMap<>();
-                placeholders.put("seller", currentAuction.getSellerName());
-                placeholders.put("item", currentAuction.getItem().getType().name());
-                messageManager.broadcast("messages.broadcasts.auction.start", placeholders);
+                placeholders.put("seller", next.getSellerName());
+                placeholders.put("item", next.getItem().getType().name());
+                broadcast(lane, "messages.broadcasts.auction.start", placeholders);
                 
                 refreshAllGUIs();
             }
         } finally {
-            isProcessingAuction = false;
-            auctionLock.unlock();
+            lane.setProcessingAuction(false);
+            lane.getLock().unlock();
         }
     }
 
     /**
-     * Finalizes the current auction
+     * Finalizes the lane's current auction
+     * Starting the next one is left to the caller
      */
-    private void finalizeCurrentAuction(boolean canceled) {
+    private void finalizeCurrentAuction(AuctionLane lane, boolean canceled) {
+        lane.getLock().lock();
         try {
-            auctionLock.lock();
-
-            if (currentAuction == null) return;
+            AuctionItem auction = lane.getCurrentAuction();
+            if (auction == null) return;
 
-            cancelAllTimers();
+            cancelTimers(auction);
+            BidState finalBid = settleBidding(auction);
+            boolean sold = false;
 
             if (!canceled) {
-                if (currentAuction.getCurrentBidderUUID() != null) {
-                    handleAuctionWinner();
+                if (finalBid.hasBidder()) {
+                    sold = handleAuctionWinner(auction, finalBid);
                 } else {
-                    saveToWarehouse(currentAuction, AuctionStatus.EXPIRED);
+                    saveToWarehouse(auction, AuctionStatus.EXPIRED);
                     
                     Map<String, String> placeholders = new HashMap<>();
-                    placeholders.put("item", currentAuction.getItem().getType().name());
-                    messageManager.broadcast("messages.broadcasts.auction.expired", placeholders);
+                    placeholders.put("item", auction.getItem().getType().name());
+                    broadcast(lane, "messages.broadcasts.auction.expired", placeholders);
                 }
             } else {
-                saveToWarehouse(currentAuction, AuctionStatus.CANCELLED);
+                saveToWarehouse(auction, AuctionStatus.CANCELLED);
+                releaseBid(auction, finalBid, "messages.player.bids.refunded");
             }
+            deleteLiveAuction(auction);
 
-            if (currentAuction.getCurrentBidderUUID() != null) {
+            if (sold) {
                 Map<String, String> placeholders = new HashMap<>();
-                placeholders.put("item", currentAuction.getItem().getType().name());
-                placeholders.put("winner", currentAuction.getCurrentBidderName());
-                placeholders.put("bid", String.valueOf(currentAuction.getCurrentBid()));
-                messageManager.broadcast("messages.broadcasts.auction.countdown.end", placeholders);
+                placeholders.put("item", auction.getItem().getType().name());
+                placeholders.put("winner", finalBid.bidderName());
+                placeholders.put("bid", String.valueOf(finalBid.amount()));
+                broadcast(lane, "messages.broadcasts.auction.countdown.end", placeholders);
             }
 
-            currentAuction = null;
+            lane.setCurrentAuction(null);
             refreshAllGUIs();
-            
-            if (!auctionQueue.isEmpty()) {
-                scheduleNextAuction();
-            }
         } finally {
-            auctionLock.unlock();
+            lane.getLock().unlock();
         }
     }
 
     /**
      * Handles auction winner processing
+     * Settles the winning reservation and pays the seller, through the ledger if they are offline.
+     * Holds are only checked against the balance when they are made, so the winner may have spent
+     * the money since; the item then goes back to the seller with no buyer recorded.
+     * @return true if the winner paid, false if the item went back to the seller
      */
-    private void handleAuctionWinner() {
-        if (currentAuction == null) return;
+    private boolean handleAuctionWinner(AuctionItem auction, BidState finalBid) {
+        if (!escrowManager.settle(finalBid.bidderUUID(), auction.getId(), finalBid.sequence())) {
+            // Nobody bought it: no buyer, and the final bid goes back to the minimum
+            saveToWarehouse(auction, AuctionStatus.EXPIRED, BidState.opening(auction.getMinBid()));
 
-        UUID winnerUUID = currentAuction.getCurrentBidderUUID();
-        if (winnerUUID == null) return;
-
-        Player winner = Bukkit.getPlayer(winnerUUID);
-        if (winner == null) {
-            saveToWarehouse(currentAuction, AuctionStatus.SOLD);
-            return;
+            Player winner = Bukkit.getPlayer(finalBid.bidderUUID());
+            if (winner != null) {
+                Map<String, String> placeholders = new HashMap<>();
+                placeholders.put("bid", economyManager.formatMoney(finalBid.amount()));
+                placeholders.put("item", auction.getItem().getType().name());
+                messageManager.sendMessage(winner, "messages.player.escrow.settle_failed", placeholders);
+            }
+            return false;
         }
 
-        saveToWarehouse(currentAuction, AuctionStatus.SOLD);
+        saveToWarehouse(auction, AuctionStatus.SOLD, finalBid);
+
+        double finalAmount = calculateSellerAmount(finalBid.amount());
+        escrowManager.credit(auction.getSellerUUID(), finalAmount);
 
-        Player seller = Bukkit.getPlayer(currentAuction.getSellerUUID());
+        Player seller = Bukkit.getPlayer(auction.getSellerUUID());
         if (seller != null) {
-            double finalAmount = calculateSellerAmount(currentAuction.getCurrentBid());
-            economyManager.depositPlayer(seller, finalAmount);
-            
             Map<String, String> placeholders = new HashMap<>();
-            placeholders.put("winner", winner.getName());
+            placeholders.put("winner", finalBid.bidderName());
             placeholders.put("bid", economyManager.formatMoney(finalAmount));
             messageManager.sendMessage(seller, "messages.player.auction.sold", placeholders);
         }
+        return true;
     }
 
     /**
      * Calculates final amount seller receives after fees
      */
     private double calculateSellerAmount(double bidAmount) {
+        double bidFee = configManager.getBidFee();
         if (bidFee <= 0) return bidAmount;
         
         double feeAmount = bidAmount * (bidFee / 100.0);
@@ -245,180 +278,321 @@ public final class AuctionManager {
 
     /**
      * Saves auction item to warehouse with specific status
+     * The insert is handed to the write-behind queue; values are captured now.
+     * If the binary encoding fails the item is kept in the legacy Base64 column instead.
      */
     private void saveToWarehouse(AuctionItem auction, AuctionStatus status) {
-        try (Connection conn = databaseManager.getDatabaseConnection().getConnection();
-             PreparedStatement stmt = conn.prepareStatement(
-                "INSERT INTO auction_history (item_serialized, seller_uuid, seller_name, " +
-                "buyer_uuid, buyer_name, start_time, end_time, min_bid, final_bid, status) " +
-                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
-             )) {
-            
-            stmt.setString(1, ItemSerializer.serializeItemStack(auction.getItem()));
-            stmt.setString(2, auction.getSellerUUID().toString());
-            stmt.setString(3, auction.getSellerName());
-            stmt.setString(4, auction.getCurrentBidderUUID() != null ? auction.getCurrentBidderUUID().toString() : null);
-            stmt.setString(5, auction.getCurrentBidderName());
-            stmt.setLong(6, auction.getStartTime());
-            stmt.setLong(7, System.currentTimeMillis());
-            stmt.setDouble(8, auction.getMinBid());
-            stmt.setDouble(9, auction.getCurrentBid());
-            stmt.setString(10, status.name());
-            
-            stmt.executeUpdate();
-            logger.info("Saved auction to warehouse: {} with status {}", 
-                auction.getItem().getType().name(), status);
-        } catch (SQLException e) {
-            logger.error("Error saving auction to warehouse", e);
+        saveToWarehouse(auction, status, auction.getBidState());
+    }
+
+    /**
+     * Saves auction item to warehouse with specific status and the bid it ended on
+     * @param bid Bid recorded as the buyer and final bid
+     */
+    private void saveToWarehouse(AuctionItem auction, AuctionStatus status, BidState bid) {
+        byte[] itemData = ItemCodec.encode(auction.getItem());
+        String itemSerialized = itemData != null ? "" : ItemSerializer.serializeItemStack(auction.getItem());
+        if (itemSerialized == null) {
+            logger.error("Could not save auction {} to warehouse, the item cannot be serialized", auction.getId());
+            return;
         }
+        String sellerUUID = auction.getSellerUUID().toString();
+        String sellerName = auction.getSellerName();
+        String buyerUUID = bid.hasBidder() ? bid.bidderUUID().toString() : null;
+        String buyerName = bid.bidderName();
+        long startTime = auction.getStartTime();
+        long endTime = System.currentTimeMillis();
+        double minBid = auction.getMinBid();
+        double finalBid = bid.amount();
+
+        databaseManager.getWriteQueue().submit(new PendingWrite(
+            "INSERT INTO auction_history (item_serialized, item_data, seller_uuid, seller_name, " +
+            "buyer_uuid, buyer_name, start_time, end_time, min_bid, final_bid, status) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            stmt -> {
+                stmt.setString(1, itemSerialized);
+                stmt.setBytes(2, itemData);
+                stmt.setString(3, sellerUUID);
+                stmt.setString(4, sellerName);
+                stmt.setString(5, buyerUUID);
+                stmt.setString(6, buyerName);
+                stmt.setLong(7, startTime);
+                stmt.setLong(8, endTime);
+                stmt.setDouble(9, minBid);
+                stmt.setDouble(10, finalBid);
+                stmt.setString(11, status.name());
+            }
+        ));
+        warehouseManager.itemStored(WarehouseManager.getOwner(
+            status, auction.getSellerUUID(), bid.bidderUUID()));
+        logger.info("Saved auction to warehouse: {} with status {}", 
+            auction.getItem().getType().name(), status);
     }
 
     /**
      * Checks if a player has any items in warehouse
+     * Answered from the in-memory warehouse counters
      */
     public boolean hasWarehouseItems(Player player) {
-        try (Connection conn = databaseManager.getDatabaseConnection().getConnection();
-             PreparedStatement stmt = conn.prepareStatement(
-                "SELECT COUNT(*) FROM auction_history " +
-                "WHERE (seller_uuid = ? AND status = 'EXPIRED') " +
-                "OR (buyer_uuid = ? AND status = 'SOLD')"
-             )) {
-            
-            stmt.setString(1, player.getUniqueId().toString());
-            stmt.setString(2, player.getUniqueId().toString());
-            
-            try (var rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1) > 0;
-                }
-            }
-        } catch (SQLException e) {
-            logger.error("Error checking warehouse items", e);
-        }
-        return false;
+        return warehouseManager.hasClaimableItems(player.getUniqueId());
     }
 
     /**
      * Refreshes all open auction GUIs
+     * Coalesced by the view manager into at most one render per tick
      */
     private void refreshAllGUIs() {
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            InventoryHolder holder = player.getOpenInventory().getTopInventory().getHolder();
-            if (holder instanceof AuctionMainGUI gui) {
-                gui.refresh();
-            }
-        }
+        plugin.getViewManager().markDirty();
     }
 
     public void shutdown() {
-        try {
-            auctionLock.lock();
-            
-            scheduler.shutdown();
-            try {
-                if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-                    scheduler.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                scheduler.shutdownNow();
-            }
+        if (autoCheckTimer != null) {
+            timingWheel.cancel(autoCheckTimer);
+            autoCheckTimer = null;
+        }
+        timingWheel.shutdown();
 
-            cancelAllTimers();
-            
-            if (currentAuction != null) {
-                cancelAuction(currentAuction);
+        // Running and queued auctions stay saved and resume on the next start; only the clocks need saving
+        for (AuctionLane lane : lanes) {
+            AuctionItem auction = lane.getCurrentAuction();
+            if (auction != null) {
+                saveLaneState(lane, auction);
             }
+        }
+    }
 
-            while (!auctionQueue.isEmpty()) {
-                AuctionItem queuedAuction = auctionQueue.poll();
-                cancelAuction(queuedAuction);
+    /**
+     * Saves a new auction to the live auction table through the write-behind queue
+     * If the binary encoding fails the item is kept in the legacy Base64 column instead
+     */
+    private void saveAuctionToDatabase(AuctionItem auctionItem) {
+        byte[] itemData = ItemCodec.encode(auctionItem.getItem());
+        String itemSerialized = itemData != null ? "" : ItemSerializer.serializeItemStack(auctionItem.getItem());
+        if (itemSerialized == null) {
+            logger.error("Could not save queued auction {}, the item cannot be serialized", auctionItem.getId());
+            return;
+        }
+        String auctionId = auctionItem.getId().toString();
+        String sellerUUID = auctionItem.getSellerUUID().toString();
+        String sellerName = auctionItem.getSellerName();
+        double minBid = auctionItem.getMinBid();
+        double stepValue = auctionItem.getStepValue();
+        long duration = auctionItem.getDuration();
+        long startTime = System.currentTimeMillis();
+
+        databaseManager.getWriteQueue().submit(new PendingWrite(
+            "INSERT INTO auction_queue (item_serialized, item_data, auction_id, seller_uuid, seller_name, " +
+                    "min_bid, step_value, start_time, duration_ms) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            stmt -> {
+                stmt.setString(1, itemSerialized);
+                stmt.setBytes(2, itemData);
+                stmt.setString(3, auctionId);
+                stmt.setString(4, sellerUUID);
+                stmt.setString(5, sellerName);
+                stmt.setDouble(6, minBid);
+                stmt.setDouble(7, stepValue);
+                stmt.setLong(8, startTime);
+                stmt.setLong(9, duration);
             }
+        ));
+    }
 
-            clearAuctionQueue();
-        } finally {
-            auctionLock.unlock();
-        }
+    /**
+     * Saves which lane an auction runs in and how much time it has left
+     */
+    private void saveLaneState(AuctionLane lane, AuctionItem auction) {
+        int laneIndex = lane.getIndex();
+        long remaining = auction.getRemainingTime();
+        String auctionId = auction.getId().toString();
+
+        databaseManager.getWriteQueue().submit(new PendingWrite(
+            "UPDATE auction_queue SET lane = ?, remaining_ms = ? WHERE auction_id = ?",
+            stmt -> {
+                stmt.setInt(1, laneIndex);
+                stmt.setLong(2, remaining);
+                stmt.setString(3, auctionId);
+            }
+        ));
     }
 
-    private void cancelAllTimers() {
-        if (auctionTimer != null) {
-            auctionTimer.cancel(false);
-            auctionTimer = null;
-        }
-        if (countdownTimer != null) {
-            countdownTimer.cancel(false);
-            countdownTimer = null;
-        }
-        if (autoCheckTimer != null) {
-            autoCheckTimer.cancel(false);
-            autoCheckTimer = null;
-        }
+    /**
+     * Saves the queue priority of an auction
+     */
+    private void savePriority(AuctionItem auction) {
+        int priority = auction.getPriority();
+        String auctionId = auction.getId().toString();
+        databaseManager.getWriteQueue().submit(new PendingWrite(
+            "UPDATE auction_queue SET priority = ? WHERE auction_id = ?",
+            stmt -> {
+                stmt.setInt(1, priority);
+                stmt.setString(2, auctionId);
+            }
+        ));
     }
 
     /**
-     * Saves auction to database queue
-     * @throws SQLException if database operation fails
+     * Saves an accepted bid once its funds are reserved
+     * Bids reserved out of order never overwrite a newer one
      */
-    private void saveAuctionToDatabase(AuctionItem auctionItem) throws SQLException {
-        try (Connection conn = databaseManager.getDatabaseConnection().getConnection();
-             PreparedStatement stmt = conn.prepareStatement(
-                     "INSERT INTO auction_queue (item_serialized, seller_uuid, seller_name, min_bid, step_value, start_time) " +
-                             "VALUES (?, ?, ?, ?, ?, ?)"
-             )) {
-            stmt.setString(1, ItemSerializer.serializeItemStack(auctionItem.getItem()));
-            stmt.setString(2, auctionItem.getSellerUUID().toString());
-            stmt.setString(3, auctionItem.getSellerName());
-            stmt.setDouble(4, auctionItem.getMinBid());
-            stmt.setDouble(5, auctionItem.getStepValue());
-            stmt.setLong(6, System.currentTimeMillis());
-            stmt.executeUpdate();
-        }
+    private void saveBid(AuctionItem auction, BidState state) {
+        double amount = state.amount();
+        String bidderUUID = state.bidderUUID().toString();
+        String bidderName = state.bidderName();
+        long sequence = state.sequence();
+        long remaining = auction.getRemainingTime();
+        String auctionId = auction.getId().toString();
+
+        databaseManager.getWriteQueue().submit(new PendingWrite(
+            "UPDATE auction_queue SET current_bid = ?, bidder_uuid = ?, bidder_name = ?, bid_sequence = ?, " +
+                "remaining_ms = ? WHERE auction_id = ? AND bid_sequence < ?",
+            stmt -> {
+                stmt.setDouble(1, amount);
+                stmt.setString(2, bidderUUID);
+                stmt.setString(3, bidderName);
+                stmt.setLong(4, sequence);
+                stmt.setLong(5, remaining);
+                stmt.setString(6, auctionId);
+                stmt.setLong(7, sequence);
+            }
+        ));
     }
 
     /**
-     * Clears all auctions from queue table
+     * Removes an auction that ended or was cancelled from the live auction table
      */
-    private void clearAuctionQueue() {
-        try (Connection conn = databaseManager.getDatabaseConnection().getConnection();
-             PreparedStatement stmt = conn.prepareStatement("DELETE FROM auction_queue")) {
-            stmt.executeUpdate();
-        } catch (SQLException e) {
-            logger.error("Error clearing auction queue", e);
-        }
+    private void deleteLiveAuction(AuctionItem auction) {
+        String auctionId = auction.getId().toString();
+        databaseManager.getWriteQueue().submit(new PendingWrite(
+            "DELETE FROM auction_queue WHERE auction_id = ?",
+            stmt -> stmt.setString(1, auctionId)
+        ));
     }
 
     /**
-     * Loads pending auctions from database
+     * Restores the auctions saved before the last shutdown in one read
+     * Running auctions resume in their lane with the time and leading bid they had, queued ones keep
+     * their order. Sellers and bidders do not need to be online. A saved bid is only kept if its
+     * escrow hold survived, so call this after {@link EscrowManager#releaseStaleHolds()}.
      */
     public void loadPendingAuctions() {
-        try (Connection conn = databaseManager.getDatabaseConnection().getConnection();
+        int resumed = 0;
+        List<Long> legacyRows = new ArrayList<>();
+        List<AuctionItem> legacyAuctions = new ArrayList<>();
+        List<Long> brokenRows = new ArrayList<>();
+
+        queueLock.lock();
+        try (Connection conn = databaseManager.getDatabaseConnection().getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(
-                     "SELECT * FROM auction_queue ORDER BY start_time ASC"
-             )) {
-            
-            try (var rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    ItemStack item = ItemSerializer.deserializeItemStack(
-                        rs.getString("item_serialized")
-                    );
-                    
-                    if (item != null) {
-                        Player seller = Bukkit.getPlayer(UUID.fromString(rs.getString("seller_uuid")));
-                        if (seller != null) {
-                            AuctionItem auction = new AuctionItem(
-                                seller,
-                                item,
-                                rs.getDouble("min_bid"),
-                                rs.getDouble("step_value"),
-                                configManager.getAuctionDuration() * 1000L
-                            );
-                            auctionQueue.offer(auction);
-                        }
-                    }
+                     "SELECT q.*, e.amount AS held_amount FROM auction_queue q " +
+                     "LEFT JOIN auction_escrow e ON e.auction_id = q.auction_id AND e.bid_sequence = q.bid_sequence " +
+                     "AND e.player_uuid = q.bidder_uuid AND e.entry_type = 'HOLD' AND e.status = 'HELD' " +
+                     "ORDER BY q.id ASC"
+             );
+             var rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                long rowId = rs.getLong("id");
+                ItemStack item = ItemCodec.decode(rs.getBytes("item_data"), rs.getString("item_serialized"));
+                if (item == null) {
+                    logger.warn("Dropping saved auction {}, its item could not be decoded", rowId);
+                    brokenRows.add(rowId);
+                    continue;
+                }
+
+                String savedId = rs.getString("auction_id");
+                UUID auctionId = savedId != null ? UUID.fromString(savedId) : UUID.randomUUID();
+
+                long duration = rs.getLong("duration_ms");
+                if (rs.wasNull() || duration <= 0) {
+                    duration = configManager.getAuctionDuration() * 1000L;
+                }
+
+                BidState bid = null;
+                String bidderUUID = rs.getString("bidder_uuid");
+                double heldAmount = rs.getDouble("held_amount");
+                if (bidderUUID != null && !rs.wasNull()) {
+                    UUID bidder = UUID.fromString(bidderUUID);
+                    long sequence = rs.getLong("bid_sequence");
+                    bid = BidState.restored(rs.getDouble("current_bid"), bidder, rs.getString("bidder_name"), sequence);
+                    escrowManager.restoreHold(bidder, auctionId, sequence, heldAmount);
+                }
+
+                AuctionItem auction = new AuctionItem(
+                    auctionId,
+                    UUID.fromString(rs.getString("seller_uuid")),
+                    rs.getString("seller_name"),
+                    item,
+                    rs.getDouble("min_bid"),
+                    rs.getDouble("step_value"),
+                    duration,
+                    bid
+                );
+                auction.setPriority(rs.getInt("priority"));
+                if (savedId == null) {
+                    legacyRows.add(rowId);
+                    legacyAuctions.add(auction);
+                }
+
+                int laneIndex = rs.getInt("lane");
+                boolean running = !rs.wasNull();
+                long remaining = rs.getLong("remaining_ms");
+                if (rs.wasNull()) {
+                    remaining = duration;
+                }
+
+                // Lanes removed from the config hand their auction back to the queue
+                if (running && isValidLane(laneIndex) && lanes.get(laneIndex).isIdle()) {
+                    AuctionLane lane = lanes.get(laneIndex);
+                    lane.setCurrentAuction(auction);
+                    auction.resume(remaining);
+                    scheduleAuctionTimers(lane, auction);
+                    resumed++;
+                } else {
+                    auctionQueue.offer(auction);
                 }
             }
         } catch (SQLException e) {
             logger.error("Error loading pending auctions", e);
+        } finally {
+            queueLock.unlock();
+        }
+
+        assignAuctionIds(legacyRows, legacyAuctions);
+        for (Long rowId : brokenRows) {
+            databaseManager.getWriteQueue().submit(new PendingWrite(
+                "DELETE FROM auction_queue WHERE id = ?",
+                stmt -> stmt.setLong(1, rowId)
+            ));
+        }
+
+        if (resumed > 0 || !auctionQueue.isEmpty()) {
+            logger.info("Restored {} running and {} queued auctions", resumed, auctionQueue.size());
+        }
+
+        queueLock.lock();
+        try {
+            startIdleLanes();
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    /**
+     * Gives rows saved before auctions had a stable id the id they were restored with
+     */
+    private void assignAuctionIds(List<Long> rowIds, List<AuctionItem> auctions) {
+        for (int i = 0; i < rowIds.size(); i++) {
+            long rowId = rowIds.get(i);
+            String auctionId = auctions.get(i).getId().toString();
+            long duration = auctions.get(i).getDuration();
+            databaseManager.getWriteQueue().submit(new PendingWrite(
+                "UPDATE auction_queue SET auction_id = ?, duration_ms = ? WHERE id = ?",
+                stmt -> {
+                    stmt.setString(1, auctionId);
+                    stmt.setLong(2, duration);
+                    stmt.setLong(3, rowId);
+                }
+            ));
         }
     }
 
@@ -428,27 +602,17 @@ public final class AuctionManager {
     public boolean cancelAuction(AuctionItem auction) {
         if (auction == null) return false;
 
-        if (auction.getCurrentBidderUUID() != null) {
-            Player currentBidder = Bukkit.getPlayer(auction.getCurrentBidderUUID());
-            if (currentBidder != null) {
-                economyManager.depositPlayer(currentBidder, auction.getCurrentBid());
-                
-                Map<String, String> placeholders = new HashMap<>();
-                placeholders.put("bid", String.valueOf(auction.getCurrentBid()));
-                messageManager.sendMessage(currentBidder, "messages.player.bids.refunded", placeholders);
-            }
-        }
+        releaseBid(auction, settleBidding(auction), "messages.player.bids.refunded");
+        deleteLiveAuction(auction);
 
         Player seller = Bukkit.getPlayer(auction.getSellerUUID());
         if (seller != null) {
             HashMap<Integer, ItemStack> leftover = seller.getInventory().addItem(auction.getItem());
             if (!leftover.isEmpty()) {
                 saveToWarehouse(auction, AuctionStatus.CANCELLED);
-                Map<String, String> placeholders = new HashMap<>();
-                messageManager.sendMessage(seller, "messages.player.auction.inventory_full", placeholders);
+                messageManager.sendMessage(seller, "messages.player.auction.inventory_full");
             } else {
-                Map<String, String> placeholders = new HashMap<>();
-                messageManager.sendMessage(seller, "messages.player.auction.cancelled", placeholders);
+                messageManager.sendMessage(seller, "messages.player.auction.cancelled");
             }
         } else {
             saveToWarehouse(auction, AuctionStatus.CANCELLED);
@@ -458,84 +622,442 @@ public final class AuctionManager {
     }
 
     /**
-     * Gets the current active auction
+     * Gets the number of auction lanes running in parallel
+     */
+    public int getLaneCount() {
+        return lanes.size();
+    }
+
+    /**
+     * Checks if a lane index exists
+     * @param lane Zero-based lane index
+     */
+    public boolean isValidLane(int lane) {
+        return lane >= 0 && lane < lanes.size();
+    }
+
+    /**
+     * Gets the active auction of the first lane
      * @return The current auction or null if none is active
      */
     public AuctionItem getCurrentAuction() {
-        return currentAuction;
+        return getCurrentAuction(0);
+    }
+
+    /**
+     * Gets the active auction of a lane
+     * @param lane Zero-based lane index
+     * @return The current auction or null if the lane is idle or does not exist
+     */
+    public AuctionItem getCurrentAuction(int lane) {
+        return isValidLane(lane) ? lanes.get(lane).getCurrentAuction() : null;
+    }
+
+    /**
+     * Gets the first lane that has an active auction
+     * @return Zero-based lane index, 0 when every lane is idle
+     */
+    public int getFirstActiveLane() {
+        for (AuctionLane lane : lanes) {
+            if (lane.getCurrentAuction() != null) {
+                return lane.getIndex();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the lane an auction is running in
+     * @return Zero-based lane index or -1 if the auction is not running
+     */
+    public int getLaneOf(AuctionItem auction) {
+        for (AuctionLane lane : lanes) {
+            if (auction != null && lane.getCurrentAuction() == auction) {
+                return lane.getIndex();
+            }
+        }
+        return -1;
     }
 
     /**
-     * Places a bid on the current auction
+     * Places a bid on the auction of the first lane
      * @param bidder The player placing the bid
      * @param amount The bid amount
      * @return true if bid was successful, false otherwise
      */
     public boolean placeBid(Player bidder, double amount) {
-        try {
-            auctionLock.lock();
+        return placeBid(bidder, 0, amount);
+    }
 
-            UUID previousBidderUUID = currentAuction.getCurrentBidderUUID();
-            double previousBidAmount = currentAuction.getCurrentBid();
+    /**
+     * Places a bid on the auction running in a lane
+     * Lock-free: the bid is validated against a snapshot and installed with compare-and-set.
+     * Only the bid that wins the swap reserves the bidder's funds, releases the previous one and notifies.
+     * @param bidder The player placing the bid
+     * @param laneIndex Zero-based lane index
+     * @param amount The bid amount
+     * @return true if bid was successful, false otherwise
+     */
+    public boolean placeBid(Player bidder, int laneIndex, double amount) {
+        return placeBid(bidder, laneIndex, null, amount);
+    }
 
-            if (currentAuction == null) {
-                Map<String, String> placeholders = new HashMap<>();
-                messageManager.sendMessage(bidder, "messages.player.bids.failed.no_auction", placeholders);
-                return false;
+    /**
+     * Places a bid on a specific auction running in a lane
+     * @param auctionId Auction the player chose to bid on, or null for whichever auction the lane is running
+     * @return false if the lane has moved on to another auction since the player chose it
+     */
+    public boolean placeBid(Player bidder, int laneIndex, UUID auctionId, double amount) {
+        AuctionItem currentAuction = isValidLane(laneIndex) ? lanes.get(laneIndex).getCurrentAuction() : null;
+        if (currentAuction == null) {
+            messageManager.sendMessage(bidder, "messages.player.bids.failed.no_auction");
+            return false;
+        }
+        if (auctionId != null && !auctionId.equals(currentAuction.getId())) {
+            messageManager.sendMessage(bidder, "messages.player.bids.failed.auction_changed");
+            return false;
+        }
+        AuctionLane lane = lanes.get(laneIndex);
+
+        BidState previous = currentAuction.getBidState();
+        if (previous.closed()) {
+            messageManager.sendMessage(bidder, "messages.player.bids.failed.no_auction");
+            return false;
+        }
+
+        if (currentAuction.getSellerUUID().equals(bidder.getUniqueId())) {
+            messageManager.sendMessage(bidder, "messages.player.bids.failed.seller");
+            return false;
+        }
+
+        if (bidder.getUniqueId().equals(previous.bidderUUID())) {
+            messageManager.sendMessage(bidder, "messages.player.bids.failed.bidder");
+            return false;
+        }
+
+        if (!escrowManager.canReserve(bidder, currentAuction.getId(), amount)) {
+            messageManager.sendMessage(bidder, "messages.player.bids.failed.balance");
+            return false;
+        }
+
+        ProxyBook proxies = currentAuction.getProxies();
+        if (!proxies.isEmpty()) {
+            // Hidden maximums answer in the same step, so only the outcome is installed
+            proxies.getLock().lock();
+            try {
+                return resolveBids(lane, currentAuction, bidder, amount);
+            } finally {
+                proxies.getLock().unlock();
             }
+        }
 
-            if (currentAuction.getSellerUUID().equals(bidder.getUniqueId())) {
-                Map<String, String> placeholders = new HashMap<>();
-                messageManager.sendMessage(bidder, "messages.player.bids.failed.seller", placeholders);
+        BidState accepted = currentAuction.tryPlaceBid(previous, bidder, amount);
+        if (accepted == null) {
+            // Too low, or someone else got in first with a higher bid
+            Map<String, String> placeholders = new HashMap<>();
+            placeholders.put("min_bid", economyManager.formatMoney(currentAuction.getMinimumNextBid()));
+            messageManager.sendMessage(bidder, "messages.player.bids.minimum_bid", placeholders);
+            return false;
+        }
+
+        if (!escrowManager.reserve(bidder, currentAuction.getId(), accepted.sequence(), amount)) {
+            // Nothing has been reserved or released yet, so undo the swap before failing the bid
+            if (!currentAuction.revertBid(accepted, previous)) {
+                // A higher bid already replaced ours; the previous bidder will not be released by that one
+                releaseBid(currentAuction, previous, "messages.player.bids.outbid");
+            }
+            accepted.payment().complete(false);
+
+            messageManager.sendMessage(bidder, "messages.player.bids.failed.balance");
+            return false;
+        }
+        accepted.payment().complete(true);
+        saveBid(currentAuction, accepted);
+
+        releaseBid(currentAuction, previous, "messages.player.bids.outbid");
+
+        if (!proxies.isEmpty()) {
+            // A maximum was registered while this bid went in; let it answer
+            proxies.getLock().lock();
+            try {
+                if (!resolveBids(lane, currentAuction, null, 0)) {
+                    announceBid(lane, currentAuction, accepted);
+                }
+            } finally {
+                proxies.getLock().unlock();
+            }
+            return true;
+        }
+
+        announceBid(lane, currentAuction, accepted);
+        return true;
+    }
+
+    /**
+     * Registers or replaces a player's hidden maximum bid on the auction running in a lane
+     * The whole maximum is reserved up front, and the engine then bids for the player only as
+     * much as it takes to lead, even while they are offline.
+     * @param bidder The player
+     * @param laneIndex Zero-based lane index
+     * @param maxAmount The most the player would pay
+     * @return true if the maximum was registered
+     */
+    public boolean placeMaxBid(Player bidder, int laneIndex, double maxAmount) {
+        return placeMaxBid(bidder, laneIndex, null, maxAmount);
+    }
+
+    /**
+     * Registers a hidden maximum bid on a specific auction running in a lane
+     * @param auctionId Auction the player chose, or null for whichever auction the lane is running
+     * @return false if the lane has moved on to another auction since the player chose it
+     */
+    public boolean placeMaxBid(Player bidder, int laneIndex, UUID auctionId, double maxAmount) {
+        AuctionItem auction = isValidLane(laneIndex) ? lanes.get(laneIndex).getCurrentAuction() : null;
+        if (auction == null || auction.getBidState().closed()) {
+            messageManager.sendMessage(bidder, "messages.player.bids.failed.no_auction");
+            return false;
+        }
+        if (auctionId != null && !auctionId.equals(auction.getId())) {
+            messageManager.sendMessage(bidder, "messages.player.bids.failed.auction_changed");
+            return false;
+        }
+
+        if (auction.getSellerUUID().equals(bidder.getUniqueId())) {
+            messageManager.sendMessage(bidder, "messages.player.bids.failed.seller");
+            return false;
+        }
+
+        double minimum = auction.getMinimumNextBid();
+        if (Double.isNaN(maxAmount) || maxAmount < minimum) {
+            Map<String, String> placeholders = new HashMap<>();
+            placeholders.put("min_bid", economyManager.formatMoney(minimum));
+            messageManager.sendMessage(bidder, "messages.player.bids.minimum_bid", placeholders);
+            return false;
+        }
+
+        ProxyBook proxies = auction.getProxies();
+        proxies.getLock().lock();
+        try {
+            if (proxies.isClosed()) {
+                messageManager.sendMessage(bidder, "messages.player.bids.failed.no_auction");
                 return false;
             }
 
-            if (previousBidderUUID != null && previousBidderUUID.equals(bidder.getUniqueId())) {
-                Map<String, String> placeholders = new HashMap<>();
-                messageManager.sendMessage(bidder, "messages.player.bids.failed.bidder", placeholders);
+            if (!escrowManager.reserveCeiling(bidder, auction.getId(), maxAmount)) {
+                messageManager.sendMessage(bidder, "messages.player.bids.failed.balance");
                 return false;
             }
+            proxies.register(bidder.getUniqueId(), bidder.getName(), maxAmount);
 
-            if (!economyManager.hasBalance(bidder, amount)) {
-                Map<String, String> placeholders = new HashMap<>();
-                messageManager.sendMessage(bidder, "messages.player.bids.failed.balance", placeholders);
+            Map<String, String> placeholders = new HashMap<>();
+            placeholders.put("max", economyManager.formatMoney(maxAmount));
+            placeholders.put("item", auction.getItem().getType().name());
+            messageManager.sendMessage(bidder, "messages.player.proxy.set", placeholders);
+
+            resolveBids(lanes.get(laneIndex), auction, null, 0);
+            return true;
+        } finally {
+            proxies.getLock().unlock();
+        }
+    }
+
+    /**
+     * Gets a player's hidden maximum bid on an auction
+     * @return The maximum or 0 if they have none
+     */
+    public double getMaxBid(AuctionItem auction, UUID bidderUUID) {
+        ProxyBook.ProxyBid proxy = auction.getProxies().get(bidderUUID);
+        return proxy != null ? proxy.maxAmount() : 0;
+    }
+
+    /**
+     * Settles the hidden maximums of an auction, and an optional manual bid, in one step
+     * Competing maximums are resolved by {@link ProxyBook#resolve} instead of trading bids, then
+     * only the outcome is reserved, saved, broadcast and refreshed. Outbid maximums are released.
+     * The caller holds the proxy lock.
+     * @param manualBidder Player placing a manual bid, or null
+     * @param manualAmount Amount of the manual bid
+     * @return true if the manual bid leads, or without one, if the leading bid changed
+     */
+    private boolean resolveBids(AuctionLane lane, AuctionItem auction, Player manualBidder, double manualAmount) {
+        ProxyBook proxies = auction.getProxies();
+        UUID manualUUID = manualBidder != null ? manualBidder.getUniqueId() : null;
+
+        while (true) {
+            BidState previous = auction.getBidState();
+            if (previous.closed() || proxies.isClosed()) {
+                if (manualBidder != null) {
+                    messageManager.sendMessage(manualBidder, "messages.player.bids.failed.no_auction");
+                }
                 return false;
             }
 
-            if (!economyManager.withdrawPlayer(bidder, amount)) {
-                Map<String, String> placeholders = new HashMap<>();
-                messageManager.sendMessage(bidder, "messages.player.bids.failed.balance", placeholders);
+            if (manualBidder != null) {
+                if (manualUUID.equals(previous.bidderUUID())) {
+                    messageManager.sendMessage(manualBidder, "messages.player.bids.failed.bidder");
+                    return false;
+                }
+                if (manualAmount < auction.getMinimumNextBid(previous)) {
+                    Map<String, String> placeholders = new HashMap<>();
+                    placeholders.put("min_bid", economyManager.formatMoney(auction.getMinimumNextBid(previous)));
+                    messageManager.sendMessage(manualBidder, "messages.player.bids.minimum_bid", placeholders);
+                    return false;
+                }
+            }
+
+            ProxyBook.Resolution outcome = proxies.resolve(previous, manualUUID,
+                manualBidder != null ? manualBidder.getName() : null, manualAmount, auction::getMinimumNextBid);
+
+            boolean unchanged = outcome.bidderUUID() == null
+                || (outcome.bidderUUID().equals(previous.bidderUUID()) && outcome.amount() == previous.amount());
+            if (unchanged) {
+                releaseProxies(auction, outcome.exhausted());
                 return false;
             }
 
-            if (currentAuction.placeBid(bidder, amount)) {
-                // If there was a previous bid, refund the money to the previous bidder
-                if (previousBidderUUID != null) {
-                    Player previousBidder = Bukkit.getPlayer(previousBidderUUID);
-                    if (previousBidder != null) {
-                        economyManager.depositPlayer(previousBidder, previousBidAmount);
-                        
-                        Map<String, String> placeholders = new HashMap<>();
-                        placeholders.put("bid", economyManager.formatMoney(previousBidAmount));
-                        messageManager.sendMessage(previousBidder, "messages.player.bids.outbid", placeholders);
-                    }
+            BidState accepted = auction.tryPlaceBid(previous, outcome.bidderUUID(), outcome.bidderName(), outcome.amount());
+            if (accepted == null) {
+                // A bid without the lock got in first, settle against it instead
+                continue;
+            }
+
+            boolean manualLeads = outcome.bidderUUID().equals(manualUUID);
+            boolean reserved = escrowManager.reserveUnderCeiling(accepted.bidderUUID(), auction.getId(),
+                    accepted.sequence(), accepted.amount())
+                || (manualLeads && escrowManager.reserve(manualBidder, auction.getId(), accepted.sequence(), accepted.amount()));
+            if (!reserved) {
+                if (!auction.revertBid(accepted, previous)) {
+                    releaseBid(auction, previous, "messages.player.bids.outbid");
+                }
+                accepted.payment().complete(false);
+
+                if (manualLeads) {
+                    messageManager.sendMessage(manualBidder, "messages.player.bids.failed.balance");
+                    return false;
                 }
+                // Not covered by its ceiling, drop the maximum and settle again without it
+                releaseProxies(auction, List.of(proxies.get(accepted.bidderUUID())));
+                continue;
+            }
+            accepted.payment().complete(true);
+            saveBid(auction, accepted);
 
-                // Send success message
+            // A maximum that raised its own bid, or one that just ran out, needs no outbid notice
+            boolean previousExhausted = outcome.exhausted().stream()
+                .anyMatch(proxy -> proxy.bidderUUID().equals(previous.bidderUUID()));
+            boolean raisedOwnBid = accepted.bidderUUID().equals(previous.bidderUUID());
+            releaseBid(auction, previous, raisedOwnBid || previousExhausted ? null : "messages.player.bids.outbid");
+            releaseProxies(auction, outcome.exhausted());
+
+            if (manualBidder != null && !manualLeads) {
                 Map<String, String> placeholders = new HashMap<>();
-                placeholders.put("bidder", bidder.getName());
-                placeholders.put("bid", economyManager.formatMoney(amount));
-                placeholders.put("item", currentAuction.getItem().getType().name());
-                messageManager.broadcast("messages.broadcasts.bids.new_bid", placeholders);
+                placeholders.put("bid", economyManager.formatMoney(accepted.amount()));
+                placeholders.put("item", auction.getItem().getType().name());
+                messageManager.sendMessage(manualBidder, "messages.player.proxy.outbid", placeholders);
+            }
 
-                refreshAllGUIs();
-                return true;
+            announceBid(lane, auction, accepted);
+            return manualBidder == null || manualLeads;
+        }
+    }
+
+    /**
+     * Removes outbid maximums and frees their ceilings
+     */
+    private void releaseProxies(AuctionItem auction, List<ProxyBook.ProxyBid> exhausted) {
+        for (ProxyBook.ProxyBid proxy : exhausted) {
+            auction.getProxies().remove(proxy.bidderUUID());
+            escrowManager.releaseCeiling(proxy.bidderUUID(), auction.getId());
+
+            Player bidder = Bukkit.getPlayer(proxy.bidderUUID());
+            if (bidder != null) {
+                Map<String, String> placeholders = new HashMap<>();
+                placeholders.put("max", economyManager.formatMoney(proxy.maxAmount()));
+                placeholders.put("item", auction.getItem().getType().name());
+                messageManager.sendMessage(bidder, "messages.player.proxy.exceeded", placeholders);
             }
+        }
+    }
 
-            return false;
-        } finally {
-            auctionLock.unlock();
+    /**
+     * Broadcasts a new leading bid, gives a closing auction more time and refreshes the GUIs
+     */
+    private void announceBid(AuctionLane lane, AuctionItem auction, BidState bid) {
+        Map<String, String> placeholders = new HashMap<>();
+        placeholders.put("bidder", bid.bidderName());
+        placeholders.put("bid", economyManager.formatMoney(bid.amount()));
+        placeholders.put("item", auction.getItem().getType().name());
+        broadcast(lane, "messages.broadcasts.bids.new_bid", placeholders);
+
+        extendIfClosing(lane, auction);
+        refreshAllGUIs();
+    }
+
+    /**
+     * Soft close: a bid in the closing window pushes the deadline forward
+     * Only the end time changes; the auction's pending timer follows it when it fires
+     */
+    private void extendIfClosing(AuctionLane lane, AuctionItem auction) {
+        AuctionSettings settings = configManager.getSettings();
+        if (settings.softCloseWindow() <= 0) return;
+
+        if (!auction.extendDeadline(settings.softCloseWindow() * 1000L, settings.softCloseExtension() * 1000L,
+                settings.softCloseMaxExtensions())) {
+            return;
         }
+        saveLaneState(lane, auction);
+
+        Map<String, String> placeholders = new HashMap<>();
+        placeholders.put("item", auction.getItem().getType().name());
+        placeholders.put("seconds", String.valueOf(settings.softCloseExtension()));
+        broadcast(lane, "messages.broadcasts.auction.extended", placeholders);
+    }
+
+    /**
+     * Releases the reservation of a replaced or cancelled bid
+     * Waits for the bid's reservation, so only reservations that were actually made are released
+     * @param auction The auction the bid belongs to
+     * @param state The bid state being released
+     * @param messageKey Message sent to the bidder, or null to release silently
+     */
+    private void releaseBid(AuctionItem auction, BidState state, String messageKey) {
+        if (!state.hasBidder()) return;
+
+        state.payment().thenAccept(reserved -> {
+            if (!reserved) return;
+
+            escrowManager.release(state.bidderUUID(), auction.getId(), state.sequence());
+
+            Player bidder = Bukkit.getPlayer(state.bidderUUID());
+            if (bidder != null && messageKey != null) {
+                Map<String, String> placeholders = new HashMap<>();
+                placeholders.put("bid", economyManager.formatMoney(state.amount()));
+                messageManager.sendMessage(bidder, messageKey, placeholders);
+            }
+        });
+    }
+
+    /**
+     * Stops bidding on an auction and waits for the last accepted bid to reserve its funds
+     * A bid whose reservation fails is rolled back, so the state is re-read until it settles.
+     * Hidden maximums are closed and their ceilings freed; the winning bid keeps its own hold.
+     * @return The settled final bid state
+     */
+    private BidState settleBidding(AuctionItem auction) {
+        BidState state = auction.closeBidding();
+        while (true) {
+            state.payment().join();
+            BidState current = auction.getBidState();
+            if (current == state) {
+                break;
+            }
+            state = current;
+        }
+
+        for (ProxyBook.ProxyBid proxy : auction.getProxies().close()) {
+            escrowManager.releaseCeiling(proxy.bidderUUID(), auction.getId());
+        }
+        return state;
     }
 
     /**
@@ -549,31 +1071,45 @@ public final class AuctionManager {
     }
 
     /**
-     * Sets the current auction directly (admin only)
+     * Sets the auction of the first lane directly (admin only)
      * @param auction The auction to set as current
      */
     public void setCurrentAuction(AuctionItem auction) {
+        setCurrentAuction(0, auction);
+    }
+
+    /**
+     * Sets the auction of a lane directly (admin only)
+     * The auction already running there is cancelled
+     * @param laneIndex Zero-based lane index
+     * @param auction The auction to set as current, or null to just cancel
+     */
+    public void setCurrentAuction(int laneIndex, AuctionItem auction) {
+        if (!isValidLane(laneIndex)) return;
+
+        AuctionLane lane = lanes.get(laneIndex);
+        lane.getLock().lock();
         try {
-            auctionLock.lock();
-            
-            if (currentAuction != null) {
-                cancelAuction(currentAuction);
+            if (lane.getCurrentAuction() != null) {
+                cancelTimers(lane.getCurrentAuction());
+                cancelAuction(lane.getCurrentAuction());
             }
             
-            currentAuction = auction;
-            if (currentAuction != null) {
-                currentAuction.start();
-                scheduleAuctionTimers(currentAuction);
+            lane.setCurrentAuction(auction);
+            if (auction != null) {
+                auction.start();
+                saveAuctionToDatabase(auction);
+                saveLaneState(lane, auction);
+                scheduleAuctionTimers(lane, auction);
                 
                 Map<String, String> placeholders = new HashMap<>();
-                placeholders.put("seller", currentAuction.getSellerName());
-                placeholders.put("item", currentAuction.getItem().getType().name());
-                messageManager.broadcast("messages.admin.force_start", placeholders);
-                
-                refreshAllGUIs();
+                placeholders.put("seller", auction.getSellerName());
+                placeholders.put("item", auction.getItem().getType().name());
+                broadcast(lane, "messages.admin.force_start", placeholders);
             }
+            refreshAllGUIs();
         } finally {
-            auctionLock.unlock();
+            lane.getLock().unlock();
         }
     }
 
@@ -581,30 +1117,54 @@ public final class AuctionManager {
      * Reloads auction settings from config
      */
     public void reloadFromConfig() {
-        try {
-            auctionLock.lock();
-            cancelAllTimers();
-            
-            if (currentAuction != null) {
-                currentAuction.start(); 
-                scheduleAuctionTimers(currentAuction);
+        for (AuctionLane lane : lanes) {
+            lane.getLock().lock();
+            try {
+                AuctionItem auction = lane.getCurrentAuction();
+                if (auction != null) {
+                    auction.start(); 
+                    saveLaneState(lane, auction);
+                    scheduleAuctionTimers(lane, auction);
+                }
+            } finally {
+                lane.getLock().unlock();
             }
-        } finally {
-            auctionLock.unlock();
         }
     }
 
     /**
-     * Time checkpoints for auction broadcasts
+     * Time checkpoints for auction broadcasts, measured back from the end
      */
     private enum TimeCheckpoint {
-        HALF_TIME,
-        QUARTER_TIME,
-        TENTH_TIME,
-        TEN_SECONDS,
-        THREE_SECONDS,
-        TWO_SECONDS,
-        ONE_SECOND
+        HALF_TIME(false),
+        QUARTER_TIME(false),
+        TENTH_TIME(false),
+        TEN_SECONDS(true),
+        THREE_SECONDS(true),
+        TWO_SECONDS(true),
+        ONE_SECOND(true);
+
+        // Countdown checkpoints count down to the new deadline again after an extension
+        private final boolean countdown;
+
+        TimeCheckpoint(boolean countdown) {
+            this.countdown = countdown;
+        }
+
+        /**
+         * Gets how long before the end the checkpoint is announced, in milliseconds
+         */
+        long offset(long duration) {
+            return switch (this) {
+                case HALF_TIME -> duration / 2;
+                case QUARTER_TIME -> duration / 4;
+                case TENTH_TIME -> duration / 10;
+                case TEN_SECONDS -> 10000;
+                case THREE_SECONDS -> 3000;
+                case TWO_SECONDS -> 2000;
+                case ONE_SECOND -> 1000;
+            };
+        }
     }
 
     /**
@@ -613,11 +1173,13 @@ public final class AuctionManager {
      */
     public boolean queueAuction(Player seller, ItemStack item, double minBid, double stepValue) {
         try {
-            auctionLock.lock();
+            queueLock.lock();
+            // One snapshot, so a reload in the middle cannot mix limits and fees
+            AuctionSettings settings = configManager.getSettings();
 
             if (!canCreateAuction(seller)) {
                 Map<String, String> placeholders = new HashMap<>();
-                placeholders.put("max", String.valueOf(configManager.getMaxItemsPerPlayer()));
+                placeholders.put("max", String.valueOf(settings.maxItemsPerPlayer()));
                 messageManager.sendMessage(seller, "messages.player.auction.max_items", placeholders);
                 return false;
             }
@@ -630,18 +1192,16 @@ public final class AuctionManager {
             }
 
             if (ItemSerializer.isItemBanned(item)) {
-                Map<String, String> placeholders = new HashMap<>();
-                messageManager.sendMessage(seller, "messages.player.auction.banned_item", placeholders);
+                messageManager.sendMessage(seller, "messages.player.auction.banned_item");
                 return false;
             }
 
-            if (auctionQueue.size() >= maxQueueSize) {
-                Map<String, String> placeholders = new HashMap<>();
-                messageManager.sendMessage(seller, "messages.player.auction.queue_full", placeholders);
+            if (auctionQueue.size() >= settings.maxQueueSize()) {
+                messageManager.sendMessage(seller, "messages.player.auction.queue_full");
                 return false;
             }
 
-            if (publicationFee > 0 && !economyManager.withdrawPlayer(seller, publicationFee)) {
+            if (settings.publicationFee() > 0 && !economyManager.withdrawPlayer(seller, settings.publicationFee())) {
                 Map<String, String> placeholders = new HashMap<>();
                 placeholders.put("reason", "Insufficient funds for publication fee");
                 messageManager.sendMessage(seller, "messages.player.auction.start_failed", placeholders);
@@ -649,104 +1209,122 @@ public final class AuctionManager {
             }
 
             AuctionItem auction = new AuctionItem(seller, item, minBid, stepValue, 
-                configManager.getAuctionDuration() * 1000L);
+                settings.auctionDuration() * 1000L);
             
             if (auctionQueue.offer(auction)) {
                 lastAuctionTime.put(seller.getUniqueId(), System.currentTimeMillis());
-                try {
-                    saveAuctionToDatabase(auction);
-
-                    if (currentAuction == null && !isProcessingAuction) {
-                        scheduleNextAuction();
-                    }
-                    return true;
-                } catch (SQLException e) {
-                    logger.error("Failed to save auction to database", e);
-                    auctionQueue.remove(auction);
-                    
-                    Map<String, String> placeholders = new HashMap<>();
-                    placeholders.put("reason", "Database error");
-                    messageManager.sendMessage(seller, "messages.player.auction.start_failed", placeholders);
-                    return false;
-                }
+                saveAuctionToDatabase(auction);
+                startIdleLanes();
+                return true;
             }
 
             return false;
         } finally {
-            auctionLock.unlock();
+            queueLock.unlock();
+        }
+    }
+
+    /**
+     * Hands queued auctions to every lane that is not running one
+     */
+    private void startIdleLanes() {
+        for (AuctionLane lane : lanes) {
+            if (auctionQueue.isEmpty()) {
+                return;
+            }
+            if (lane.isIdle()) {
+                scheduleNextAuction(lane);
+            }
         }
     }
 
     /**
      * Schedules timers for auction events
+     * Each auction has one one-shot timer on the wheel at a time, grouped under the auction id,
+     * for its next checkpoint or its end. The timer reads the deadline when it fires, so a soft
+     * close extension is only an atomic update of the end time, nothing is cancelled or resubmitted.
      */
-    private void scheduleAuctionTimers(AuctionItem auction) {
-        cancelAllTimers();
-        
+    private void scheduleAuctionTimers(AuctionLane lane, AuctionItem auction) {
+        cancelTimers(auction);
+        scheduleNextEvent(lane, auction, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Schedules the auction's next checkpoint, or its end once none are left
+     * A timer that fires early because the deadline moved is set again for the new time instead,
+     * so every checkpoint is announced once for the deadline it counts down to.
+     * @param announcedBelow Time checkpoints at or above this offset were already announced
+     * @param countdownBelow Countdown checkpoints at or above this offset were already announced
+     *                       for the current deadline
+     */
+    private void scheduleNextEvent(AuctionLane lane, AuctionItem auction, long announcedBelow, long countdownBelow) {
         long duration = auction.getDuration();
-        long halfTime = duration / 2;
-        long quarterTime = duration / 4;
-        long tenthTime = duration / 10;
-        
-        // Schedule main auction timer
-        auctionTimer = scheduler.schedule(
-            () -> Bukkit.getScheduler().runTask(plugin, this::scheduleNextAuction),
-            duration,
-            TimeUnit.MILLISECONDS
-        );
+        long remaining = auction.getRemainingTime();
+        boolean countdownEnabled = messageManager.isCountdownEnabled();
+
+        TimeCheckpoint next = null;
+        long nextOffset = 0;
+        for (TimeCheckpoint checkpoint : TimeCheckpoint.values()) {
+            if (checkpoint.countdown && !countdownEnabled) continue;
+
+            long offset = checkpoint.offset(duration);
+            // Checkpoints already behind us (short auctions, restarted timers) are skipped
+            if (offset >= remaining || offset >= (checkpoint.countdown ? countdownBelow : announcedBelow)) continue;
+            if (offset > nextOffset) {
+                next = checkpoint;
+                nextOffset = offset;
+            }
+        }
 
-        // Schedule time checkpoints
-        scheduler.schedule(
-            () -> broadcastTimeCheckpoint(TimeCheckpoint.HALF_TIME),
-            halfTime,
-            TimeUnit.MILLISECONDS
-        );
+        TimeCheckpoint checkpoint = next;
+        long offset = nextOffset;
+        scheduleTimer(auction, remaining - offset, () -> {
+            // A timer that was already running when its auction ended must not touch the next one
+            if (lane.getCurrentAuction() != auction) return;
 
-        scheduler.schedule(
-            () -> broadcastTimeCheckpoint(TimeCheckpoint.QUARTER_TIME),
-            duration - quarterTime,
-            TimeUnit.MILLISECONDS
-        );
+            if (auction.getRemainingTime() - offset > TIMER_TICK_MILLIS) {
+                // Extended by a late bid, follow the new deadline and count down to it again
+                scheduleNextEvent(lane, auction, announcedBelow, Long.MAX_VALUE);
+                return;
+            }
 
-        scheduler.schedule(
-            () -> broadcastTimeCheckpoint(TimeCheckpoint.TENTH_TIME),
-            duration - tenthTime,
-            TimeUnit.MILLISECONDS
-        );
+            if (checkpoint == null) {
+                Bukkit.getScheduler().runTask(plugin, () -> {
+                    if (lane.getCurrentAuction() != auction) return;
+                    if (auction.hasExpired()) {
+                        scheduleNextAuction(lane);
+                    } else {
+                        scheduleNextEvent(lane, auction, announcedBelow, Long.MAX_VALUE);
+                    }
+                });
+                return;
+            }
 
-        // Schedule countdown if enabled
-        if (messageManager.isCountdownEnabled()) {
-            scheduleCountdown();
-        }
+            broadcastTimeCheckpoint(lane, auction, checkpoint);
+            scheduleNextEvent(lane, auction,
+                checkpoint.countdown ? announcedBelow : offset,
+                checkpoint.countdown ? offset : countdownBelow);
+        });
+    }
+
+    private void scheduleTimer(AuctionItem auction, long delay, Runnable task) {
+        timingWheel.schedule(auction.getId(), task, delay, TimeUnit.MILLISECONDS);
     }
 
     /**
-     * Schedules countdown messages
+     * Cancels every pending timer of an auction
      */
-    private void scheduleCountdown() {
-        countdownTimer = scheduler.scheduleAtFixedRate(() -> {
-            if (currentAuction == null) {
-                cancelAllTimers();
-                return;
-            }
-
-            long remaining = currentAuction.getRemainingTime();
-            if (remaining <= 10000) { // 10 seconds
-                TimeCheckpoint checkpoint = switch ((int) (remaining / 1000)) {
-                    case 10 -> TimeCheckpoint.TEN_SECONDS;
-                    case 3 -> TimeCheckpoint.THREE_SECONDS;
-                    case 2 -> TimeCheckpoint.TWO_SECONDS;
-                    case 1 -> TimeCheckpoint.ONE_SECOND;
-                    default -> null;
-                };
-                
-                if (checkpoint != null) {
-                    broadcastTimeCheckpoint(checkpoint);
-                }
-            }
-        }, 0, 1, TimeUnit.SECONDS);
+    private void cancelTimers(AuctionItem auction) {
+        timingWheel.cancelGroup(auction.getId());
     }
 
+    /**
+     * Where a queued auction stands
+     * @param position Zero-based queue position, 0 starts next
+     * @param estimatedWait Estimated time until it starts, in milliseconds
+     */
+    public record QueueSlot(int position, long estimatedWait) {}
+
     /**
      * Enum for auction status
      */
@@ -758,88 +1336,213 @@ public final class AuctionManager {
         COLLECTED
     }
 
+    /**
+     * Gets the running auctions, in lane order, followed by the queued ones
+     * @param limit Maximum number of entries
+     */
     public List<AuctionItem> getQueuePreview(int limit) {
         List<AuctionItem> preview = new ArrayList<>();
-        if (currentAuction != null) {
-            preview.add(currentAuction);
+        for (AuctionLane lane : lanes) {
+            AuctionItem auction = lane.getCurrentAuction();
+            if (auction != null && preview.size() < limit) {
+                preview.add(auction);
+            }
         }
-        preview.addAll(auctionQueue.stream().limit(limit - 1).toList());
+        List<AuctionItem> queued = auctionQueue.snapshot();
+        preview.addAll(queued.subList(0, Math.min(queued.size(), Math.max(0, limit - preview.size()))));
         return preview;
     }
 
+    /**
+     * Gets the entry at a position of {@link #getQueuePreview(int)}
+     * Only the lanes are walked, queued entries are read by position
+     */
     public AuctionItem getQueueItemAt(int index) {
         if (index < 0) return null;
-        if (index == 0) return currentAuction;
-        
-        List<AuctionItem> queueList = new ArrayList<>(auctionQueue);
-        index--;
-        return index < queueList.size() ? queueList.get(index) : null;
+
+        int running = 0;
+        for (AuctionLane lane : lanes) {
+            AuctionItem auction = lane.getCurrentAuction();
+            if (auction != null) {
+                if (running == index) {
+                    return auction;
+                }
+                running++;
+            }
+        }
+        return auctionQueue.get(index - running);
+    }
+
+    /**
+     * Gets the queued auctions, next to start first, without the running ones
+     * The list is immutable and never changes, so GUIs can keep and page through it
+     */
+    public List<AuctionItem> getQueueSnapshot() {
+        return auctionQueue.snapshot();
+    }
+
+    /**
+     * Gets the number of queued auctions
+     */
+    public int getQueueSize() {
+        return auctionQueue.size();
+    }
+
+    /**
+     * Gets where a queued auction stands and when it should start
+     * Positions and the queued time ahead come from the queue's index in O(log n); only the
+     * lanes' remaining times are read on each call.
+     * @return The slot or null if the auction is not queued
+     */
+    public QueueSlot getQueueSlot(AuctionItem auction) {
+        AuctionQueue.Position position = auctionQueue.locate(auction.getId());
+        if (position == null) {
+            return null;
+        }
+        return new QueueSlot(position.index(), estimateStart(position.index(), position.durationAhead()));
+    }
+
+    /**
+     * Gets a seller's queued auctions in the order they were listed
+     */
+    public List<AuctionItem> getQueuedListings(UUID sellerUUID) {
+        return auctionQueue.listingsOf(sellerUUID);
+    }
+
+    /**
+     * Estimates when a queued auction starts from the time left on the lanes and the queue ahead
+     * Exact with one lane. With more, the queued time ahead is spread over the lanes, and the
+     * first auctions wait at least for a lane of their own to free up.
+     * Bids and cancellations can change the real time.
+     */
+    private long estimateStart(int queueIndex, long durationAhead) {
+        long[] laneFreeAt = new long[lanes.size()];
+        long busy = 0;
+        for (int i = 0; i < laneFreeAt.length; i++) {
+            AuctionItem current = lanes.get(i).getCurrentAuction();
+            laneFreeAt[i] = current != null ? current.getRemainingTime() : 0L;
+            busy += laneFreeAt[i];
+        }
+        Arrays.sort(laneFreeAt);
+
+        long firstFree = laneFreeAt[Math.min(queueIndex, laneFreeAt.length - 1)];
+        return Math.max(firstFree, (busy + durationAhead) / laneFreeAt.length);
+    }
+
+    /**
+     * Pays to move a player's next unboosted listing ahead of every unboosted one
+     * @return true if a listing was boosted
+     */
+    public boolean boostListing(Player seller) {
+        double fee = configManager.getSettings().priorityFee();
+        if (fee <= 0) {
+            messageManager.sendMessage(seller, "messages.player.queue.boost_disabled");
+            return false;
+        }
+
+        queueLock.lock();
+        try {
+            AuctionItem listing = null;
+            int listingIndex = Integer.MAX_VALUE;
+            for (AuctionItem auction : auctionQueue.listingsOf(seller.getUniqueId())) {
+                int index = auctionQueue.indexOf(auction.getId());
+                if (auction.getPriority() == 0 && index >= 0 && index < listingIndex) {
+                    listing = auction;
+                    listingIndex = index;
+                }
+            }
+            if (listing == null) {
+                messageManager.sendMessage(seller, "messages.player.queue.boost_none");
+                return false;
+            }
+
+            Map<String, String> placeholders = new HashMap<>();
+            placeholders.put("item", listing.getItem().getType().name());
+            placeholders.put("fee", economyManager.formatMoney(fee));
+
+            if (!economyManager.withdrawPlayer(seller, fee)) {
+                messageManager.sendMessage(seller, "messages.player.queue.boost_funds", placeholders);
+                return false;
+            }
+
+            auctionQueue.setPriority(listing.getId(), 1);
+            savePriority(listing);
+
+            placeholders.put("position", String.valueOf(auctionQueue.indexOf(listing.getId()) + 1));
+            messageManager.sendMessage(seller, "messages.player.queue.boosted", placeholders);
+            refreshAllGUIs();
+            return true;
+        } finally {
+            queueLock.unlock();
+        }
     }
 
     public void removeFromQueue(AuctionItem auction) {
-        if (auction == currentAuction) {
-            setCurrentAuction(null);
-        } else {
-            auctionQueue.remove(auction);
+        int lane = getLaneOf(auction);
+        if (lane >= 0) {
+            setCurrentAuction(lane, null);
+        } else if (auctionQueue.remove(auction)) {
+            deleteLiveAuction(auction);
         }
     }
 
-    public void cancelCurrentAuction() {
+    /**
+     * Cancels the auction running in a lane and moves the lane on to the next queued auction
+     * @param laneIndex Zero-based lane index
+     */
+    public void cancelCurrentAuction(int laneIndex) {
+        if (!isValidLane(laneIndex)) return;
+
+        AuctionLane lane = lanes.get(laneIndex);
+        lane.getLock().lock();
         try {
-            auctionLock.lock();
+            AuctionItem currentAuction = lane.getCurrentAuction();
             if (currentAuction != null) {
+                BidState finalBid = settleBidding(currentAuction);
                 saveToWarehouse(currentAuction, AuctionStatus.CANCELLED);
-                
-                if (currentAuction.getCurrentBidderUUID() != null) {
-                    Player currentBidder = Bukkit.getPlayer(currentAuction.getCurrentBidderUUID());
-                    if (currentBidder != null) {
-                        economyManager.depositPlayer(currentBidder, currentAuction.getCurrentBid());
-                        
-                        Map<String, String> placeholders = new HashMap<>();
-                        placeholders.put("bid", String.valueOf(currentAuction.getCurrentBid()));
-                        messageManager.sendMessage(currentBidder, "messages.player.bids.refunded", placeholders);
-                    }
-                }
+                releaseBid(currentAuction, finalBid, "messages.player.bids.refunded");
+                deleteLiveAuction(currentAuction);
 
-                currentAuction = null;
-                cancelAllTimers();
-                scheduleNextAuction();
+                cancelTimers(currentAuction);
+                lane.setCurrentAuction(null);
+                scheduleNextAuction(lane);
                 refreshAllGUIs();
             }
         } finally {
-            auctionLock.unlock();
+            lane.getLock().unlock();
         }
     }
 
     public void cancelQueuedAuction(AuctionItem auction) {
         try {
-            auctionLock.lock();
+            queueLock.lock();
             if (auctionQueue.remove(auction)) {
                 saveToWarehouse(auction, AuctionStatus.CANCELLED);
+                deleteLiveAuction(auction);
                 refreshAllGUIs();
             }
         } finally {
-            auctionLock.unlock();
+            queueLock.unlock();
         }
     }
 
     public void clearAllAuctions() {
+        // Drain the queue first so cancelled lanes have nothing left to pick up
         try {
-            auctionLock.lock();
-            
-            if (currentAuction != null) {
-                cancelCurrentAuction();
-            }
-
-            while (!auctionQueue.isEmpty()) {
-                AuctionItem auction = auctionQueue.poll();
+            queueLock.lock();
+            for (AuctionItem auction : auctionQueue.drain()) {
                 saveToWarehouse(auction, AuctionStatus.CANCELLED);
+                deleteLiveAuction(auction);
             }
-
-            refreshAllGUIs();
         } finally {
-            auctionLock.unlock();
+            queueLock.unlock();
+        }
+
+        for (AuctionLane lane : lanes) {
+            cancelCurrentAuction(lane.getIndex());
         }
+
+        refreshAllGUIs();
     }
 
     public boolean canCreateAuction(Player player) {
@@ -847,13 +1550,10 @@ public final class AuctionManager {
             return true;
         }
 
-        int playerItems = 0;
-        if (currentAuction != null && currentAuction.getSellerUUID().equals(player.getUniqueId())) {
-            playerItems++;
-        }
-        
-        for (AuctionItem auction : auctionQueue) {
-            if (auction.getSellerUUID().equals(player.getUniqueId())) {
+        int playerItems = auctionQueue.countBySeller(player.getUniqueId());
+        for (AuctionLane lane : lanes) {
+            AuctionItem auction = lane.getCurrentAuction();
+            if (auction != null && auction.getSellerUUID().equals(player.getUniqueId())) {
                 playerItems++;
             }
         }
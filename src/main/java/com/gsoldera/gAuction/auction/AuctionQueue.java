@@ -0,0 +1,235 @@
+package com.gsoldera.gAuction.auction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Queue of auctions waiting for a lane, ordered by priority and then by the scheduler's rank
+ * Entries live in an order statistic tree weighted by auction duration, so selection, removal,
+ * re-sorting after a boost, and an auction's position and the queued time ahead of it are all
+ * O(log n). Readers get an immutable snapshot in start order, rebuilt once after each change
+ * and then shared, so size, positional access and paging never lock or copy.
+ * Auctions are also indexed per seller for the listing limit and seller lookups.
+ */
+final class AuctionQueue {
+    // Higher priority first, then lower rank, then the order they were queued in
+    private static final Comparator<Entry> START_ORDER = Comparator
+        .comparingInt((Entry entry) -> -entry.auction.getPriority())
+        .thenComparingDouble(entry -> entry.rank)
+        .thenComparingLong(entry -> entry.sequence);
+
+    private final QueueScheduler scheduler;
+    private final OrderStatisticTree<UUID, Entry> tree;
+    // Immutable lists, replaced on change so they can be read without the lock
+    private final Map<UUID, List<AuctionItem>> sellerListings;
+    private long nextSequence;
+
+    private volatile int size;
+    // Null while stale; rebuilt by the first reader after a change
+    private volatile List<AuctionItem> snapshot;
+
+    private record Entry(AuctionItem auction, double rank, long sequence) {}
+
+    /**
+     * Where a queued auction stands
+     * @param index Zero-based position, 0 is the next to start
+     * @param durationAhead Summed duration of the auctions queued before it, in milliseconds
+     */
+    record Position(int index, long durationAhead) {}
+
+    AuctionQueue(QueueScheduler scheduler) {
+        this.scheduler = scheduler;
+        this.tree = new OrderStatisticTree<>(START_ORDER, entry -> entry.auction().getDuration());
+        this.sellerListings = new ConcurrentHashMap<>();
+        this.snapshot = List.of();
+    }
+
+    /**
+     * Adds an auction, ranked by the scheduler
+     * @return false if the auction is already queued
+     */
+    synchronized boolean offer(AuctionItem auction) {
+        if (tree.get(auction.getId()) != null) {
+            return false;
+        }
+
+        tree.add(auction.getId(), new Entry(auction, scheduler.rank(auction), nextSequence++));
+        sellerListings.compute(auction.getSellerUUID(), (seller, listings) -> {
+            List<AuctionItem> updated = listings != null ? new ArrayList<>(listings) : new ArrayList<>(1);
+            updated.add(auction);
+            return List.copyOf(updated);
+        });
+        changed();
+        return true;
+    }
+
+    /**
+     * Removes and returns the auction that should start next
+     * @return The auction or null if the queue is empty
+     */
+    synchronized AuctionItem poll() {
+        Entry entry = tree.poll();
+        if (entry == null) {
+            return null;
+        }
+
+        scheduler.started(entry.auction(), entry.rank());
+        forget(entry.auction());
+        changed();
+        return entry.auction();
+    }
+
+    /**
+     * Removes a queued auction by id
+     * @return The removed auction or null if it was not queued
+     */
+    synchronized AuctionItem remove(UUID auctionId) {
+        Entry entry = tree.remove(auctionId);
+        if (entry == null) {
+            return null;
+        }
+
+        forget(entry.auction());
+        changed();
+        return entry.auction();
+    }
+
+    /**
+     * Removes a queued auction
+     * @return true if it was queued
+     */
+    boolean remove(AuctionItem auction) {
+        return remove(auction.getId()) != null;
+    }
+
+    /**
+     * Changes the priority of a queued auction and moves it to its new place
+     * @return false if the auction is not queued
+     */
+    synchronized boolean setPriority(UUID auctionId, int priority) {
+        // Taken out before the change, the tree finds entries by their sort fields
+        Entry entry = tree.remove(auctionId);
+        if (entry == null) {
+            return false;
+        }
+
+        entry.auction().setPriority(priority);
+        tree.add(auctionId, entry);
+        changed();
+        return true;
+    }
+
+    /**
+     * Removes every queued auction
+     * @return The removed auctions in start order
+     */
+    synchronized List<AuctionItem> drain() {
+        List<AuctionItem> drained = snapshot();
+        for (UUID seller : sellerListings.keySet()) {
+            scheduler.sellerLeft(seller);
+        }
+        tree.clear();
+        sellerListings.clear();
+        changed();
+        return drained;
+    }
+
+    /**
+     * Gets the number of queued auctions
+     */
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the auction at a queue position
+     * @param index Zero-based position, 0 is the next to start
+     * @return The auction or null if the position is empty
+     */
+    AuctionItem get(int index) {
+        List<AuctionItem> current = snapshot();
+        return index >= 0 && index < current.size() ? current.get(index) : null;
+    }
+
+    /**
+     * Gets the queue position of an auction
+     * @return Zero-based position or -1 if it is not queued
+     */
+    synchronized int indexOf(UUID auctionId) {
+        return tree.rank(auctionId);
+    }
+
+    /**
+     * Gets the position of an auction and the queued time ahead of it
+     * @return The position or null if it is not queued
+     */
+    synchronized Position locate(UUID auctionId) {
+        int index = tree.rank(auctionId);
+        return index >= 0 ? new Position(index, tree.weightBefore(auctionId)) : null;
+    }
+
+    /**
+     * Gets how many auctions a seller has waiting
+     */
+    int countBySeller(UUID sellerUUID) {
+        return listingsOf(sellerUUID).size();
+    }
+
+    /**
+     * Gets a seller's queued auctions in the order they were listed
+     */
+    List<AuctionItem> listingsOf(UUID sellerUUID) {
+        return sellerListings.getOrDefault(sellerUUID, List.of());
+    }
+
+    /**
+     * Gets the queue in start order as it is now
+     * The list is immutable and is never changed afterwards, so it can be kept and paged freely
+     */
+    List<AuctionItem> snapshot() {
+        List<AuctionItem> current = snapshot;
+        return current != null ? current : rebuildSnapshot();
+    }
+
+    private synchronized List<AuctionItem> rebuildSnapshot() {
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        List<Entry> entries = tree.values();
+        List<AuctionItem> items = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            items.add(entry.auction());
+        }
+
+        List<AuctionItem> rebuilt = Collections.unmodifiableList(items);
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    private void changed() {
+        size = tree.size();
+        snapshot = null;
+    }
+
+    private void forget(AuctionItem auction) {
+        UUID seller = auction.getSellerUUID();
+        List<AuctionItem> remaining = sellerListings.computeIfPresent(seller, (uuid, listings) -> {
+            List<AuctionItem> updated = new ArrayList<>(listings);
+            updated.remove(auction);
+            return updated.isEmpty() ? null : List.copyOf(updated);
+        });
+        if (remaining == null) {
+            scheduler.sellerLeft(seller);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.gsoldera.gAuction.auction;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Immutable snapshot of the leading bid of an auction
+ * Swapped as a whole with compare-and-set, so readers always see amount and bidder together.
+ * @param amount Current bid, the minimum bid while nobody has bid
+ * @param bidderUUID Leading bidder or null
+ * @param bidderName Name of the leading bidder or null
+ * @param sequence Incremented by every accepted bid
+ * @param closed True once the auction stopped taking bids
+ * @param payment Completed with true once the bidder's funds were reserved, false if they never will be
+ */
+public record BidState(
+    double amount,
+    UUID bidderUUID,
+    String bidderName,
+    long sequence,
+    boolean closed,
+    CompletableFuture<Boolean> payment
+) {
+
+    /**
+     * Creates the state of an auction nobody has bid on yet
+     */
+    static BidState opening(double minBid) {
+        return new BidState(minBid, null, null, 0, false, CompletableFuture.completedFuture(false));
+    }
+
+    /**
+     * Creates the state of a leading bid restored after a restart
+     * Its funds are still reserved from before, so the payment is already complete
+     */
+    static BidState restored(double amount, UUID bidderUUID, String bidderName, long sequence) {
+        return new BidState(amount, bidderUUID, bidderName, sequence, false, CompletableFuture.completedFuture(true));
+    }
+
+    /**
+     * Creates the state that replaces this one when a bid is accepted
+     * The payment stays pending until the bidder's funds are reserved
+     */
+    BidState withBid(UUID newBidderUUID, String newBidderName, double newAmount) {
+        return new BidState(newAmount, newBidderUUID, newBidderName, sequence + 1, false, new CompletableFuture<>());
+    }
+
+    /**
+     * Creates a copy of this state with a different closed flag
+     */
+    BidState withClosed(boolean isClosed) {
+        return new BidState(amount, bidderUUID, bidderName, sequence, isClosed, payment);
+    }
+
+    /**
+     * Checks if anyone has bid
+     */
+    public boolean hasBidder() {
+        return bidderUUID != null;
+    }
+}
@@ -0,0 +1,54 @@
+package com.gsoldera.gAuction.auction;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import com.gsoldera.gAuction.config.AuctionSettings;
+
+/**
+ * Weighted round-robin across sellers
+ * Every seller is a flow with its own virtual clock: each listing is ranked one step after the
+ * seller's previous one, so a seller queueing many items gets one turn per round instead of
+ * blocking everyone behind them. The step is shorter for categories with a higher weight,
+ * which lets rare items come around more often than bulk blocks.
+ */
+final class FairQueueScheduler implements QueueScheduler {
+    private final Supplier<AuctionSettings> settings;
+    // Rank of the last listing queued by each seller that still has listings waiting
+    private final Map<UUID, Double> sellerFinish;
+    // Rank of the last auction that started, new sellers join the round from here
+    private double virtualTime;
+
+    FairQueueScheduler(Supplier<AuctionSettings> settings) {
+        this.settings = settings;
+        this.sellerFinish = new HashMap<>();
+    }
+
+    @Override
+    public double rank(AuctionItem auction) {
+        return rank(auction.getSellerUUID(), settings.get().getCategoryWeight(auction.getCategory()));
+    }
+
+    /**
+     * Ranks a listing one step after the seller's previous one
+     * @param weight Weight of the listing's category, a higher weight takes a shorter step
+     */
+    double rank(UUID sellerUUID, int weight) {
+        double start = Math.max(virtualTime, sellerFinish.getOrDefault(sellerUUID, 0.0));
+        double finish = start + 1.0 / weight;
+        sellerFinish.put(sellerUUID, finish);
+        return finish;
+    }
+
+    @Override
+    public void started(AuctionItem auction, double rank) {
+        virtualTime = Math.max(virtualTime, rank);
+    }
+
+    @Override
+    public void sellerLeft(UUID sellerUUID) {
+        sellerFinish.remove(sellerUUID);
+    }
+}
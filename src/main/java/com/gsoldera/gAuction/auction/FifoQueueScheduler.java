@@ -0,0 +1,23 @@
+package com.gsoldera.gAuction.auction;
+
+import java.util.UUID;
+
+/**
+ * Starts auctions in the order they were queued
+ */
+final class FifoQueueScheduler implements QueueScheduler {
+    private long next;
+
+    @Override
+    public double rank(AuctionItem auction) {
+        return next++;
+    }
+
+    @Override
+    public void started(AuctionItem auction, double rank) {
+    }
+
+    @Override
+    public void sellerLeft(UUID sellerUUID) {
+    }
+}
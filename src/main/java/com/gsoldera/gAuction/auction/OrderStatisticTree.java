@@ -0,0 +1,263 @@
+package com.gsoldera.gAuction.auction;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToLongFunction;
+
+/**
+ * Sorted tree that also knows how many elements, and how much weight, come before each one
+ * A treap whose nodes keep the size and weight sum of their subtree, so adding, removing,
+ * taking the smallest element, and finding an element's rank or the weight in front of it
+ * are all O(log n) expected, with no rescanning.
+ * Elements must be distinct under the comparator. Not thread-safe; callers lock around it.
+ * @param <K> Key identifying an element
+ * @param <V> Element type
+ */
+final class OrderStatisticTree<K, V> {
+    private final Comparator<? super V> comparator;
+    private final ToLongFunction<? super V> weigher;
+    private final Map<K, V> byKey;
+    private Node<K, V> root;
+
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        final long weight;
+        // Random heap priority that keeps the tree balanced
+        final int balance;
+        Node<K, V> left;
+        Node<K, V> right;
+        int size;
+        long totalWeight;
+
+        Node(K key, V value, long weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.balance = ThreadLocalRandom.current().nextInt();
+        }
+    }
+
+    /**
+     * @param comparator Order of the elements
+     * @param weigher Weight of an element, read once when it is added
+     */
+    OrderStatisticTree(Comparator<? super V> comparator, ToLongFunction<? super V> weigher) {
+        this.comparator = comparator;
+        this.weigher = weigher;
+        this.byKey = new HashMap<>();
+    }
+
+    /**
+     * Adds an element
+     * @return false if the key is already in the tree
+     */
+    boolean add(K key, V value) {
+        if (byKey.putIfAbsent(key, value) != null) {
+            return false;
+        }
+        root = insert(root, new Node<>(key, value, weigher.applyAsLong(value)));
+        return true;
+    }
+
+    /**
+     * Removes and returns the smallest element
+     * @return The element or null if the tree is empty
+     */
+    V poll() {
+        if (root == null) {
+            return null;
+        }
+
+        Node<K, V> first = root;
+        while (first.left != null) {
+            first = first.left;
+        }
+        byKey.remove(first.key);
+        root = erase(root, first.value);
+        return first.value;
+    }
+
+    /**
+     * Removes an element by key
+     * The fields the element is sorted by must not have changed since it was added
+     * @return The element or null if the key is not in the tree
+     */
+    V remove(K key) {
+        V value = byKey.remove(key);
+        if (value != null) {
+            root = erase(root, value);
+        }
+        return value;
+    }
+
+    /**
+     * Gets an element by key
+     */
+    V get(K key) {
+        return byKey.get(key);
+    }
+
+    /**
+     * Gets how many elements come before an element
+     * @return Zero-based rank or -1 if the key is not in the tree
+     */
+    int rank(K key) {
+        V value = byKey.get(key);
+        if (value == null) {
+            return -1;
+        }
+
+        int rank = 0;
+        Node<K, V> node = root;
+        while (node != null) {
+            int order = comparator.compare(value, node.value);
+            if (order < 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left);
+                if (order == 0) {
+                    return rank;
+                }
+                rank++;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the summed weight of the elements before an element
+     * @return The weight or -1 if the key is not in the tree
+     */
+    long weightBefore(K key) {
+        V value = byKey.get(key);
+        if (value == null) {
+            return -1;
+        }
+
+        long weight = 0;
+        Node<K, V> node = root;
+        while (node != null) {
+            int order = comparator.compare(value, node.value);
+            if (order < 0) {
+                node = node.left;
+            } else {
+                weight += totalWeight(node.left);
+                if (order == 0) {
+                    return weight;
+                }
+                weight += node.weight;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * Gets every element in sorted order
+     */
+    List<V> values() {
+        List<V> values = new ArrayList<>(size());
+        collect(root, values);
+        return values;
+    }
+
+    void clear() {
+        byKey.clear();
+        root = null;
+    }
+
+    private Node<K, V> insert(Node<K, V> node, Node<K, V> added) {
+        if (node == null) {
+            return update(added);
+        }
+        if (added.balance > node.balance) {
+            split(node, added.value, added);
+            return update(added);
+        }
+        if (comparator.compare(added.value, node.value) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return update(node);
+    }
+
+    /**
+     * Splits a subtree around a value into the left and right children of a new root
+     */
+    private void split(Node<K, V> node, V value, Node<K, V> into) {
+        if (node == null) {
+            into.left = null;
+            into.right = null;
+            return;
+        }
+        if (comparator.compare(node.value, value) < 0) {
+            split(node.right, value, into);
+            node.right = into.left;
+            into.left = update(node);
+        } else {
+            split(node.left, value, into);
+            node.left = into.right;
+            into.right = update(node);
+        }
+    }
+
+    private Node<K, V> erase(Node<K, V> node, V value) {
+        if (node == null) {
+            return null;
+        }
+        int order = comparator.compare(value, node.value);
+        if (order == 0) {
+            return merge(node.left, node.right);
+        }
+        if (order < 0) {
+            node.left = erase(node.left, value);
+        } else {
+            node.right = erase(node.right, value);
+        }
+        return update(node);
+    }
+
+    private Node<K, V> merge(Node<K, V> left, Node<K, V> right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.balance > right.balance) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private Node<K, V> update(Node<K, V> node) {
+        node.size = size(node.left) + size(node.right) + 1;
+        node.totalWeight = totalWeight(node.left) + totalWeight(node.right) + node.weight;
+        return node;
+    }
+
+    private void collect(Node<K, V> node, List<V> values) {
+        while (node != null) {
+            collect(node.left, values);
+            values.add(node.value);
+            node = node.right;
+        }
+    }
+
+    private static int size(Node<?, ?> node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static long totalWeight(Node<?, ?> node) {
+        return node != null ? node.totalWeight : 0;
+    }
+}
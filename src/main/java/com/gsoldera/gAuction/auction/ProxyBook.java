@@ -0,0 +1,175 @@
+package com.gsoldera.gAuction.auction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Hidden maximum bids registered on one auction
+ * Bidders name the most they would pay and the engine bids for them only as much as it takes to lead.
+ * Competing maximums are settled in one pass: the highest leads at one step above the runner-up,
+ * capped at its own maximum, the earliest winning a tie, so they never trade bids back and forth.
+ * Registering and resolving happen under the book's lock; emptiness can be read without it.
+ */
+final class ProxyBook {
+    private final ReentrantLock lock;
+    private final Map<UUID, ProxyBid> proxies;
+    private long nextOrder;
+    private boolean closed;
+
+    /**
+     * A hidden maximum
+     * @param order Registration order, earlier wins a tie
+     */
+    record ProxyBid(UUID bidderUUID, String bidderName, double maxAmount, long order) {}
+
+    /**
+     * Outcome of settling the maximums against the current bid
+     * @param bidderUUID Leading bidder afterwards, or null if nobody can lead
+     * @param bidderName Name of the leading bidder
+     * @param amount Leading bid afterwards
+     * @param exhausted Maximums that can no longer beat the leading bid
+     */
+    record Resolution(UUID bidderUUID, String bidderName, double amount, List<ProxyBid> exhausted) {}
+
+    // One bidder competing in a resolution, the highest max leads
+    private record Contender(UUID bidderUUID, String bidderName, double max, double floor, long order) {
+        boolean beats(Contender other) {
+            return other == null || max > other.max || (max == other.max && order < other.order);
+        }
+    }
+
+    ProxyBook() {
+        this.lock = new ReentrantLock();
+        this.proxies = new ConcurrentHashMap<>();
+    }
+
+    ReentrantLock getLock() {
+        return lock;
+    }
+
+    boolean isEmpty() {
+        return proxies.isEmpty();
+    }
+
+    /**
+     * Checks if the auction stopped taking maximums
+     */
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Gets a bidder's maximum
+     * @return The maximum or null if they have none
+     */
+    ProxyBid get(UUID bidderUUID) {
+        return proxies.get(bidderUUID);
+    }
+
+    /**
+     * Registers or replaces a bidder's maximum
+     * A replaced maximum loses its place for ties
+     */
+    void register(UUID bidderUUID, String bidderName, double maxAmount) {
+        proxies.put(bidderUUID, new ProxyBid(bidderUUID, bidderName, maxAmount, nextOrder++));
+    }
+
+    /**
+     * Removes a bidder's maximum
+     */
+    void remove(UUID bidderUUID) {
+        proxies.remove(bidderUUID);
+    }
+
+    /**
+     * Stops taking maximums
+     * @return The maximums that were still registered
+     */
+    List<ProxyBid> close() {
+        lock.lock();
+        try {
+            closed = true;
+            List<ProxyBid> remaining = new ArrayList<>(proxies.values());
+            proxies.clear();
+            return remaining;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Settles every maximum, and an optional manual bid, against the current bid
+     * O(number of maximums). Nothing is changed; the caller installs the outcome.
+     * A manual bid is exact: it leads at its own amount, or at more if the bidder also has a maximum.
+     * @param current The bid state to settle against
+     * @param manualBidder Player placing a manual bid, or null
+     * @param manualName Name of that player
+     * @param manualAmount Amount of the manual bid, at least the minimum next bid
+     * @param minimumAbove Smallest bid that beats an amount
+     */
+    Resolution resolve(BidState current, UUID manualBidder, String manualName, double manualAmount,
+                       DoubleUnaryOperator minimumAbove) {
+        UUID leader = current.bidderUUID();
+        double floor = minimumAbove.applyAsDouble(current.amount());
+
+        Contender best = null;
+        Contender second = null;
+        List<Contender> contenders = new ArrayList<>(proxies.size() + 2);
+
+        // A leader without a maximum stays on its bid and was there first
+        if (leader != null && !proxies.containsKey(leader) && !leader.equals(manualBidder)) {
+            contenders.add(new Contender(leader, current.bidderName(), current.amount(), current.amount(), -1));
+        }
+        for (ProxyBid proxy : proxies.values()) {
+            if (proxy.bidderUUID().equals(manualBidder)) continue;
+
+            boolean leads = proxy.bidderUUID().equals(leader);
+            if (leads || proxy.maxAmount() >= floor) {
+                contenders.add(new Contender(proxy.bidderUUID(), proxy.bidderName(), proxy.maxAmount(),
+                    leads ? current.amount() : 0, proxy.order()));
+            }
+        }
+        if (manualBidder != null) {
+            ProxyBid own = proxies.get(manualBidder);
+            contenders.add(own != null
+                ? new Contender(manualBidder, manualName, Math.max(own.maxAmount(), manualAmount), manualAmount, own.order())
+                : new Contender(manualBidder, manualName, manualAmount, manualAmount, Long.MAX_VALUE));
+        }
+
+        for (Contender contender : contenders) {
+            if (contender.beats(best)) {
+                second = best;
+                best = contender;
+            } else if (contender.beats(second)) {
+                second = contender;
+            }
+        }
+
+        if (best == null) {
+            return new Resolution(leader, current.bidderName(), current.amount(), exhaustedBelow(null, floor, minimumAbove));
+        }
+
+        double needed = best.bidderUUID().equals(leader) ? current.amount() : floor;
+        if (second != null) {
+            needed = Math.max(needed, minimumAbove.applyAsDouble(second.max()));
+        }
+        double amount = Math.min(best.max(), Math.max(needed, best.floor()));
+        return new Resolution(best.bidderUUID(), best.bidderName(), amount, exhaustedBelow(best.bidderUUID(), amount, minimumAbove));
+    }
+
+    private List<ProxyBid> exhaustedBelow(UUID leader, double amount, DoubleUnaryOperator minimumAbove) {
+        double toBeat = leader != null ? minimumAbove.applyAsDouble(amount) : amount;
+        List<ProxyBid> exhausted = new ArrayList<>();
+        for (ProxyBid proxy : proxies.values()) {
+            if (!proxy.bidderUUID().equals(leader) && proxy.maxAmount() < toBeat) {
+                exhausted.add(proxy);
+            }
+        }
+        return exhausted;
+    }
+}
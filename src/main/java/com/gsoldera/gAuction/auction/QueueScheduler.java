@@ -0,0 +1,48 @@
+package com.gsoldera.gAuction.auction;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+
+import com.gsoldera.gAuction.config.AuctionSettings;
+
+/**
+ * Decides the order queued auctions start in
+ * Each auction gets a rank when it is queued; lower ranks start first among auctions
+ * of the same priority. Paid boosts are applied on top by the queue itself.
+ * Only called while the queue holds its lock, so implementations need no locking.
+ */
+interface QueueScheduler {
+
+    /**
+     * Gets the rank of an auction entering the queue
+     */
+    double rank(AuctionItem auction);
+
+    /**
+     * Called when an auction leaves the queue to start in a lane
+     */
+    void started(AuctionItem auction, double rank);
+
+    /**
+     * Called when a seller no longer has anything queued
+     */
+    void sellerLeft(UUID sellerUUID);
+
+    /**
+     * Creates the scheduler named in the config
+     * @param type FIFO or FAIR
+     * @param settings Current settings, read whenever an auction is ranked
+     * @param logger Logger for unknown types
+     */
+    static QueueScheduler create(String type, Supplier<AuctionSettings> settings, Logger logger) {
+        if ("FIFO".equalsIgnoreCase(type)) {
+            return new FifoQueueScheduler();
+        }
+        if (!"FAIR".equalsIgnoreCase(type)) {
+            logger.warn("Unknown queue scheduler '{}', defaulting to FAIR", type);
+        }
+        return new FairQueueScheduler(settings);
+    }
+}
@@ -0,0 +1,322 @@
+package com.gsoldera.gAuction.auction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+
+/**
+ * Hierarchical timing wheel that owns every auction deadline on a single thread
+ * Four levels of 64 slots each. A deadline goes into the lowest level whose range still covers it,
+ * and moves down a level each time the level below wraps around to it.
+ * Scheduling and cancelling a timer are O(1); timers can be grouped under a key
+ * (the auction id) and cancelled together.
+ * Tasks run on the wheel thread and must stay short, hand anything heavy to Bukkit.
+ */
+final class TimingWheel {
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final Logger logger;
+    private final long tickNanos;
+    private final Object lock = new Object();
+    private final Bucket[][] wheels;
+    // Deadlines past the range of the top level, re-sorted whenever the top level turns
+    private final Bucket overflow;
+    private final Map<Object, Timeout> groups;
+    private final Thread thread;
+    private final long startNanos;
+
+    private long currentTick;
+    private volatile boolean running;
+
+    /**
+     * A scheduled task that can be cancelled
+     */
+    static final class Timeout {
+        private final Runnable task;
+        private final Object group;
+        private final long periodTicks;
+        private long deadlineTick;
+        private boolean cancelled;
+
+        // Links inside the slot bucket
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        // Links inside the group
+        private Timeout groupPrev;
+        private Timeout groupNext;
+
+        private Timeout(Runnable task, Object group, long deadlineTick, long periodTicks) {
+            this.task = task;
+            this.group = group;
+            this.deadlineTick = deadlineTick;
+            this.periodTicks = periodTicks;
+        }
+    }
+
+    /**
+     * Doubly linked list of the timeouts in one slot
+     */
+    private static final class Bucket {
+        private Timeout head;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        Timeout drain() {
+            Timeout first = head;
+            for (Timeout timeout = head; timeout != null; timeout = timeout.next) {
+                timeout.bucket = null;
+            }
+            head = null;
+            return first;
+        }
+    }
+
+    /**
+     * Creates and starts the wheel
+     * @param logger Logger for failing tasks
+     * @param tick Resolution of the wheel
+     * @param unit Unit of the tick
+     * @param threadName Name of the wheel thread
+     */
+    TimingWheel(Logger logger, long tick, TimeUnit unit, String threadName) {
+        this.logger = logger;
+        this.tickNanos = unit.toNanos(tick);
+        this.wheels = new Bucket[LEVELS][WHEEL_SIZE];
+        for (Bucket[] wheel : wheels) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                wheel[i] = new Bucket();
+            }
+        }
+        this.overflow = new Bucket();
+        this.groups = new HashMap<>();
+        this.startNanos = System.nanoTime();
+        this.running = true;
+        this.thread = new Thread(this::runLoop, threadName);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Runs a task once after a delay
+     * @param group Key the timer is cancelled with, or null
+     * @return Handle to cancel this timer alone
+     */
+    Timeout schedule(Object group, Runnable task, long delay, TimeUnit unit) {
+        return add(group, task, unit.toNanos(delay), 0);
+    }
+
+    /**
+     * Runs a task at a fixed rate until cancelled
+     * @param group Key the timer is cancelled with, or null
+     * @return Handle to cancel this timer alone
+     */
+    Timeout scheduleAtFixedRate(Object group, Runnable task, long initialDelay, long period, TimeUnit unit) {
+        long periodTicks = Math.max(1, (unit.toNanos(period) + tickNanos - 1) / tickNanos);
+        return add(group, task, unit.toNanos(initialDelay), periodTicks);
+    }
+
+    /**
+     * Cancels a single timer
+     */
+    void cancel(Timeout timeout) {
+        synchronized (lock) {
+            unlink(timeout);
+        }
+    }
+
+    /**
+     * Cancels every timer scheduled under a key
+     */
+    void cancelGroup(Object group) {
+        if (group == null) return;
+
+        synchronized (lock) {
+            Timeout timeout = groups.get(group);
+            while (timeout != null) {
+                Timeout next = timeout.groupNext;
+                unlink(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    /**
+     * Stops the wheel thread, pending timers are dropped
+     */
+    void shutdown() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Timeout add(Object group, Runnable task, long delayNanos, long periodTicks) {
+        // Rounded up from the real clock so a timer never fires early
+        long elapsed = System.nanoTime() - startNanos + Math.max(0, delayNanos);
+        long deadlineTick = (elapsed + tickNanos - 1) / tickNanos;
+
+        synchronized (lock) {
+            Timeout timeout = new Timeout(task, group, Math.max(deadlineTick, currentTick + 1), periodTicks);
+            if (group != null) {
+                Timeout head = groups.get(group);
+                timeout.groupNext = head;
+                if (head != null) {
+                    head.groupPrev = timeout;
+                }
+                groups.put(group, timeout);
+            }
+            place(timeout);
+            return timeout;
+        }
+    }
+
+    /**
+     * Puts a timeout in the lowest level whose current turn contains its deadline
+     * A deadline equal to the current tick only happens while cascading, and lands in the slot expired next.
+     */
+    private void place(Timeout timeout) {
+        long deadline = timeout.deadlineTick;
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = WHEEL_BITS * (level + 1);
+            if ((deadline >>> shift) == (currentTick >>> shift)) {
+                int slot = (int) ((deadline >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+                wheels[level][slot].add(timeout);
+                return;
+            }
+        }
+        overflow.add(timeout);
+    }
+
+    /**
+     * Removes a timeout from its slot and group, if it is still pending
+     */
+    private void unlink(Timeout timeout) {
+        if (timeout.cancelled) return;
+        timeout.cancelled = true;
+
+        if (timeout.bucket != null) {
+            timeout.bucket.remove(timeout);
+        }
+        unlinkGroup(timeout);
+    }
+
+    private void unlinkGroup(Timeout timeout) {
+        if (timeout.group == null) return;
+
+        if (timeout.groupPrev != null) {
+            timeout.groupPrev.groupNext = timeout.groupNext;
+        } else if (timeout.groupNext != null) {
+            groups.put(timeout.group, timeout.groupNext);
+        } else {
+            groups.remove(timeout.group);
+        }
+        if (timeout.groupNext != null) {
+            timeout.groupNext.groupPrev = timeout.groupPrev;
+        }
+        timeout.groupPrev = null;
+        timeout.groupNext = null;
+    }
+
+    private void runLoop() {
+        List<Timeout> expired = new ArrayList<>();
+        while (running) {
+            long target = startNanos + (currentTick + 1) * tickNanos;
+            long wait = target - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(this, wait);
+                continue;
+            }
+
+            synchronized (lock) {
+                advance(expired);
+            }
+            for (Timeout timeout : expired) {
+                try {
+                    timeout.task.run();
+                } catch (Exception e) {
+                    logger.error("Error running scheduled auction task", e);
+                }
+            }
+            expired.clear();
+        }
+    }
+
+    /**
+     * Moves the wheel forward one tick and collects the timeouts that are due
+     */
+    private void advance(List<Timeout> expired) {
+        currentTick++;
+
+        // Higher levels first, so their timeouts can fall all the way down in the same tick
+        for (int level = LEVELS - 1; level > 0; level--) {
+            long levelMask = (1L << (WHEEL_BITS * level)) - 1;
+            if ((currentTick & levelMask) != 0) continue;
+
+            if (level == LEVELS - 1) {
+                cascade(overflow.drain());
+            }
+            int slot = (int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+            cascade(wheels[level][slot].drain());
+        }
+
+        Timeout timeout = wheels[0][(int) (currentTick & WHEEL_MASK)].drain();
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.prev = null;
+            timeout.next = null;
+            expired.add(timeout);
+
+            if (timeout.periodTicks > 0) {
+                timeout.deadlineTick = currentTick + timeout.periodTicks;
+                place(timeout);
+            } else {
+                timeout.cancelled = true;
+                unlinkGroup(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    private void cascade(Timeout timeout) {
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            place(timeout);
+            timeout = next;
+        }
+    }
+}
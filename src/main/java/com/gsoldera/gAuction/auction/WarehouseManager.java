@@ -0,0 +1,217 @@
+package com.gsoldera.gAuction.auction;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+
+import com.gsoldera.gAuction.GAuctionPlugin;
+import com.gsoldera.gAuction.auction.AuctionManager.AuctionStatus;
+import com.gsoldera.gAuction.database.DatabaseManager;
+import com.gsoldera.gAuction.database.PendingWrite;
+import com.gsoldera.gAuction.utils.ItemCache;
+
+/**
+ * Keeps an in-memory count of claimable warehouse items per player
+ * Built once from the database on startup and kept in sync by every warehouse insert and collect,
+ * so "does this player have items to collect" never has to touch the database.
+ */
+public final class WarehouseManager {
+    // Keeps each IN list well below SQLite's bound parameter limit
+    private static final int CLAIM_CHUNK_SIZE = 500;
+
+    private final Logger logger;
+    private final DatabaseManager databaseManager;
+    private final ItemCache itemCache;
+    private final Map<UUID, Integer> claimableCounts;
+
+    public WarehouseManager(GAuctionPlugin plugin) {
+        this.logger = plugin.getPluginLogger();
+        this.databaseManager = plugin.getDatabaseManager();
+        this.itemCache = plugin.getItemCache();
+        this.claimableCounts = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Rebuilds the counters with one aggregate query
+     * Sellers own their expired and cancelled items, buyers own what they won
+     */
+    public void loadCounts() {
+        claimableCounts.clear();
+        try (Connection conn = databaseManager.getDatabaseConnection().getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                "SELECT seller_uuid AS owner_uuid, COUNT(*) AS total FROM auction_history " +
+                "WHERE status IN ('EXPIRED', 'CANCELLED') GROUP BY seller_uuid " +
+                "UNION ALL " +
+                "SELECT buyer_uuid AS owner_uuid, COUNT(*) AS total FROM auction_history " +
+                "WHERE status = 'SOLD' AND buyer_uuid IS NOT NULL GROUP BY buyer_uuid"
+             )) {
+
+            try (var rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    UUID owner = UUID.fromString(rs.getString("owner_uuid"));
+                    claimableCounts.merge(owner, rs.getInt("total"), Integer::sum);
+                }
+            }
+            logger.info("Loaded warehouse counters for {} players", claimableCounts.size());
+        } catch (SQLException | IllegalArgumentException e) {
+            logger.error("Error loading warehouse counters", e);
+        }
+    }
+
+    /**
+     * Marks warehouse rows as collected in a single transaction
+     * Rows already collected (double click, second open GUI) are left out of the result,
+     * so callers must only hand out the items whose ids come back.
+     * Runs on the writer connection, never call it from the main thread.
+     * @param owner Player collecting the items
+     * @param ids Ids of the auction_history rows to claim
+     * @return Ids that were claimed by this call
+     * @throws SQLException if the transaction failed, nothing was claimed
+     */
+    public Set<Long> claimItems(UUID owner, Collection<Long> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> claimed = new LinkedHashSet<>();
+        List<Long> idList = new ArrayList<>(ids);
+        try (Connection conn = databaseManager.getDatabaseConnection().getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                for (int start = 0; start < idList.size(); start += CLAIM_CHUNK_SIZE) {
+                    List<Long> chunk = idList.subList(start, Math.min(start + CLAIM_CHUNK_SIZE, idList.size()));
+                    claimed.addAll(claimChunk(conn, chunk));
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            logger.error("Error claiming {} warehouse items for {}", ids.size(), owner, e);
+            throw e;
+        }
+
+        for (int i = 0; i < claimed.size(); i++) {
+            itemCollected(owner);
+        }
+        // Collected rows only show up in the history from now on, no need to keep them hot
+        itemCache.invalidate(claimed);
+        return claimed;
+    }
+
+    /**
+     * Puts claimed rows back in the warehouse when their items could not be handed out
+     * @param owner Player the rows were claimed for
+     * @param statuses Status each row had before it was claimed, by id
+     */
+    public void unclaimItems(UUID owner, Map<Long, String> statuses) {
+        for (Map.Entry<Long, String> entry : statuses.entrySet()) {
+            long id = entry.getKey();
+            String status = entry.getValue();
+            databaseManager.getWriteQueue().submit(new PendingWrite(
+                "UPDATE auction_history SET status = ? WHERE id = ? AND status = 'COLLECTED'",
+                stmt -> {
+                    stmt.setString(1, status);
+                    stmt.setLong(2, id);
+                }
+            ));
+            itemStored(owner);
+        }
+        logger.warn("Returned {} claimed items to the warehouse of {}", statuses.size(), owner);
+    }
+
+    /**
+     * Claims one chunk of ids inside the caller's transaction
+     * @throws SQLException if another claim touched the same rows in between
+     */
+    private List<Long> claimChunk(Connection conn, List<Long> chunk) throws SQLException {
+        String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+
+        List<Long> unclaimed = new ArrayList<>(chunk.size());
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT id FROM auction_history WHERE id IN (" + placeholders + ") AND status <> 'COLLECTED'")) {
+            for (int i = 0; i < chunk.size(); i++) {
+                stmt.setLong(i + 1, chunk.get(i));
+            }
+            try (var rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    unclaimed.add(rs.getLong("id"));
+                }
+            }
+        }
+        if (unclaimed.isEmpty()) {
+            return unclaimed;
+        }
+
+        String claimPlaceholders = String.join(", ", Collections.nCopies(unclaimed.size(), "?"));
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "UPDATE auction_history SET status = 'COLLECTED' " +
+                "WHERE id IN (" + claimPlaceholders + ") AND status <> 'COLLECTED'")) {
+            for (int i = 0; i < unclaimed.size(); i++) {
+                stmt.setLong(i + 1, unclaimed.get(i));
+            }
+
+            int updated = stmt.executeUpdate();
+            if (updated != unclaimed.size()) {
+                throw new SQLException("Expected to claim " + unclaimed.size() + " rows but updated " + updated);
+            }
+        }
+        return unclaimed;
+    }
+
+    /**
+     * Gets who can collect an item stored with the given status
+     * @return Owner UUID or null if nobody can collect it
+     */
+    public static UUID getOwner(AuctionStatus status, UUID sellerUUID, UUID buyerUUID) {
+        return switch (status) {
+            case EXPIRED, CANCELLED -> sellerUUID;
+            case SOLD -> buyerUUID;
+            default -> null;
+        };
+    }
+
+    /**
+     * Records a new claimable item for a player
+     */
+    public void itemStored(UUID owner) {
+        if (owner != null) {
+            claimableCounts.merge(owner, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Records that a player collected one of their items
+     */
+    public void itemCollected(UUID owner) {
+        claimableCounts.computeIfPresent(owner, (uuid, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Gets how many items a player can collect
+     */
+    public int getClaimableCount(UUID owner) {
+        return claimableCounts.getOrDefault(owner, 0);
+    }
+
+    /**
+     * Checks if a player has anything to collect
+     */
+    public boolean hasClaimableItems(UUID owner) {
+        return claimableCounts.containsKey(owner);
+    }
+}
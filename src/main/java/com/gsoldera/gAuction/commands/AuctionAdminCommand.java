@@ -1,7 +1,9 @@
 package com.gsoldera.gAuction.commands;
 
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.bukkit.Material;
 import org.bukkit.block.Block;
@@ -15,7 +17,9 @@ import org.jetbrains.annotations.NotNull;
 
 import com.gsoldera.gAuction.GAuctionPlugin;
 import com.gsoldera.gAuction.auction.AuctionItem;
+import com.gsoldera.gAuction.database.WriteBehindQueue;
 import com.gsoldera.gAuction.messages.MessageManager;
+import com.gsoldera.gAuction.utils.ItemCache;
 
 /**
  * Handles admin auction commands
@@ -23,9 +27,10 @@ import com.gsoldera.gAuction.messages.MessageManager;
  * - /auctionadmin banitem - Ban item in hand
  * - /auctionadmin banchest - Ban items in chest
  * - /auctionadmin setduration <seconds> - Set auction duration
- * - /auctionadmin cancelauction - Cancel current auction
- * - /auctionadmin forcestart [min bid] [step] - Force start auction
+ * - /auctionadmin cancelauction [lane] - Cancel the auction running in a lane
+ * - /auctionadmin forcestart [min bid] [step] [lane] - Force start auction in a lane
  * - /auctionadmin reload - Reload config
+ * - /auctionadmin stats - Show persistence queue metrics
  */
 public final class AuctionAdminCommand implements CommandExecutor {
     private final GAuctionPlugin plugin;
@@ -46,8 +51,7 @@ public final class AuctionAdminCommand implements CommandExecutor {
         }
 
         if (!player.hasPermission("gauction.admin")) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.admin.error.no_permission", placeholders);
+            messageManager.sendMessage(player, "messages.admin.error.no_permission");
             return true;
         }
 
@@ -59,9 +63,10 @@ public final class AuctionAdminCommand implements CommandExecutor {
             case "banitem" -> handleBanItem(player);
             case "banchest" -> handleBanChest(player);
             case "setduration" -> handleSetDuration(player, args);
-            case "cancelauction" -> handleCancelAuction(player);
+            case "cancelauction" -> handleCancelAuction(player, args);
             case "forcestart" -> handleForceStart(player, args);
             case "reload" -> handleReload(player);
+            case "stats" -> handleStats(player);
             default -> showHelp(player);
         };
     }
@@ -69,19 +74,14 @@ public final class AuctionAdminCommand implements CommandExecutor {
     private boolean handleBanItem(Player player) {
         ItemStack item = player.getInventory().getItemInMainHand();
         if (item.getType() == Material.AIR) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.admin.ban_item.no_item", placeholders);
+            messageManager.sendMessage(player, "messages.admin.ban_item.no_item");
             return true;
         }
 
-        String itemId = item.getType().getKey().toString();
-        if (plugin.getConfigManager().getBannedItems().contains(itemId)) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.admin.ban_item.already_banned", placeholders);
+        if (!plugin.getConfigManager().addBannedItem(item.getType().getKey().toString())) {
+            messageManager.sendMessage(player, "messages.admin.ban_item.already_banned");
             return true;
         }
-
-        plugin.getConfigManager().addBannedItem(itemId);
         
         Map<String, String> placeholders = new HashMap<>();
         placeholders.put("item", item.getType().name());
@@ -92,24 +92,21 @@ public final class AuctionAdminCommand implements CommandExecutor {
     private boolean handleBanChest(Player player) {
         Block targetBlock = player.getTargetBlock(null, 5);
         if (!(targetBlock.getState() instanceof Chest chest)) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.admin.ban_chest.no_chest", placeholders);
+            messageManager.sendMessage(player, "messages.admin.ban_chest.no_chest");
             return true;
         }
 
-        int bannedCount = 0;
+        // Collected first so the whole chest is banned with one config write
+        Set<String> itemIds = new LinkedHashSet<>();
         ItemStack[] contents = chest.getInventory().getContents();
         if (contents != null) {
             for (ItemStack item : contents) {
                 if (item != null && item.getType() != Material.AIR) {
-                    String itemId = item.getType().getKey().toString();
-                    if (!plugin.getConfigManager().getBannedItems().contains(itemId)) {
-                        plugin.getConfigManager().addBannedItem(itemId);
-                        bannedCount++;
-                    }
+                    itemIds.add(item.getType().getKey().toString());
                 }
             }
         }
+        int bannedCount = plugin.getConfigManager().addBannedItems(itemIds);
 
         Map<String, String> placeholders = new HashMap<>();
         placeholders.put("count", String.valueOf(bannedCount));
@@ -119,59 +116,56 @@ public final class AuctionAdminCommand implements CommandExecutor {
 
     private boolean handleSetDuration(Player player, String[] args) {
         if (args.length < 2) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.admin.duration.usage", placeholders);
+            messageManager.sendMessage(player, "messages.admin.duration.usage");
             return true;
         }
 
         try {
             int duration = Integer.parseInt(args[1]);
             if (duration < MIN_DURATION || duration > MAX_DURATION) {
-                Map<String, String> placeholders = new HashMap<>();
-                messageManager.sendMessage(player, "messages.admin.duration.invalid_range", placeholders);
+                messageManager.sendMessage(player, "messages.admin.duration.invalid_range");
                 return true;
             }
 
             plugin.getConfigManager().setAuctionDuration(duration);
-            plugin.getConfigManager().saveConfig();
             
             Map<String, String> placeholders = new HashMap<>();
             placeholders.put("duration", String.valueOf(duration));
             messageManager.sendMessage(player, "messages.admin.duration.success", placeholders);
             return true;
         } catch (NumberFormatException e) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.admin.duration.invalid_number", placeholders);
+            messageManager.sendMessage(player, "messages.admin.duration.invalid_number");
             return true;
         }
     }
 
-    private boolean handleCancelAuction(Player player) {
-        AuctionItem currentAuction = plugin.getAuctionManager().getCurrentAuction();
+    private boolean handleCancelAuction(Player player, String[] args) {
+        int lane = parseLane(player, args, 1, plugin.getAuctionManager().getFirstActiveLane());
+        if (lane < 0) {
+            return true;
+        }
+
+        AuctionItem currentAuction = plugin.getAuctionManager().getCurrentAuction(lane);
         if (currentAuction == null) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.admin.cancel.no_auction", placeholders);
+            messageManager.sendMessage(player, "messages.admin.cancel.no_auction");
             return true;
         }
 
-        plugin.getAuctionManager().setCurrentAuction(null);
+        plugin.getAuctionManager().setCurrentAuction(lane, null);
         
-        Map<String, String> placeholders = new HashMap<>();
-        messageManager.sendMessage(player, "messages.admin.cancel.success", placeholders);
+        messageManager.sendMessage(player, "messages.admin.cancel.success");
         return true;
     }
 
     private boolean handleForceStart(Player player, String[] args) {
         ItemStack item = player.getInventory().getItemInMainHand();
         if (item.getType() == Material.AIR) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.admin.force_start.no_item", placeholders);
+            messageManager.sendMessage(player, "messages.admin.force_start.no_item");
             return true;
         }
 
-        if (plugin.getConfigManager().getBannedItems().contains(item.getType().getKey().toString())) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.admin.force_start.banned_item", placeholders);
+        if (plugin.getConfigManager().isItemBanned(item)) {
+            messageManager.sendMessage(player, "messages.admin.force_start.banned_item");
             return true;
         }
 
@@ -182,8 +176,7 @@ public final class AuctionAdminCommand implements CommandExecutor {
             try {
                 minBid = Double.parseDouble(args[1]);
             } catch (NumberFormatException e) {
-                Map<String, String> placeholders = new HashMap<>();
-                messageManager.sendMessage(player, "messages.admin.force_start.invalid_min_bid", placeholders);
+                messageManager.sendMessage(player, "messages.admin.force_start.invalid_min_bid");
                 return true;
             }
 
@@ -191,37 +184,91 @@ public final class AuctionAdminCommand implements CommandExecutor {
                 try {
                     stepValue = Double.parseDouble(args[2]);
                 } catch (NumberFormatException e) {
-                    Map<String, String> placeholders = new HashMap<>();
-                    messageManager.sendMessage(player, "messages.admin.force_start.invalid_step", placeholders);
+                    messageManager.sendMessage(player, "messages.admin.force_start.invalid_step");
                     return true;
                 }
             }
         }
 
+        int lane = parseLane(player, args, 3, 0);
+        if (lane < 0) {
+            return true;
+        }
+
         AuctionItem auction = new AuctionItem(player, item, minBid, stepValue, 
             plugin.getConfigManager().getAuctionDuration() * 1000L);
-        plugin.getAuctionManager().setCurrentAuction(auction);
+        plugin.getAuctionManager().setCurrentAuction(lane, auction);
         return true;
     }
 
+    /**
+     * Reads an optional 1-based lane number from the arguments
+     * @param defaultLane Lane used when the argument is missing
+     * @return Zero-based lane index or -1 if the argument is invalid
+     */
+    private int parseLane(Player player, String[] args, int position, int defaultLane) {
+        if (args.length <= position) {
+            return defaultLane;
+        }
+
+        try {
+            int lane = Integer.parseInt(args[position]) - 1;
+            if (plugin.getAuctionManager().isValidLane(lane)) {
+                return lane;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+
+        Map<String, String> placeholders = new HashMap<>();
+        placeholders.put("max", String.valueOf(plugin.getAuctionManager().getLaneCount()));
+        messageManager.sendMessage(player, "messages.player.auction.invalid_lane", placeholders);
+        return -1;
+    }
+
     private boolean handleReload(Player player) {
         try {
             plugin.getConfigManager().reloadConfig();
+            messageManager.reload();
+            plugin.getGuiTemplates().rebuild();
             plugin.getAuctionManager().reloadFromConfig();
             
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.admin.reload.success", placeholders);
+            messageManager.sendMessage(player, "messages.admin.reload.success");
         } catch (Exception e) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.admin.reload.error", placeholders);
+            messageManager.sendMessage(player, "messages.admin.reload.error");
             plugin.getPluginLogger().error("Error reloading config", e);
         }
         return true;
     }
 
-    private boolean showHelp(Player player) {
+    private boolean handleStats(Player player) {
+        WriteBehindQueue.Metrics metrics = plugin.getDatabaseManager().getWriteQueue().getMetrics();
+
         Map<String, String> placeholders = new HashMap<>();
-        messageManager.sendMessage(player, "messages.admin.help", placeholders);
+        placeholders.put("depth", String.valueOf(metrics.queueDepth()));
+        placeholders.put("capacity", String.valueOf(metrics.capacity()));
+        placeholders.put("writes", String.valueOf(metrics.totalWrites()));
+        placeholders.put("flushes", String.valueOf(metrics.totalFlushes()));
+        placeholders.put("last_flush", String.format("%.2f", metrics.lastFlushMillis()));
+        placeholders.put("avg_flush", String.format("%.2f", metrics.avgFlushMillis()));
+        placeholders.put("max_flush", String.format("%.2f", metrics.maxFlushMillis()));
+        placeholders.put("over_capacity", String.valueOf(metrics.overCapacityWrites()));
+        placeholders.put("failed", String.valueOf(metrics.failedWrites()));
+
+        ItemCache.Stats cacheStats = plugin.getItemCache().getStats();
+        placeholders.put("cache_entries", String.valueOf(cacheStats.entries()));
+        placeholders.put("cache_size", String.valueOf(cacheStats.weight() / 1024));
+        placeholders.put("cache_max", String.valueOf(cacheStats.maxWeight() / 1024));
+        placeholders.put("cache_hits", String.valueOf(cacheStats.hits()));
+        placeholders.put("cache_misses", String.valueOf(cacheStats.misses()));
+        placeholders.put("cache_hit_rate", String.format("%.1f", cacheStats.hitRate() * 100));
+        placeholders.put("cache_evictions", String.valueOf(cacheStats.evictions()));
+        messageManager.sendMessage(player, "messages.admin.stats", placeholders);
+        return true;
+    }
+
+    private boolean showHelp(Player player) {
+        messageManager.sendMessage(player, "messages.admin.help");
         return true;
     }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.gsoldera.gAuction.commands;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.bukkit.Material;
@@ -13,6 +16,9 @@ import org.jetbrains.annotations.NotNull;
 
 import com.gsoldera.gAuction.GAuctionPlugin;
 import com.gsoldera.gAuction.auction.AuctionItem;
+import com.gsoldera.gAuction.auction.AuctionManager;
+import com.gsoldera.gAuction.auction.AuctionManager.QueueSlot;
+import com.gsoldera.gAuction.config.AuctionSettings;
 import com.gsoldera.gAuction.gui.AuctionConfirmGUI;
 import com.gsoldera.gAuction.messages.MessageManager;
 
@@ -21,8 +27,12 @@ import com.gsoldera.gAuction.messages.MessageManager;
  * Commands:
  * - /auction - Opens auction menu
  * - /auction create [minBid] [step] - Creates new auction
- * - /auction bid <amount> - Places bid on current auction
- * - /auction info - Shows current auction info
+ * - /auction bid <amount> [lane] - Places bid on the auction running in a lane
+ * - /auction max <amount> [lane] - Sets a hidden maximum the plugin bids up to
+ * - /auction info [lane] - Shows info about the auction running in a lane
+ * - /auction broadcasts - Turns auction broadcasts off or back on
+ * - /auction boost - Pays to move the player's next listing up the queue
+ * - /auction queue - Shows the position and estimated start of the player's listings
  */
 public final class AuctionCommand implements CommandExecutor {
     private final GAuctionPlugin plugin;
@@ -42,8 +52,7 @@ public final class AuctionCommand implements CommandExecutor {
         }
 
         if (!player.hasPermission("gauction.use")) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.admin.error.no_permission", placeholders);
+            messageManager.sendMessage(player, "messages.admin.error.no_permission");
             return true;
         }
 
@@ -55,7 +64,11 @@ public final class AuctionCommand implements CommandExecutor {
         return switch (args[0].toLowerCase()) {
             case "create", "criar" -> handleCreateAuction(player, args);
             case "bid", "lance" -> handlePlaceBid(player, args);
-            case "info" -> handleAuctionInfo(player);
+            case "max", "maximo" -> handleMaxBid(player, args);
+            case "info" -> handleAuctionInfo(player, args);
+            case "broadcasts", "avisos" -> handleToggleBroadcasts(player);
+            case "boost", "impulsionar" -> handleBoost(player);
+            case "queue", "fila" -> handleQueueStatus(player);
             default -> showHelp(player);
         };
     }
@@ -65,36 +78,32 @@ public final class AuctionCommand implements CommandExecutor {
      */
     private boolean handleCreateAuction(Player player, String[] args) {
         if (!player.hasPermission("gauction.create")) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.admin.error.no_permission", placeholders);
+            messageManager.sendMessage(player, "messages.admin.error.no_permission");
             return true;
         }
 
         ItemStack itemToAuction = player.getInventory().getItemInMainHand();
         
         if (itemToAuction.getType() == Material.AIR) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.player.auction.no_item", placeholders);
+            messageManager.sendMessage(player, "messages.player.auction.no_item");
             return true;
         }
 
-        if (plugin.getConfigManager().getBannedItems().contains(itemToAuction.getType().name())) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.player.auction.banned_item", placeholders);
+        if (plugin.getConfigManager().isItemBanned(itemToAuction)) {
+            messageManager.sendMessage(player, "messages.player.auction.banned_item");
             return true;
         }
 
         double minBid = 1.0;
-        double stepValue = plugin.getConfigManager().isStepEnabled() ? 
-            plugin.getConfigManager().getStepPercentage() : 5.0;
+        AuctionSettings settings = plugin.getConfigManager().getSettings();
+        double stepValue = settings.stepEnabled() ? settings.stepPercentage() : 5.0;
 
         if (args.length >= 2) {
             try {
                 minBid = Double.parseDouble(args[1]);
                 stepValue = minBid * (stepValue / 100.0);
             } catch (NumberFormatException e) {
-                Map<String, String> placeholders = new HashMap<>();
-                messageManager.sendMessage(player, "messages.player.auction.invalid_min_bid", placeholders);
+                messageManager.sendMessage(player, "messages.player.auction.invalid_min_bid");
                 return true;
             }
         }
@@ -106,8 +115,7 @@ public final class AuctionCommand implements CommandExecutor {
                     stepValue = stepArg;
                 }
             } catch (NumberFormatException e) {
-                Map<String, String> placeholders = new HashMap<>();
-                messageManager.sendMessage(player, "messages.player.auction.invalid_step", placeholders);
+                messageManager.sendMessage(player, "messages.player.auction.invalid_step");
                 return true;
             }
         }
@@ -121,13 +129,16 @@ public final class AuctionCommand implements CommandExecutor {
      * Handles bid placement command
      */
     private boolean handlePlaceBid(Player player, String[] args) {
-        AuctionItem currentAuction = plugin.getAuctionManager().getCurrentAuction();
-
         if (args.length < 2) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.player.bids.usage", placeholders);
+            messageManager.sendMessage(player, "messages.player.bids.usage");
+            return true;
+        }
+
+        int lane = parseLane(player, args, 2);
+        if (lane < 0) {
             return true;
         }
+        AuctionItem currentAuction = plugin.getAuctionManager().getCurrentAuction(lane);
 
         if (currentAuction == null) {
             Map<String, String> placeholders = new HashMap<>();
@@ -145,7 +156,7 @@ public final class AuctionCommand implements CommandExecutor {
                 return true;
             }
 
-            return plugin.getAuctionManager().placeBid(player, bidAmount);
+            return plugin.getAuctionManager().placeBid(player, lane, bidAmount);
         } catch (NumberFormatException e) {
             Map<String, String> placeholders = new HashMap<>();
             placeholders.put("reason", "Invalid bid amount");
@@ -154,15 +165,44 @@ public final class AuctionCommand implements CommandExecutor {
         }
     }
 
+    /**
+     * Handles the hidden maximum bid command
+     */
+    private boolean handleMaxBid(Player player, String[] args) {
+        if (args.length < 2) {
+            messageManager.sendMessage(player, "messages.player.proxy.usage");
+            return true;
+        }
+
+        int lane = parseLane(player, args, 2);
+        if (lane < 0) {
+            return true;
+        }
+
+        double maxAmount;
+        try {
+            maxAmount = Double.parseDouble(args[1]);
+        } catch (NumberFormatException e) {
+            messageManager.sendMessage(player, "messages.player.proxy.usage");
+            return true;
+        }
+
+        plugin.getAuctionManager().placeMaxBid(player, lane, maxAmount);
+        return true;
+    }
+
     /**
      * Handles auction info command
      */
-    private boolean handleAuctionInfo(Player player) {
-        AuctionItem currentAuction = plugin.getAuctionManager().getCurrentAuction();
+    private boolean handleAuctionInfo(Player player, String[] args) {
+        int lane = parseLane(player, args, 1);
+        if (lane < 0) {
+            return true;
+        }
+        AuctionItem currentAuction = plugin.getAuctionManager().getCurrentAuction(lane);
 
         if (currentAuction == null) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.player.auction.info_failed", placeholders);
+            messageManager.sendMessage(player, "messages.player.auction.info_failed");
             return true;
         }
 
@@ -177,12 +217,95 @@ public final class AuctionCommand implements CommandExecutor {
         return true;
     }
 
+    /**
+     * Reads an optional 1-based lane number from the arguments
+     * Without one, the first lane running an auction is used
+     * @return Zero-based lane index or -1 if the argument is invalid
+     */
+    private int parseLane(Player player, String[] args, int position) {
+        if (args.length <= position) {
+            return plugin.getAuctionManager().getFirstActiveLane();
+        }
+
+        try {
+            int lane = Integer.parseInt(args[position]) - 1;
+            if (plugin.getAuctionManager().isValidLane(lane)) {
+                return lane;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+
+        Map<String, String> placeholders = new HashMap<>();
+        placeholders.put("max", String.valueOf(plugin.getAuctionManager().getLaneCount()));
+        messageManager.sendMessage(player, "messages.player.auction.invalid_lane", placeholders);
+        return -1;
+    }
+
+    /**
+     * Handles the broadcast toggle command
+     */
+    private boolean handleToggleBroadcasts(Player player) {
+        if (messageManager.toggleBroadcasts(player)) {
+            messageManager.sendMessage(player, "messages.player.broadcasts.enabled");
+        } else {
+            messageManager.sendMessage(player, "messages.player.broadcasts.disabled");
+        }
+        return true;
+    }
+
+    /**
+     * Handles the queue boost command
+     */
+    private boolean handleBoost(Player player) {
+        if (!player.hasPermission("gauction.create")) {
+            messageManager.sendMessage(player, "messages.admin.error.no_permission");
+            return true;
+        }
+
+        plugin.getAuctionManager().boostListing(player);
+        return true;
+    }
+
+    /**
+     * Handles the queue status command
+     * Each listing is looked up in the queue's index, the queue itself is not walked
+     */
+    private boolean handleQueueStatus(Player player) {
+        AuctionManager auctionManager = plugin.getAuctionManager();
+        List<AuctionItem> listings = new ArrayList<>();
+        Map<AuctionItem, QueueSlot> slots = new HashMap<>();
+        for (AuctionItem auction : auctionManager.getQueuedListings(player.getUniqueId())) {
+            // Skips a listing that started since the list was read
+            QueueSlot slot = auctionManager.getQueueSlot(auction);
+            if (slot != null) {
+                listings.add(auction);
+                slots.put(auction, slot);
+            }
+        }
+
+        if (listings.isEmpty()) {
+            messageManager.sendMessage(player, "messages.player.queue.empty");
+            return true;
+        }
+
+        listings.sort(Comparator.comparingInt(auction -> slots.get(auction).position()));
+        for (AuctionItem auction : listings) {
+            QueueSlot slot = slots.get(auction);
+            Map<String, String> placeholders = new HashMap<>();
+            placeholders.put("item", auction.getItem().getType().name());
+            placeholders.put("position", String.valueOf(slot.position() + 1));
+            placeholders.put("eta", formatTimeRemaining(slot.estimatedWait()));
+            messageManager.sendMessage(player, "messages.player.queue.position", placeholders);
+        }
+        return true;
+    }
+
     /**
      * Shows command help
      */
     private boolean showHelp(Player player) {
-        Map<String, String> placeholders = new HashMap<>();
-        messageManager.sendMessage(player, "messages.player.auction.help", placeholders);
+        messageManager.sendMessage(player, "messages.player.auction.help");
         return true;
     }
 
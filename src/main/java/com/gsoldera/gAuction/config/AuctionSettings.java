@@ -0,0 +1,157 @@
+package com.gsoldera.gAuction.config;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.slf4j.Logger;
+
+import com.gsoldera.gAuction.auction.AuctionCategory;
+
+/**
+ * Immutable snapshot of the auction section of config.yml
+ * A new snapshot is parsed and validated as a whole and then published in one step, so
+ * readers always see either the old or the new settings and never a mix of both.
+ * @param auctionDuration Auction duration in seconds
+ * @param maxQueueSize Maximum number of queued auctions
+ * @param auctionLanes Number of auctions running at once, only read at startup
+ * @param stepEnabled Whether bids must beat the current one by the auction's step
+ * @param stepPercentage Step as a percentage of the minimum bid
+ * @param publicationFee Fee charged to sellers when queueing an auction
+ * @param bidFee Percentage taken from the winning bid
+ * @param bannedItems Raw banned_items entries
+ * @param bannedItemRules Rules compiled from bannedItems
+ * @param maxItemsPerPlayer Maximum queued auctions per player
+ * @param auctionCooldown Seconds between auctions of the same player
+ * @param queueScheduler FIFO or FAIR, only read at startup
+ * @param priorityFee Price of moving a listing up the queue, 0 disables boosts
+ * @param categoryWeights Share of the queue each category gets under the fair scheduler
+ * @param softCloseWindow Seconds before the end in which a bid extends the auction, 0 disables it
+ * @param softCloseExtension Seconds an auction has left after a late bid extends it
+ * @param softCloseMaxExtensions Most extensions per auction
+ */
+public record AuctionSettings(
+    int auctionDuration,
+    int maxQueueSize,
+    int auctionLanes,
+    boolean stepEnabled,
+    double stepPercentage,
+    double publicationFee,
+    double bidFee,
+    List<String> bannedItems,
+    BannedItemRules bannedItemRules,
+    int maxItemsPerPlayer,
+    int auctionCooldown,
+    String queueScheduler,
+    double priorityFee,
+    Map<AuctionCategory, Integer> categoryWeights,
+    int softCloseWindow,
+    int softCloseExtension,
+    int softCloseMaxExtensions
+) {
+    // One row of the main GUI holds at most seven lanes
+    public static final int MAX_AUCTION_LANES = 7;
+
+    public AuctionSettings {
+        bannedItems = List.copyOf(bannedItems);
+        categoryWeights = Map.copyOf(categoryWeights);
+    }
+
+    /**
+     * Parses and validates the settings from a loaded configuration
+     * Out of range values are logged and replaced by their defaults
+     * @param config Root of config.yml
+     * @param logger Logger for invalid values
+     * @return The parsed settings
+     */
+    public static AuctionSettings parse(ConfigurationSection config, Logger logger) {
+        int duration = config.getInt("auction.duration", 300);
+        if (duration <= 0) {
+            logger.warn("Invalid auction.duration {}, defaulting to 300", duration);
+            duration = 300;
+        }
+
+        int maxQueueSize = config.getInt("auction.max_queue_size", 10);
+        if (maxQueueSize <= 0) {
+            logger.warn("Invalid auction.max_queue_size {}, defaulting to 10", maxQueueSize);
+            maxQueueSize = 10;
+        }
+
+        int lanes = Math.max(1, Math.min(MAX_AUCTION_LANES, config.getInt("auction.lanes", 1)));
+
+        double stepPercentage = config.getDouble("auction.step.percentage", 10.0);
+        if (stepPercentage <= 0 || !Double.isFinite(stepPercentage)) {
+            logger.warn("Invalid auction.step.percentage {}, defaulting to 10", stepPercentage);
+            stepPercentage = 10.0;
+        }
+
+        double publicationFee = Math.max(0, config.getDouble("auction.fees.publication", 0.0));
+        double bidFee = Math.max(0, Math.min(100, config.getDouble("auction.fees.bid", 0.0)));
+
+        List<String> bannedItems = config.getStringList("auction.banned_items");
+
+        Map<AuctionCategory, Integer> categoryWeights = new EnumMap<>(AuctionCategory.class);
+        for (AuctionCategory category : AuctionCategory.values()) {
+            String path = "auction.queue.category_weights." + category.name().toLowerCase();
+            int weight = config.getInt(path, category == AuctionCategory.RARE ? 2 : 1);
+            if (weight < 1) {
+                logger.warn("Invalid {} {}, defaulting to 1", path, weight);
+                weight = 1;
+            }
+            categoryWeights.put(category, weight);
+        }
+
+        int softCloseWindow = Math.max(0, config.getInt("auction.soft_close.window", 30));
+        int softCloseExtension = config.getInt("auction.soft_close.extension", 30);
+        if (softCloseExtension <= 0) {
+            logger.warn("Invalid auction.soft_close.extension {}, defaulting to 30", softCloseExtension);
+            softCloseExtension = 30;
+        }
+
+        return new AuctionSettings(
+            duration,
+            maxQueueSize,
+            lanes,
+            config.getBoolean("auction.step.enabled", true),
+            stepPercentage,
+            publicationFee,
+            bidFee,
+            bannedItems,
+            BannedItemRules.compile(bannedItems, logger),
+            Math.max(1, config.getInt("auction.max_items_per_player", 3)),
+            Math.max(0, config.getInt("auction.cooldown.seconds", 60)),
+            config.getString("auction.queue.scheduler", "FAIR"),
+            Math.max(0, config.getDouble("auction.queue.priority_fee", 0.0)),
+            categoryWeights,
+            softCloseWindow,
+            softCloseExtension,
+            Math.max(0, config.getInt("auction.soft_close.max_extensions", 5))
+        );
+    }
+
+    /**
+     * Gets the queue share of a category, at least 1
+     */
+    public int getCategoryWeight(AuctionCategory category) {
+        return categoryWeights.getOrDefault(category, 1);
+    }
+
+    /**
+     * Gets a copy with another auction duration
+     */
+    public AuctionSettings withAuctionDuration(int duration) {
+        return new AuctionSettings(duration, maxQueueSize, auctionLanes, stepEnabled, stepPercentage,
+            publicationFee, bidFee, bannedItems, bannedItemRules, maxItemsPerPlayer, auctionCooldown,
+            queueScheduler, priorityFee, categoryWeights, softCloseWindow, softCloseExtension, softCloseMaxExtensions);
+    }
+
+    /**
+     * Gets a copy with other banned items, compiling their rules
+     */
+    public AuctionSettings withBannedItems(List<String> items, Logger logger) {
+        return new AuctionSettings(auctionDuration, maxQueueSize, auctionLanes, stepEnabled, stepPercentage,
+            publicationFee, bidFee, items, BannedItemRules.compile(items, logger), maxItemsPerPlayer, auctionCooldown,
+            queueScheduler, priorityFee, categoryWeights, softCloseWindow, softCloseExtension, softCloseMaxExtensions);
+    }
+}
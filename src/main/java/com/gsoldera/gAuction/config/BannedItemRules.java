@@ -0,0 +1,207 @@
+package com.gsoldera.gAuction.config;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Tag;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.slf4j.Logger;
+
+/**
+ * Banned item rules compiled from the auction.banned_items list
+ * Supported entries:
+ * - "minecraft:diamond" or "DIAMOND" - an exact material
+ * - "#minecraft:logs" - every material in an item or block tag
+ * - "enchant:minecraft:sharpness" or "enchant:sharpness>=5" - items with an enchantment, optionally from a level up
+ * - "model:1234" - items with that custom model data
+ * - "name:&lt;regex&gt;" - items whose display name, without colors, matches the regex
+ * Exact materials are one EnumSet lookup; the other rules only run when that misses,
+ * and item meta is only read if a rule needs it.
+ */
+public final class BannedItemRules {
+    private static final String TAG_PREFIX = "#";
+    private static final String ENCHANT_PREFIX = "enchant:";
+    private static final String MODEL_PREFIX = "model:";
+    private static final String NAME_PREFIX = "name:";
+
+    private static final BannedItemRules EMPTY = new BannedItemRules(
+        EnumSet.noneOf(Material.class), List.of(), List.of(), Set.of(), List.of());
+
+    private final Set<Material> materials;
+    private final List<Tag<Material>> tags;
+    private final List<EnchantmentRule> enchantments;
+    private final Set<Integer> modelData;
+    private final List<Pattern> namePatterns;
+
+    private record EnchantmentRule(Enchantment enchantment, int minLevel) {}
+
+    private BannedItemRules(Set<Material> materials, List<Tag<Material>> tags, List<EnchantmentRule> enchantments,
+                            Set<Integer> modelData, List<Pattern> namePatterns) {
+        this.materials = materials;
+        this.tags = tags;
+        this.enchantments = enchantments;
+        this.modelData = modelData;
+        this.namePatterns = namePatterns;
+    }
+
+    /**
+     * Gets a rule set that bans nothing
+     */
+    public static BannedItemRules empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Compiles the configured entries
+     * Entries that cannot be parsed are logged and skipped, so one typo does not unban everything else
+     * @param entries Values of auction.banned_items
+     * @param logger Logger for invalid entries
+     * @return The compiled rules
+     */
+    public static BannedItemRules compile(List<String> entries, Logger logger) {
+        Set<Material> materials = EnumSet.noneOf(Material.class);
+        List<Tag<Material>> tags = new ArrayList<>();
+        List<EnchantmentRule> enchantments = new ArrayList<>();
+        Set<Integer> modelData = new HashSet<>();
+        List<Pattern> namePatterns = new ArrayList<>();
+
+        for (String raw : entries) {
+            String entry = raw == null ? "" : raw.trim();
+            if (entry.isEmpty()) continue;
+
+            try {
+                if (entry.startsWith(TAG_PREFIX)) {
+                    Tag<Material> tag = findTag(entry.substring(TAG_PREFIX.length()));
+                    if (tag == null) {
+                        logger.warn("Unknown item tag in banned_items: {}", entry);
+                        continue;
+                    }
+                    tags.add(tag);
+                } else if (startsWithIgnoreCase(entry, ENCHANT_PREFIX)) {
+                    EnchantmentRule rule = parseEnchantment(entry.substring(ENCHANT_PREFIX.length()));
+                    if (rule == null) {
+                        logger.warn("Unknown enchantment in banned_items: {}", entry);
+                        continue;
+                    }
+                    enchantments.add(rule);
+                } else if (startsWithIgnoreCase(entry, MODEL_PREFIX)) {
+                    modelData.add(Integer.parseInt(entry.substring(MODEL_PREFIX.length()).trim()));
+                } else if (startsWithIgnoreCase(entry, NAME_PREFIX)) {
+                    namePatterns.add(Pattern.compile(entry.substring(NAME_PREFIX.length())));
+                } else {
+                    Material material = Material.matchMaterial(entry);
+                    if (material == null) {
+                        logger.warn("Unknown material in banned_items: {}", entry);
+                        continue;
+                    }
+                    materials.add(material);
+                }
+            } catch (NumberFormatException | PatternSyntaxException e) {
+                logger.warn("Invalid banned_items entry '{}': {}", entry, e.getMessage());
+            }
+        }
+
+        return new BannedItemRules(materials, List.copyOf(tags), List.copyOf(enchantments),
+            Set.copyOf(modelData), List.copyOf(namePatterns));
+    }
+
+    /**
+     * Checks if an item matches any rule
+     * @param item ItemStack to check
+     * @return true if the item is banned
+     */
+    @SuppressWarnings("deprecation")
+    public boolean isBanned(ItemStack item) {
+        if (item == null || item.getType() == Material.AIR) {
+            return false;
+        }
+
+        Material type = item.getType();
+        if (materials.contains(type)) {
+            return true;
+        }
+        for (Tag<Material> tag : tags) {
+            if (tag.isTagged(type)) {
+                return true;
+            }
+        }
+
+        if (enchantments.isEmpty() && modelData.isEmpty() && namePatterns.isEmpty()) {
+            return false;
+        }
+        if (!item.hasItemMeta()) {
+            return false;
+        }
+
+        ItemMeta meta = item.getItemMeta();
+        if (!enchantments.isEmpty() && meta.hasEnchants()) {
+            Map<Enchantment, Integer> itemEnchants = meta.getEnchants();
+            for (EnchantmentRule rule : enchantments) {
+                Integer level = itemEnchants.get(rule.enchantment());
+                if (level != null && level >= rule.minLevel()) {
+                    return true;
+                }
+            }
+        }
+        if (!modelData.isEmpty() && meta.hasCustomModelData() && modelData.contains(meta.getCustomModelData())) {
+            return true;
+        }
+        if (!namePatterns.isEmpty() && meta.hasDisplayName()) {
+            String name = ChatColor.stripColor(meta.getDisplayName());
+            for (Pattern pattern : namePatterns) {
+                if (pattern.matcher(name).find()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a material is banned by an exact material entry
+     */
+    public boolean isMaterialBanned(Material material) {
+        return materials.contains(material);
+    }
+
+    private static Tag<Material> findTag(String name) {
+        NamespacedKey key = NamespacedKey.fromString(name.trim().toLowerCase());
+        if (key == null) {
+            return null;
+        }
+        Tag<Material> tag = Bukkit.getTag(Tag.REGISTRY_ITEMS, key, Material.class);
+        return tag != null ? tag : Bukkit.getTag(Tag.REGISTRY_BLOCKS, key, Material.class);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static EnchantmentRule parseEnchantment(String value) {
+        String name = value.trim();
+        int minLevel = 1;
+
+        int separator = name.indexOf(">=");
+        if (separator >= 0) {
+            minLevel = Integer.parseInt(name.substring(separator + 2).trim());
+            name = name.substring(0, separator).trim();
+        }
+
+        NamespacedKey key = NamespacedKey.fromString(name.toLowerCase());
+        Enchantment enchantment = key != null ? Enchantment.getByKey(key) : null;
+        return enchantment != null ? new EnchantmentRule(enchantment, minLevel) : null;
+    }
+
+    private static boolean startsWithIgnoreCase(String value, String prefix) {
+        return value.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+}
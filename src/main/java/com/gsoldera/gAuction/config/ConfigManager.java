@@ -1,10 +1,18 @@
 package com.gsoldera.gAuction.config;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
 import org.slf4j.Logger;
 
 import com.gsoldera.gAuction.GAuctionPlugin;
@@ -16,16 +24,14 @@ import com.gsoldera.gAuction.GAuctionPlugin;
 public class ConfigManager {
     private final GAuctionPlugin plugin;
     private final Logger logger;
+    private final File configFile;
+    // Bukkit's copy, only used on the main thread to write changes back
     private FileConfiguration config;
     
-    // Auction settings
-    private int auctionDuration;
-    private int maxQueueSize;
-    private boolean stepEnabled;
-    private double stepPercentage;
-    private double publicationFee;
-    private double bidFee;
-    private List<String> bannedItems;
+    // Auction settings, replaced as a whole and never modified
+    private volatile AuctionSettings settings;
+    // Modification time of config.yml when it was last read or written by the plugin
+    private volatile long loadedModified;
 
     // Database settings
     private DatabaseType databaseType;
@@ -33,9 +39,7 @@ public class ConfigManager {
 
     // Language settings
     private String language;
-
-    private int maxItemsPerPlayer;
-    private int auctionCooldown;
+    private boolean autoReload;
 
     /**
      * Represents supported database types
@@ -90,6 +94,7 @@ public class ConfigManager {
     public ConfigManager(GAuctionPlugin plugin) {
         this.plugin = plugin;
         this.logger = plugin.getPluginLogger();
+        this.configFile = new File(plugin.getDataFolder(), "config.yml");
     }
 
     /**
@@ -104,7 +109,7 @@ public class ConfigManager {
     /**
      * Loads or reloads all configuration settings from config.yml
      */
-    public void loadConfig() {
+    public synchronized void loadConfig() {
         try {
             // Save default config if it doesn't exist
             plugin.saveDefaultConfig();
@@ -113,13 +118,11 @@ public class ConfigManager {
             // Get the new config instance
             this.config = plugin.getConfig();
             
-            loadAuctionSettings();
+            settings = AuctionSettings.parse(config, logger);
+            loadedModified = configFile.lastModified();
             loadLanguageSettings();
             loadDatabaseSettings();
-            getBannedItems();
-            
-            maxItemsPerPlayer = config.getInt("auction.max_items_per_player", 3);
-            auctionCooldown = config.getInt("auction.cooldown.seconds", 60);
+            autoReload = config.getBoolean("auto_reload", true);
             
             logger.info("Configuration loaded successfully");
         } catch (Exception e) {
@@ -128,17 +131,60 @@ public class ConfigManager {
         }
     }
 
-    private void loadAuctionSettings() {
-        if (config == null) {
-            throw new IllegalStateException("Configuration not loaded");
+    /**
+     * Re-reads the auction settings if config.yml changed since the plugin last read or wrote it
+     * Meant for the config watcher thread: the file is parsed and validated into a new snapshot,
+     * which is only published if the whole file is valid. Bukkit's own copy is refreshed
+     * on the main thread afterwards so later writes do not undo the edit.
+     * Lanes, language and database settings still need a restart or reload command.
+     * @return true if new settings were published
+     */
+    public boolean reloadSettingsFromDisk() {
+        long modified = configFile.lastModified();
+        if (modified == loadedModified) {
+            return false;
+        }
+
+        YamlConfiguration yaml = new YamlConfiguration();
+        try {
+            yaml.load(configFile);
+        } catch (IOException | InvalidConfigurationException e) {
+            logger.warn("Not reloading config.yml, it could not be parsed: {}", e.getMessage());
+            loadedModified = modified;
+            return false;
+        }
+
+        AuctionSettings parsed = AuctionSettings.parse(yaml, logger);
+        if (!publishReloaded(parsed, modified)) {
+            return false;
+        }
+
+        if (plugin.isEnabled()) {
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                plugin.reloadConfig();
+                this.config = plugin.getConfig();
+            });
+        }
+        logger.info("Reloaded auction settings from config.yml");
+        return true;
+    }
+
+    /**
+     * Publishes settings parsed by the config watcher
+     * Holds the same lock as the setters so a reload cannot overwrite a change made while it was parsing.
+     * @param modified Modification time of the file that was parsed
+     * @return false if the file changed since it was read, the next check picks that up
+     */
+    private synchronized boolean publishReloaded(AuctionSettings parsed, long modified) {
+        if (configFile.lastModified() != modified) {
+            return false;
         }
-        auctionDuration = config.getInt("auction.duration", 300);
-        maxQueueSize = config.getInt("auction.max_queue_size", 10);
-        stepEnabled = config.getBoolean("auction.step.enabled", true);
-        stepPercentage = config.getDouble("auction.step.percentage", 10.0);
-        publicationFee = config.getDouble("auction.fees.publication", 0.0);
-        bidFee = config.getDouble("auction.fees.bid", 0.0);
-        bannedItems = new ArrayList<>(config.getStringList("auction.banned_items"));
+        if (parsed.auctionLanes() != settings.auctionLanes()) {
+            logger.warn("auction.lanes changed to {}, restart the server to apply it", parsed.auctionLanes());
+        }
+        settings = parsed;
+        loadedModified = modified;
+        return true;
     }
 
     /**
@@ -209,15 +255,16 @@ public class ConfigManager {
         /**
      * Saves current configuration to file
      */
-    public void saveConfig() {
+    public synchronized void saveConfig() {
         try {
-            config.set("auction.duration", auctionDuration);
-            config.set("auction.max_queue_size", maxQueueSize);
-            config.set("auction.step.enabled", stepEnabled);
-            config.set("auction.step.percentage", stepPercentage);
-            config.set("auction.fees.publication", publicationFee);
-            config.set("auction.fees.bid", bidFee);
-            config.set("auction.banned_items", bannedItems);
+            AuctionSettings current = settings;
+            config.set("auction.duration", current.auctionDuration());
+            config.set("auction.max_queue_size", current.maxQueueSize());
+            config.set("auction.step.enabled", current.stepEnabled());
+            config.set("auction.step.percentage", current.stepPercentage());
+            config.set("auction.fees.publication", current.publicationFee());
+            config.set("auction.fees.bid", current.bidFee());
+            config.set("auction.banned_items", current.bannedItems());
             
             if (databaseType == DatabaseType.MYSQL) {
                 config.set("database.type", "MYSQL");
@@ -230,7 +277,7 @@ public class ConfigManager {
                 config.set("database.type", "SQLITE");
             }
             
-            plugin.saveConfig();
+            writeConfig();
         } catch (Exception e) {
             logger.error("Error saving configuration", e);
         }
@@ -239,41 +286,88 @@ public class ConfigManager {
     /**
      * Adds an item to the banned items list
      * @param itemId The item identifier to ban
+     * @return true if the item was not banned yet
+     */
+    public boolean addBannedItem(String itemId) {
+        return itemId != null && addBannedItems(List.of(itemId)) > 0;
+    }
+
+    /**
+     * Adds several entries to the banned items list with a single config write
+     * @param itemIds Entries to ban, ones already in the list are skipped
+     * @return How many entries were added
      */
-    public void addBannedItem(String itemId) {
-        if (itemId != null && !bannedItems.contains(itemId)) {
-            bannedItems.add(itemId);
-            config.set("auction.banned_items", bannedItems);
-            plugin.saveConfig();
-            logger.info("Added {} to banned items list", itemId);
+    public synchronized int addBannedItems(Collection<String> itemIds) {
+        AuctionSettings current = settings;
+        Set<String> existing = new HashSet<>(current.bannedItems());
+        List<String> added = new ArrayList<>();
+        for (String itemId : itemIds) {
+            if (itemId != null && existing.add(itemId)) {
+                added.add(itemId);
+            }
+        }
+        if (added.isEmpty()) {
+            return 0;
         }
+
+        List<String> bannedItems = new ArrayList<>(current.bannedItems());
+        bannedItems.addAll(added);
+        settings = current.withBannedItems(bannedItems, logger);
+        config.set("auction.banned_items", bannedItems);
+        writeConfig();
+        logger.info("Added {} to banned items list", added);
+        return added.size();
+    }
+
+    /**
+     * Checks if an item matches any banned item rule
+     */
+    public boolean isItemBanned(ItemStack item) {
+        return settings.bannedItemRules().isBanned(item);
+    }
+
+    private void writeConfig() {
+        plugin.saveConfig();
+        // Our own write must not look like an edit to the config watcher
+        loadedModified = configFile.lastModified();
     }
 
     // Getters
-    public int getAuctionDuration() { return auctionDuration; }
-    public int getMaxQueueSize() { return maxQueueSize; }
-    public boolean isStepEnabled() { return config.getBoolean("auction.step.enabled", true); }
-    public double getStepPercentage() { return config.getDouble("auction.step.percentage", 10.0); }
-    public double getPublicationFee() { return publicationFee; }
-    public double getBidFee() { return bidFee; }
-    public List<String> getBannedItems() { return bannedItems; }
+    /**
+     * Gets the current auction settings
+     * Read it once and use the snapshot when several values must agree
+     */
+    public AuctionSettings getSettings() { return settings; }
+    public int getAuctionDuration() { return settings.auctionDuration(); }
+    public int getMaxQueueSize() { return settings.maxQueueSize(); }
+    public int getAuctionLanes() { return settings.auctionLanes(); }
+    public boolean isStepEnabled() { return settings.stepEnabled(); }
+    public double getStepPercentage() { return settings.stepPercentage(); }
+    public double getPublicationFee() { return settings.publicationFee(); }
+    public double getBidFee() { return settings.bidFee(); }
+    public List<String> getBannedItems() { return settings.bannedItems(); }
+    public BannedItemRules getBannedItemRules() { return settings.bannedItemRules(); }
+    public boolean isAutoReload() { return autoReload; }
     public DatabaseType getDatabaseType() { return databaseType; }
     public DatabaseCredentials getDatabaseCredentials() { return databaseCredentials; }
     public String getLanguage() {
         return language;
     }
-    public int getMaxItemsPerPlayer() { return maxItemsPerPlayer; }
-    public int getAuctionCooldown() { return auctionCooldown; }
+    public int getMaxItemsPerPlayer() { return settings.maxItemsPerPlayer(); }
+    public int getAuctionCooldown() { return settings.auctionCooldown(); }
 
     // Setters
-    public void setAuctionDuration(int duration) { this.auctionDuration = duration; }
-    public void setMaxQueueSize(int size) { this.maxQueueSize = size; }
-    public void setStepEnabled(boolean enabled) { this.stepEnabled = enabled; }
-    public void setStepPercentage(double percentage) { this.stepPercentage = percentage; }
-    public void setPublicationFee(double fee) { this.publicationFee = fee; }
-    public void setBidFee(double fee) { this.bidFee = fee; }
-    public void setBannedItems(List<String> items) { this.bannedItems = items; }
-    public void setLanguage(String language) {
+    /**
+     * Sets the auction duration and writes it to config.yml in one step
+     * Done under the same lock as a config reload, so the reload cannot publish the old value in between
+     */
+    public synchronized void setAuctionDuration(int duration) {
+        this.settings = settings.withAuctionDuration(duration);
+        config.set("auction.duration", duration);
+        writeConfig();
+    }
+
+    public synchronized void setLanguage(String language) {
         this.language = language;
         config.set("language", language);
         saveConfig();
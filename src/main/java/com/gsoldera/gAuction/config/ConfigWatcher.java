@@ -0,0 +1,96 @@
+package com.gsoldera.gAuction.config;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+import org.slf4j.Logger;
+
+import com.gsoldera.gAuction.GAuctionPlugin;
+
+/**
+ * Reloads the auction settings when config.yml is edited
+ * A daemon thread waits on a WatchService for the plugin folder; once the file settles,
+ * the settings are parsed and published off the main thread by the config manager.
+ */
+public final class ConfigWatcher {
+    // Editors often write a file in several steps, wait for them to finish
+    private static final long SETTLE_MILLIS = 500;
+    private static final String CONFIG_FILE = "config.yml";
+
+    private final Logger logger;
+    private final ConfigManager configManager;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    /**
+     * Starts watching the plugin folder
+     * @throws IOException if the folder cannot be watched
+     */
+    public ConfigWatcher(GAuctionPlugin plugin) throws IOException {
+        this.logger = plugin.getPluginLogger();
+        this.configManager = plugin.getConfigManager();
+        this.watchService = FileSystems.getDefault().newWatchService();
+
+        plugin.getDataFolder().toPath().register(watchService,
+            StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        this.thread = new Thread(this::run, "GAuction-Config-Watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Stops watching
+     */
+    public void shutdown() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warn("Error closing config watcher", e);
+        }
+        thread.interrupt();
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = containsConfig(key);
+                key.reset();
+                if (!changed) continue;
+
+                // Swallow the rest of the burst before reading the file
+                Thread.sleep(SETTLE_MILLIS);
+                WatchKey next;
+                while ((next = watchService.poll()) != null) {
+                    next.pollEvents();
+                    next.reset();
+                }
+
+                try {
+                    configManager.reloadSettingsFromDisk();
+                } catch (Exception e) {
+                    logger.error("Error reloading config.yml", e);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Shutting down
+        }
+    }
+
+    private boolean containsConfig(WatchKey key) {
+        boolean found = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path path && path.getFileName().toString().equals(CONFIG_FILE)) {
+                found = true;
+            }
+        }
+        return found;
+    }
+}
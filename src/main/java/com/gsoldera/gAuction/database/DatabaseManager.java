@@ -2,6 +2,7 @@ package com.gsoldera.gAuction.database;
 
 import java.sql.SQLException;
 
+import org.bukkit.Bukkit;
 import org.slf4j.Logger;
 
 import com.gsoldera.gAuction.GAuctionPlugin;
@@ -17,6 +18,8 @@ public class DatabaseManager {
     private final Logger logger;
     private final ConfigManager configManager;
     private IDatabaseConnection databaseConnection;
+    private WriteBehindQueue writeQueue;
+    private ItemDataMigrator itemDataMigrator;
 
     public DatabaseManager(GAuctionPlugin plugin, ConfigManager configManager) {
         this.plugin = plugin;
@@ -45,7 +48,12 @@ public class DatabaseManager {
             };
 
             databaseConnection.initializeTables();
+            writeQueue = new WriteBehindQueue(logger, databaseConnection);
             logger.info("Database connection established successfully");
+
+            // Move legacy Base64 rows to binary storage without blocking startup
+            itemDataMigrator = new ItemDataMigrator(logger, databaseConnection, writeQueue);
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, itemDataMigrator);
         } catch (SQLException e) {
             logger.error("Error initializing database", e);
             throw new RuntimeException("Failed to initialize database", e);
@@ -53,9 +61,17 @@ public class DatabaseManager {
     }
 
     /**
-     * Closes database connection
+     * Flushes pending writes and closes database connection
      */
     public void shutdown() {
+        if (itemDataMigrator != null) {
+            itemDataMigrator.cancel();
+        }
+
+        if (writeQueue != null) {
+            writeQueue.shutdown();
+        }
+
         if (databaseConnection != null) {
             try {
                 databaseConnection.closeConnection();
@@ -77,4 +93,16 @@ public class DatabaseManager {
         }
         return databaseConnection;
     }
+
+    /**
+     * Gets the write-behind queue used for auction lifecycle writes
+     * @return The write queue
+     * @throws IllegalStateException if database is not initialized
+     */
+    public WriteBehindQueue getWriteQueue() {
+        if (writeQueue == null) {
+            throw new IllegalStateException("Database connection not initialized");
+        }
+        return writeQueue;
+    }
 }
@@ -3,8 +3,28 @@ package com.gsoldera.gAuction.database;
 import java.sql.Connection;
 import java.sql.SQLException;
 
+/**
+ * Common contract for the supported database backends
+ * Connections are leases: closing them returns them to the backend instead of closing the socket or file
+ */
 public interface IDatabaseConnection {
+    /**
+     * Leases a read-write connection
+     * @return Connection that must be closed by the caller
+     * @throws SQLException if no connection can be obtained
+     */
     Connection getConnection() throws SQLException;
+
+    /**
+     * Leases a connection for queries only
+     * Backends without dedicated readers fall back to a regular connection
+     * @return Connection that must be closed by the caller
+     * @throws SQLException if no connection can be obtained
+     */
+    default Connection getReadConnection() throws SQLException {
+        return getConnection();
+    }
+
     void closeConnection() throws SQLException;
     void initializeTables() throws SQLException;
 }
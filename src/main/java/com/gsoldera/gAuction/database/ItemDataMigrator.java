@@ -0,0 +1,159 @@
+package com.gsoldera.gAuction.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bukkit.inventory.ItemStack;
+import org.slf4j.Logger;
+
+import com.gsoldera.gAuction.utils.ItemCodec;
+import com.gsoldera.gAuction.utils.ItemSerializer;
+
+/**
+ * Re-encodes legacy Base64 rows into the binary item_data column
+ * Runs in the background in small batches so startup and normal writes are not held up.
+ * Rows that fail to decode are left untouched and retried on the next start.
+ */
+final class ItemDataMigrator implements Runnable {
+    private static final int BATCH_SIZE = 100;
+    private static final String[] TABLES = { "auction_history", "auction_queue" };
+
+    private final Logger logger;
+    private final IDatabaseConnection database;
+    private final WriteBehindQueue writeQueue;
+    private volatile boolean cancelled;
+
+    private record LegacyRow(long id, String serialized) {}
+
+    /**
+     * Running totals for one table, used for the before/after report
+     */
+    private static final class Stats {
+        private int migrated;
+        private int skipped;
+        private long legacyBytes;
+        private long binaryBytes;
+        private long legacyDecodeNanos;
+        private long binaryDecodeNanos;
+    }
+
+    ItemDataMigrator(Logger logger, IDatabaseConnection database, WriteBehindQueue writeQueue) {
+        this.logger = logger;
+        this.database = database;
+        this.writeQueue = writeQueue;
+    }
+
+    /**
+     * Stops the migration after the current batch
+     */
+    void cancel() {
+        cancelled = true;
+    }
+
+    @Override
+    public void run() {
+        for (String table : TABLES) {
+            if (cancelled) {
+                return;
+            }
+            try {
+                migrateTable(table);
+            } catch (SQLException e) {
+                logger.error("Error migrating {} to binary item storage", table, e);
+            }
+        }
+    }
+
+    private void migrateTable(String table) throws SQLException {
+        String update = "UPDATE " + table + " SET item_data = ?, item_serialized = '' WHERE id = ? AND item_data IS NULL";
+        Stats stats = new Stats();
+        long lastId = 0;
+
+        while (!cancelled) {
+            List<LegacyRow> rows = loadBatch(table, lastId);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            for (LegacyRow row : rows) {
+                lastId = row.id();
+
+                long start = System.nanoTime();
+                ItemStack item = ItemSerializer.deserializeItemStack(row.serialized());
+                long legacyNanos = System.nanoTime() - start;
+                byte[] data = item != null ? ItemCodec.encode(item) : null;
+                if (data == null) {
+                    stats.skipped++;
+                    continue;
+                }
+
+                // Only drop the Base64 copy once the new bytes are known to read back
+                start = System.nanoTime();
+                ItemStack decoded = ItemCodec.decode(data);
+                long binaryNanos = System.nanoTime() - start;
+                if (decoded == null) {
+                    stats.skipped++;
+                    continue;
+                }
+
+                stats.migrated++;
+                stats.legacyBytes += row.serialized().length();
+                stats.binaryBytes += data.length;
+                stats.legacyDecodeNanos += legacyNanos;
+                stats.binaryDecodeNanos += binaryNanos;
+
+                long id = row.id();
+                writeQueue.submit(new PendingWrite(update, stmt -> {
+                    stmt.setBytes(1, data);
+                    stmt.setLong(2, id);
+                }));
+            }
+
+            // One transaction per batch, and never more than a batch waiting in the queue
+            writeQueue.flush().join();
+        }
+
+        report(table, stats);
+    }
+
+    private List<LegacyRow> loadBatch(String table, long afterId) throws SQLException {
+        List<LegacyRow> rows = new ArrayList<>(BATCH_SIZE);
+        try (Connection conn = database.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                "SELECT id, item_serialized FROM " + table + " " +
+                "WHERE item_data IS NULL AND id > ? ORDER BY id LIMIT " + BATCH_SIZE
+             )) {
+
+            stmt.setLong(1, afterId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(new LegacyRow(rs.getLong("id"), rs.getString("item_serialized")));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private void report(String table, Stats stats) {
+        if (stats.migrated == 0 && stats.skipped == 0) {
+            return;
+        }
+        if (stats.migrated == 0) {
+            logger.warn("Could not migrate {} rows in {}, they stay in the legacy format", stats.skipped, table);
+            return;
+        }
+
+        logger.info("Migrated {} rows in {} to binary item storage ({} skipped)", stats.migrated, table, stats.skipped);
+        logger.info("  size: {} KB -> {} KB ({}%)",
+            String.format("%.1f", stats.legacyBytes / 1024.0),
+            String.format("%.1f", stats.binaryBytes / 1024.0),
+            String.format("%.0f", 100.0 * stats.binaryBytes / stats.legacyBytes));
+        logger.info("  decode: {} us -> {} us per item",
+            String.format("%.1f", stats.legacyDecodeNanos / 1000.0 / stats.migrated),
+            String.format("%.1f", stats.binaryDecodeNanos / 1000.0 / stats.migrated));
+    }
+}
@@ -1,6 +1,8 @@
 package com.gsoldera.gAuction.database;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 
@@ -96,6 +98,7 @@ public final class MySQLDatabase implements IDatabaseConnection {
                 CREATE TABLE IF NOT EXISTS auction_history (
                     id BIGINT AUTO_INCREMENT PRIMARY KEY,
                     item_serialized TEXT NOT NULL,
+                    item_data MEDIUMBLOB,
                     seller_uuid VARCHAR(36) NOT NULL,
                     seller_name VARCHAR(16) NOT NULL,
                     buyer_uuid VARCHAR(36),
@@ -107,9 +110,10 @@ public final class MySQLDatabase implements IDatabaseConnection {
                     status ENUM('ACTIVE', 'SOLD', 'EXPIRED', 'CANCELLED', 'COLLECTED') NOT NULL,
                     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
                     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-                    INDEX idx_seller_uuid (seller_uuid),
-                    INDEX idx_buyer_uuid (buyer_uuid),
-                    INDEX idx_status_end_time (status, end_time)
+                    INDEX idx_seller_status (seller_uuid, status),
+                    INDEX idx_buyer_status (buyer_uuid, status),
+                    INDEX idx_status_end_time (status, end_time),
+                    INDEX idx_end_time_id (end_time, id)
                 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
             """);
 
@@ -118,14 +122,25 @@ public final class MySQLDatabase implements IDatabaseConnection {
                 CREATE TABLE IF NOT EXISTS auction_queue (
                     id BIGINT AUTO_INCREMENT PRIMARY KEY,
                     item_serialized TEXT NOT NULL,
+                    item_data MEDIUMBLOB,
                     seller_uuid VARCHAR(36) NOT NULL,
                     seller_name VARCHAR(16) NOT NULL,
                     min_bid DOUBLE NOT NULL,
                     step_value DOUBLE,
                     start_time BIGINT NOT NULL,
                     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                    auction_id VARCHAR(36),
+                    lane INT,
+                    current_bid DOUBLE,
+                    bidder_uuid VARCHAR(36),
+                    bidder_name VARCHAR(16),
+                    bid_sequence BIGINT NOT NULL DEFAULT 0,
+                    duration_ms BIGINT,
+                    remaining_ms BIGINT,
+                    priority INT NOT NULL DEFAULT 0,
                     INDEX idx_seller_uuid (seller_uuid),
-                    INDEX idx_start_time (start_time)
+                    INDEX idx_start_time (start_time),
+                    INDEX idx_auction_id (auction_id)
                 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
             """);
 
@@ -142,6 +157,41 @@ public final class MySQLDatabase implements IDatabaseConnection {
                 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
             """);
 
+            // Create escrow ledger table, bid reservations and money owed to offline players
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS auction_escrow (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    auction_id VARCHAR(36),
+                    bid_sequence BIGINT NOT NULL DEFAULT 0,
+                    player_uuid VARCHAR(36) NOT NULL,
+                    amount DOUBLE NOT NULL,
+                    entry_type ENUM('HOLD', 'CREDIT') NOT NULL,
+                    status ENUM('HELD', 'RELEASED', 'SETTLED', 'FAILED', 'PENDING', 'PAID') NOT NULL,
+                    created_at BIGINT NOT NULL,
+                    updated_at BIGINT NOT NULL,
+                    INDEX idx_player_status (player_uuid, status),
+                    INDEX idx_auction_sequence (auction_id, bid_sequence)
+                ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+            """);
+
+            // Tables created before these columns and indexes existed don't get them from CREATE TABLE
+            addColumnIfMissing(conn, "auction_history", "item_data", "MEDIUMBLOB AFTER item_serialized");
+            addColumnIfMissing(conn, "auction_queue", "item_data", "MEDIUMBLOB AFTER item_serialized");
+            // Live auction state, so a restart resumes running and queued auctions
+            addColumnIfMissing(conn, "auction_queue", "auction_id", "VARCHAR(36)");
+            addColumnIfMissing(conn, "auction_queue", "lane", "INT");
+            addColumnIfMissing(conn, "auction_queue", "current_bid", "DOUBLE");
+            addColumnIfMissing(conn, "auction_queue", "bidder_uuid", "VARCHAR(36)");
+            addColumnIfMissing(conn, "auction_queue", "bidder_name", "VARCHAR(16)");
+            addColumnIfMissing(conn, "auction_queue", "bid_sequence", "BIGINT NOT NULL DEFAULT 0");
+            addColumnIfMissing(conn, "auction_queue", "duration_ms", "BIGINT");
+            addColumnIfMissing(conn, "auction_queue", "remaining_ms", "BIGINT");
+            addColumnIfMissing(conn, "auction_queue", "priority", "INT NOT NULL DEFAULT 0");
+            createIndexIfMissing(conn, "auction_queue", "idx_auction_id", "auction_id");
+            createIndexIfMissing(conn, "auction_history", "idx_end_time_id", "end_time, id");
+            createIndexIfMissing(conn, "auction_history", "idx_seller_status", "seller_uuid, status");
+            createIndexIfMissing(conn, "auction_history", "idx_buyer_status", "buyer_uuid, status");
+
             logger.info("MySQL tables initialized successfully");
         } catch (SQLException e) {
             logger.error("Error creating MySQL tables", e);
@@ -149,6 +199,59 @@ public final class MySQLDatabase implements IDatabaseConnection {
         }
     }
 
+    /**
+     * Adds a column to an existing table unless it is already there
+     * @param conn Connection to use
+     * @param table Table name
+     * @param column Column name
+     * @param definition Column type and placement
+     */
+    private void addColumnIfMissing(Connection conn, String table, String column, String definition) throws SQLException {
+        try (PreparedStatement check = conn.prepareStatement(
+                "SELECT 1 FROM information_schema.columns " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ? LIMIT 1")) {
+            check.setString(1, table);
+            check.setString(2, column);
+            try (ResultSet rs = check.executeQuery()) {
+                if (rs.next()) {
+                    return;
+                }
+            }
+        }
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+            logger.info("Added column {} to {}", column, table);
+        }
+    }
+
+    /**
+     * Adds an index to an existing table unless it is already there
+     * MySQL has no CREATE INDEX IF NOT EXISTS
+     * @param conn Connection to use
+     * @param table Table name
+     * @param index Index name
+     * @param columns Comma separated column list
+     */
+    private void createIndexIfMissing(Connection conn, String table, String index, String columns) throws SQLException {
+        try (PreparedStatement check = conn.prepareStatement(
+                "SELECT 1 FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ? LIMIT 1")) {
+            check.setString(1, table);
+            check.setString(2, index);
+            try (ResultSet rs = check.executeQuery()) {
+                if (rs.next()) {
+                    return;
+                }
+            }
+        }
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE INDEX " + index + " ON " + table + " (" + columns + ")");
+            logger.info("Created index {} on {}", index, table);
+        }
+    }
+
     /**
      * Tests if the database connection is working
      * @return true if connection is valid, false otherwise
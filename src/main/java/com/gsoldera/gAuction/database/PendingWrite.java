@@ -0,0 +1,28 @@
+package com.gsoldera.gAuction.database;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * A single INSERT/UPDATE/DELETE waiting in the write-behind queue
+ * Writes sharing the same SQL are grouped into one JDBC batch when flushed
+ * @param sql Statement to execute
+ * @param binder Sets the parameters for this write; values must be captured when the write is created
+ */
+public record PendingWrite(String sql, Binder binder) {
+
+    /**
+     * Binds parameters onto the prepared statement of a pending write
+     */
+    @FunctionalInterface
+    public interface Binder {
+        void bind(PreparedStatement stmt) throws SQLException;
+    }
+
+    /**
+     * Creates a write without parameters
+     */
+    public static PendingWrite of(String sql) {
+        return new PendingWrite(sql, stmt -> {});
+    }
+}
@@ -0,0 +1,400 @@
+package com.gsoldera.gAuction.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+
+/**
+ * Keeps SQLite connections open for the whole plugin lifetime
+ * One writer connection guarded by a lock and a small pool of read-only WAL readers.
+ * Connections are handed out as leases whose close() returns them instead of closing the file.
+ */
+final class SQLiteConnectionManager {
+    private static final int MAX_READERS = 4;
+    private static final int STATEMENT_CACHE_SIZE = 32;
+    private static final long READER_TIMEOUT_MS = 5000;
+    private static final int BUSY_TIMEOUT_MS = 5000;
+
+    private final Logger logger;
+    private final String url;
+
+    private final ReentrantLock writerLock;
+    private PooledConnection writer;
+    // Set once the writer has switched the file to WAL mode, which outlives the connection
+    private volatile boolean walEnabled;
+
+    private final BlockingQueue<PooledConnection> idleReaders;
+    private final List<PooledConnection> allReaders;
+    private volatile boolean closed;
+
+    SQLiteConnectionManager(Logger logger, String url) throws SQLException {
+        this.logger = logger;
+        this.url = url;
+        this.writerLock = new ReentrantLock();
+        this.idleReaders = new LinkedBlockingQueue<>();
+        this.allReaders = new ArrayList<>();
+
+        try {
+            // Load the driver once instead of on every reconnect
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("SQLite JDBC driver not found", e);
+        }
+    }
+
+    /**
+     * Leases the writer connection, blocking other writers until the lease is closed
+     * @return Connection lease that must be closed on the acquiring thread
+     * @throws SQLException if the connection cannot be opened
+     */
+    Connection acquireWriter() throws SQLException {
+        ensureOpen();
+        writerLock.lock();
+        try {
+            PooledConnection pooled = openWriterIfNeeded();
+            return pooled.lease(writerLock::unlock, writerLock.getHoldCount() == 1);
+        } catch (SQLException | RuntimeException e) {
+            writerLock.unlock();
+            throw e;
+        }
+    }
+
+    /**
+     * Leases one of the read-only connections
+     * @return Connection lease that returns to the pool when closed
+     * @throws SQLException if no reader becomes available in time
+     */
+    Connection acquireReader() throws SQLException {
+        ensureOpen();
+
+        PooledConnection pooled = idleReaders.poll();
+        if (pooled == null) {
+            pooled = openReaderIfAllowed();
+        }
+        if (pooled == null) {
+            try {
+                pooled = idleReaders.poll(READER_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for a read connection", e);
+            }
+            if (pooled == null) {
+                throw new SQLException("Timed out waiting for a read connection");
+            }
+        }
+
+        PooledConnection leased = pooled;
+        return leased.lease(() -> releaseReader(leased), true);
+    }
+
+    /**
+     * Closes every physical connection
+     */
+    void close() throws SQLException {
+        closed = true;
+        SQLException failure = null;
+
+        writerLock.lock();
+        try {
+            if (writer != null) {
+                failure = closeQuietly(writer, failure);
+                writer = null;
+            }
+        } finally {
+            writerLock.unlock();
+        }
+
+        synchronized (allReaders) {
+            for (PooledConnection reader : allReaders) {
+                failure = closeQuietly(reader, failure);
+            }
+            allReaders.clear();
+            idleReaders.clear();
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void ensureOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("SQLite connection manager has been closed");
+        }
+    }
+
+    private PooledConnection openWriterIfNeeded() throws SQLException {
+        if (writer == null || writer.physical.isClosed()) {
+            Connection connection = DriverManager.getConnection(url);
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("PRAGMA foreign_keys = ON");
+                stmt.execute("PRAGMA journal_mode = WAL");  // Write-Ahead Logging, lets readers run beside the writer
+                stmt.execute("PRAGMA synchronous = NORMAL"); // Better performance with reasonable safety
+                stmt.execute("PRAGMA temp_store = MEMORY"); // Store temp tables in memory
+                stmt.execute("PRAGMA busy_timeout = " + BUSY_TIMEOUT_MS);
+            }
+            writer = new PooledConnection(connection);
+            walEnabled = true;
+            logger.debug("Opened SQLite writer connection");
+        }
+        return writer;
+    }
+
+    private PooledConnection openReaderIfAllowed() throws SQLException {
+        // The writer switches the file to WAL mode, so it must exist before any reader.
+        // Never taken inside the reader monitor: a thread holding a writer lease may ask for a reader too.
+        if (!walEnabled) {
+            writerLock.lock();
+            try {
+                openWriterIfNeeded();
+            } finally {
+                writerLock.unlock();
+            }
+        }
+
+        synchronized (allReaders) {
+            if (allReaders.size() >= MAX_READERS) {
+                return null;
+            }
+
+            Connection connection = DriverManager.getConnection(url);
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("PRAGMA query_only = ON");
+                stmt.execute("PRAGMA temp_store = MEMORY");
+                stmt.execute("PRAGMA busy_timeout = " + BUSY_TIMEOUT_MS);
+            }
+            PooledConnection reader = new PooledConnection(connection);
+            allReaders.add(reader);
+            logger.debug("Opened SQLite reader connection {}/{}", allReaders.size(), MAX_READERS);
+            return reader;
+        }
+    }
+
+    private void releaseReader(PooledConnection reader) {
+        if (closed) {
+            return;
+        }
+        try {
+            if (reader.physical.isClosed()) {
+                synchronized (allReaders) {
+                    allReaders.remove(reader);
+                }
+                return;
+            }
+        } catch (SQLException e) {
+            logger.warn("Dropping broken SQLite reader connection", e);
+            synchronized (allReaders) {
+                allReaders.remove(reader);
+            }
+            return;
+        }
+        idleReaders.offer(reader);
+    }
+
+    private SQLException closeQuietly(PooledConnection pooled, SQLException failure) {
+        try {
+            pooled.closePhysical();
+        } catch (SQLException e) {
+            if (failure == null) {
+                return e;
+            }
+            failure.addSuppressed(e);
+        }
+        return failure;
+    }
+
+    /**
+     * A physical connection plus its prepared statement cache
+     * Only touched by the thread currently holding a lease on it
+     */
+    private final class PooledConnection {
+        private final Connection physical;
+        private final Map<String, PreparedStatement> statementCache;
+
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.statementCache = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() <= STATEMENT_CACHE_SIZE) {
+                        return false;
+                    }
+                    try {
+                        eldest.getValue().close();
+                    } catch (SQLException e) {
+                        logger.debug("Error closing evicted statement", e);
+                    }
+                    return true;
+                }
+            };
+        }
+
+        private Connection lease(Runnable onRelease, boolean outermost) {
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new LeaseHandler(this, onRelease, outermost)
+            );
+        }
+
+        private PreparedStatement cachedStatement(String sql) throws SQLException {
+            PreparedStatement stmt = statementCache.get(sql);
+            if (stmt == null || stmt.isClosed()) {
+                stmt = physical.prepareStatement(sql);
+                statementCache.put(sql, stmt);
+            }
+            return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class },
+                new StatementLeaseHandler(stmt)
+            );
+        }
+
+        private void resetAfterLease() throws SQLException {
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+        }
+
+        private void closePhysical() throws SQLException {
+            for (PreparedStatement stmt : statementCache.values()) {
+                try {
+                    stmt.close();
+                } catch (SQLException e) {
+                    logger.debug("Error closing cached statement", e);
+                }
+            }
+            statementCache.clear();
+            physical.close();
+        }
+    }
+
+    /**
+     * Routes calls on a lease to the physical connection
+     * close() hands the connection back, prepareStatement(String) uses the cache
+     */
+    private static final class LeaseHandler implements InvocationHandler {
+        private final PooledConnection pooled;
+        private final Runnable onRelease;
+        private final boolean outermost;
+        private boolean released;
+
+        private LeaseHandler(PooledConnection pooled, Runnable onRelease, boolean outermost) {
+            this.pooled = pooled;
+            this.onRelease = onRelease;
+            this.outermost = outermost;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    release();
+                    return null;
+                }
+                case "isClosed" -> {
+                    return released || pooled.physical.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "SQLiteLease[" + pooled.physical + "]";
+                }
+                default -> {
+                    // fall through to the delegation below
+                }
+            }
+
+            if (released) {
+                throw new SQLException("Connection lease has already been released");
+            }
+
+            if (method.getName().equals("prepareStatement")
+                    && args != null && args.length == 1 && args[0] instanceof String sql) {
+                return pooled.cachedStatement(sql);
+            }
+            return SQLiteConnectionManager.invoke(pooled.physical, method, args);
+        }
+
+        private void release() throws SQLException {
+            if (released) {
+                return;
+            }
+            released = true;
+            try {
+                if (outermost) {
+                    pooled.resetAfterLease();
+                }
+            } finally {
+                onRelease.run();
+            }
+        }
+    }
+
+    /**
+     * Routes calls on one use of a cached statement to the compiled statement
+     * close() only ends this use; the compiled statement stays in the cache
+     */
+    private static final class StatementLeaseHandler implements InvocationHandler {
+        private final PreparedStatement cached;
+        private boolean closed;
+
+        private StatementLeaseHandler(PreparedStatement cached) {
+            this.cached = cached;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!closed) {
+                        closed = true;
+                        cached.clearParameters();
+                        cached.clearBatch();
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return closed || cached.isClosed();
+                }
+                default -> {
+                    // fall through to the delegation below
+                }
+            }
+
+            if (closed) {
+                throw new SQLException("Statement has already been closed");
+            }
+            return SQLiteConnectionManager.invoke(cached, method, args);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -2,7 +2,7 @@ package com.gsoldera.gAuction.database;
 
 import java.io.File;
 import java.sql.Connection;
-import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 
@@ -12,61 +12,43 @@ import com.gsoldera.gAuction.GAuctionPlugin;
 
 /**
  * SQLite implementation of database connection
- * Handles local file-based database operations
+ * Handles local file-based database operations through long-lived pooled connections
  */
 public class SQLiteDatabase implements IDatabaseConnection {
     private final Logger logger;
-    private final File databaseFile;
-    private Connection connection;
+    private final SQLiteConnectionManager connectionManager;
 
     /**
      * Creates a new SQLite database connection
      * @param plugin Plugin instance for logging
      * @param databaseFile File where database will be stored
+     * @throws SQLException if the SQLite driver is not available
      */
-    public SQLiteDatabase(GAuctionPlugin plugin, File databaseFile) {
+    public SQLiteDatabase(GAuctionPlugin plugin, File databaseFile) throws SQLException {
         this.logger = plugin.getPluginLogger();
-        this.databaseFile = databaseFile;
 
         // Ensure parent directory exists
         File parentDir = databaseFile.getParentFile();
         if (parentDir != null && !parentDir.exists() && !parentDir.mkdirs()) {
             throw new RuntimeException("Failed to create database directory: " + parentDir);
         }
+
+        this.connectionManager = new SQLiteConnectionManager(logger, "jdbc:sqlite:" + databaseFile.getAbsolutePath());
     }
 
     @Override
     public Connection getConnection() throws SQLException {
-        if (connection == null || connection.isClosed()) {
-            try {
-                // Ensure SQLite JDBC driver is loaded
-                Class.forName("org.sqlite.JDBC");
-                connection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile.getAbsolutePath());
-                
-                // Enable foreign keys
-                try (Statement stmt = connection.createStatement()) {
-                    stmt.execute("PRAGMA foreign_keys = ON");
-                }
-                
-                // Set useful pragmas
-                try (Statement stmt = connection.createStatement()) {
-                    stmt.execute("PRAGMA journal_mode = WAL");  // Write-Ahead Logging
-                    stmt.execute("PRAGMA synchronous = NORMAL"); // Better performance with reasonable safety
-                    stmt.execute("PRAGMA temp_store = MEMORY"); // Store temp tables in memory
-                }
-            } catch (ClassNotFoundException e) {
-                throw new SQLException("SQLite JDBC driver not found", e);
-            }
-        }
-        return connection;
+        return connectionManager.acquireWriter();
+    }
+
+    @Override
+    public Connection getReadConnection() throws SQLException {
+        return connectionManager.acquireReader();
     }
 
     @Override
     public void closeConnection() throws SQLException {
-        if (connection != null && !connection.isClosed()) {
-            connection.close();
-            connection = null;
-        }
+        connectionManager.close();
     }
 
     @Override
@@ -79,6 +61,7 @@ public class SQLiteDatabase implements IDatabaseConnection {
                 CREATE TABLE IF NOT EXISTS auction_history (
                     id INTEGER PRIMARY KEY AUTOINCREMENT,
                     item_serialized TEXT NOT NULL,
+                    item_data BLOB,
                     seller_uuid TEXT NOT NULL,
                     seller_name TEXT NOT NULL,
                     buyer_uuid TEXT,
@@ -98,20 +81,66 @@ public class SQLiteDatabase implements IDatabaseConnection {
                 CREATE TABLE IF NOT EXISTS auction_queue (
                     id INTEGER PRIMARY KEY AUTOINCREMENT,
                     item_serialized TEXT NOT NULL,
+                    item_data BLOB,
                     seller_uuid TEXT NOT NULL,
                     seller_name TEXT NOT NULL,
                     min_bid REAL NOT NULL,
                     step_value REAL,
                     start_time INTEGER NOT NULL,
-                    created_at INTEGER NOT NULL DEFAULT (strftime('%s','now'))
+                    created_at INTEGER NOT NULL DEFAULT (strftime('%s','now')),
+                    auction_id TEXT,
+                    lane INTEGER,
+                    current_bid REAL,
+                    bidder_uuid TEXT,
+                    bidder_name TEXT,
+                    bid_sequence INTEGER NOT NULL DEFAULT 0,
+                    duration_ms INTEGER,
+                    remaining_ms INTEGER,
+                    priority INTEGER NOT NULL DEFAULT 0
+                )
+            """);
+
+            // Create escrow ledger table, bid reservations and money owed to offline players
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS auction_escrow (
+                    id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    auction_id TEXT,
+                    bid_sequence INTEGER NOT NULL DEFAULT 0,
+                    player_uuid TEXT NOT NULL,
+                    amount REAL NOT NULL,
+                    entry_type TEXT NOT NULL,
+                    status TEXT NOT NULL,
+                    created_at INTEGER NOT NULL,
+                    updated_at INTEGER NOT NULL
                 )
             """);
 
+            // Binary item storage, item_serialized only keeps rows not migrated yet
+            addColumnIfMissing(conn, "auction_history", "item_data", "BLOB");
+            addColumnIfMissing(conn, "auction_queue", "item_data", "BLOB");
+            // Live auction state, so a restart resumes running and queued auctions
+            addColumnIfMissing(conn, "auction_queue", "auction_id", "TEXT");
+            addColumnIfMissing(conn, "auction_queue", "lane", "INTEGER");
+            addColumnIfMissing(conn, "auction_queue", "current_bid", "REAL");
+            addColumnIfMissing(conn, "auction_queue", "bidder_uuid", "TEXT");
+            addColumnIfMissing(conn, "auction_queue", "bidder_name", "TEXT");
+            addColumnIfMissing(conn, "auction_queue", "bid_sequence", "INTEGER NOT NULL DEFAULT 0");
+            addColumnIfMissing(conn, "auction_queue", "duration_ms", "INTEGER");
+            addColumnIfMissing(conn, "auction_queue", "remaining_ms", "INTEGER");
+            addColumnIfMissing(conn, "auction_queue", "priority", "INTEGER NOT NULL DEFAULT 0");
+
             // Create indexes for better performance
-            stmt.execute("CREATE INDEX IF NOT EXISTS idx_history_seller ON auction_history(seller_uuid)");
-            stmt.execute("CREATE INDEX IF NOT EXISTS idx_history_buyer ON auction_history(buyer_uuid)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_history_seller_status ON auction_history(seller_uuid, status)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_history_buyer_status ON auction_history(buyer_uuid, status)");
+            // Superseded by the composite indexes above, which cover the same lookups
+            stmt.execute("DROP INDEX IF EXISTS idx_history_seller");
+            stmt.execute("DROP INDEX IF EXISTS idx_history_buyer");
             stmt.execute("CREATE INDEX IF NOT EXISTS idx_history_status ON auction_history(status)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_history_end_time ON auction_history(end_time, id)");
             stmt.execute("CREATE INDEX IF NOT EXISTS idx_queue_seller ON auction_queue(seller_uuid)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_queue_auction ON auction_queue(auction_id)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_escrow_player_status ON auction_escrow(player_uuid, status)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_escrow_auction ON auction_escrow(auction_id, bid_sequence)");
 
             logger.info("SQLite tables initialized successfully");
         } catch (SQLException e) {
@@ -119,4 +148,27 @@ public class SQLiteDatabase implements IDatabaseConnection {
             throw e;
         }
     }
+
+    /**
+     * Adds a column to an existing table unless it is already there
+     * @param conn Connection to use
+     * @param table Table name
+     * @param column Column name
+     * @param type Column type
+     */
+    private void addColumnIfMissing(Connection conn, String table, String column, String type) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("name"))) {
+                    return;
+                }
+            }
+        }
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + type);
+            logger.info("Added column {} to {}", column, table);
+        }
+    }
 }
@@ -0,0 +1,281 @@
+package com.gsoldera.gAuction.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+
+/**
+ * Write-behind pipeline for auction lifecycle writes
+ * Callers enqueue writes and return immediately; a dedicated I/O thread drains the
+ * queue and commits everything it finds in one transaction per flush.
+ * Writes are submitted from the main thread, so the queue never blocks a caller: past its
+ * capacity it keeps accepting writes and only warns, trading memory during a database
+ * outage for a server tick that never stalls on I/O.
+ */
+public final class WriteBehindQueue {
+    private static final int CAPACITY = 4096;
+    private static final int MAX_BATCH = 256;
+    private static final long SHUTDOWN_TIMEOUT_MS = 10000;
+
+    private final Logger logger;
+    private final IDatabaseConnection database;
+    private final BlockingQueue<Entry> queue;
+    private final Thread worker;
+    private volatile boolean running;
+
+    // Metrics
+    private final AtomicInteger pendingWrites;
+    private final AtomicLong overCapacityWrites;
+    private final AtomicLong failedWrites;
+    private volatile boolean overCapacity;
+    private volatile long totalWrites;
+    private volatile long totalFlushes;
+    private volatile long totalFlushNanos;
+    private volatile long lastFlushNanos;
+    private volatile long maxFlushNanos;
+
+    /**
+     * Queue entry: either a write or a flush barrier
+     */
+    private record Entry(PendingWrite write, CompletableFuture<Void> barrier) {}
+
+    /**
+     * Snapshot of the queue metrics
+     * @param queueDepth Entries waiting to be flushed
+     * @param capacity Entries past which the queue warns that it is falling behind
+     * @param totalWrites Writes committed since startup
+     * @param totalFlushes Transactions committed since startup
+     * @param lastFlushMillis Duration of the most recent flush
+     * @param avgFlushMillis Average flush duration
+     * @param maxFlushMillis Slowest flush observed
+     * @param overCapacityWrites Writes submitted while the queue was over capacity
+     * @param failedWrites Writes dropped after an error
+     */
+    public record Metrics(
+        int queueDepth,
+        int capacity,
+        long totalWrites,
+        long totalFlushes,
+        double lastFlushMillis,
+        double avgFlushMillis,
+        double maxFlushMillis,
+        long overCapacityWrites,
+        long failedWrites
+    ) {}
+
+    public WriteBehindQueue(Logger logger, IDatabaseConnection database) {
+        this.logger = logger;
+        this.database = database;
+        this.queue = new LinkedBlockingQueue<>();
+        this.pendingWrites = new AtomicInteger();
+        this.overCapacityWrites = new AtomicLong();
+        this.failedWrites = new AtomicLong();
+
+        this.running = true;
+        this.worker = new Thread(this::run, "GAuction-IO");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Enqueues a write
+     * Never blocks; after shutdown the write runs synchronously
+     * @param write The write to persist
+     */
+    public void submit(PendingWrite write) {
+        if (!running) {
+            logger.warn("Write queue is stopped, executing write synchronously");
+            executeNow(List.of(write));
+            return;
+        }
+
+        int pending = pendingWrites.incrementAndGet();
+        queue.add(new Entry(write, null));
+
+        if (pending > CAPACITY) {
+            overCapacityWrites.incrementAndGet();
+            // Warn once per overflow rather than once per write
+            if (!overCapacity) {
+                overCapacity = true;
+                logger.warn("Write queue is over capacity ({} entries), the database is falling behind", pending);
+            }
+        } else if (overCapacity) {
+            overCapacity = false;
+        }
+    }
+
+    /**
+     * Requests a flush of everything submitted so far
+     * Never blocks; chain on the future instead of waiting on it from the main thread
+     * @return Future completed once those writes are committed
+     */
+    public CompletableFuture<Void> flush() {
+        CompletableFuture<Void> barrier = new CompletableFuture<>();
+        if (!running || pendingWrites.get() == 0) {
+            barrier.complete(null);
+            return barrier;
+        }
+
+        // The barrier completes after every entry queued before it
+        queue.add(new Entry(null, barrier));
+        return barrier;
+    }
+
+    /**
+     * Stops accepting writes and flushes everything still queued
+     */
+    public void shutdown() {
+        running = false;
+        try {
+            worker.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (worker.isAlive()) {
+            logger.error("I/O thread did not finish in time, {} writes may be lost", queue.size());
+            worker.interrupt();
+            return;
+        }
+
+        // Anything that raced with the stop flag is flushed here
+        List<Entry> leftover = new ArrayList<>();
+        queue.drainTo(leftover);
+        if (!leftover.isEmpty()) {
+            flushEntries(leftover);
+        }
+        logger.info("Write queue flushed: {} writes in {} transactions", totalWrites, totalFlushes);
+    }
+
+    /**
+     * Gets a snapshot of the queue metrics
+     */
+    public Metrics getMetrics() {
+        long flushes = totalFlushes;
+        return new Metrics(
+            queue.size(),
+            CAPACITY,
+            totalWrites,
+            flushes,
+            lastFlushNanos / 1_000_000.0,
+            flushes > 0 ? (totalFlushNanos / (double) flushes) / 1_000_000.0 : 0.0,
+            maxFlushNanos / 1_000_000.0,
+            overCapacityWrites.get(),
+            failedWrites.get()
+        );
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>(MAX_BATCH);
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+                flushEntries(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                logger.error("Unexpected error in write queue", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushEntries(List<Entry> entries) {
+        List<PendingWrite> writes = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            if (entry.write() != null) {
+                writes.add(entry.write());
+            }
+        }
+
+        if (!writes.isEmpty()) {
+            long start = System.nanoTime();
+            executeNow(writes);
+            long elapsed = System.nanoTime() - start;
+
+            totalWrites += writes.size();
+            totalFlushes++;
+            totalFlushNanos += elapsed;
+            lastFlushNanos = elapsed;
+            if (elapsed > maxFlushNanos) {
+                maxFlushNanos = elapsed;
+            }
+            pendingWrites.addAndGet(-writes.size());
+        }
+
+        for (Entry entry : entries) {
+            if (entry.barrier() != null) {
+                entry.barrier().complete(null);
+            }
+        }
+    }
+
+    /**
+     * Executes the writes in one transaction, falling back to one by one on failure
+     */
+    private void executeNow(List<PendingWrite> writes) {
+        try (Connection conn = database.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                executeGrouped(conn, writes);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                logger.warn("Batched flush of {} writes failed, retrying individually", writes.size(), e);
+                conn.setAutoCommit(true);
+                executeIndividually(conn, writes);
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            failedWrites.addAndGet(writes.size());
+            logger.error("Error flushing {} pending writes", writes.size(), e);
+        }
+    }
+
+    private void executeGrouped(Connection conn, List<PendingWrite> writes) throws SQLException {
+        int i = 0;
+        while (i < writes.size()) {
+            String sql = writes.get(i).sql();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int j = i;
+                while (j < writes.size() && writes.get(j).sql().equals(sql)) {
+                    writes.get(j).binder().bind(stmt);
+                    stmt.addBatch();
+                    j++;
+                }
+                stmt.executeBatch();
+                i = j;
+            }
+        }
+    }
+
+    private void executeIndividually(Connection conn, List<PendingWrite> writes) {
+        for (PendingWrite write : writes) {
+            try (PreparedStatement stmt = conn.prepareStatement(write.sql())) {
+                write.binder().bind(stmt);
+                stmt.executeUpdate();
+            } catch (SQLException e) {
+                failedWrites.incrementAndGet();
+                logger.error("Dropping failed write: {}", write.sql(), e);
+            }
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.gsoldera.gAuction.economy;
 
 import org.bukkit.Bukkit;
-import org.bukkit.entity.Player;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.plugin.RegisteredServiceProvider;
 import org.slf4j.Logger;
 
@@ -69,7 +69,7 @@ public final class EconomyManager {
      * @param amount Amount to check for
      * @return true if player has enough balance
      */
-    public boolean hasBalance(Player player, double amount) {
+    public boolean hasBalance(OfflinePlayer player, double amount) {
         if (!isEconomyEnabled()) {
             return false;
         }
@@ -79,11 +79,12 @@ public final class EconomyManager {
 
     /**
      * Withdraws money from player's account
+     * Offline players are supported, as long as the economy provider supports them
      * @param player Player to withdraw from
      * @param amount Amount to withdraw
      * @return true if withdrawal was successful
      */
-    public boolean withdrawPlayer(Player player, double amount) {
+    public boolean withdrawPlayer(OfflinePlayer player, double amount) {
         if (!isEconomyEnabled()) {
             return true; // Allow transactions when economy is disabled
         }
@@ -108,7 +109,7 @@ public final class EconomyManager {
      * @param amount Amount to deposit
      * @return true if deposit was successful
      */
-    public boolean depositPlayer(Player player, double amount) {
+    public boolean depositPlayer(OfflinePlayer player, double amount) {
         if (!isEconomyEnabled()) {
             return true; // Allow transactions when economy is disabled
         }
@@ -128,7 +129,7 @@ public final class EconomyManager {
      * @param player Player to check
      * @return Player's balance or 0 if economy is disabled
      */
-    public double getBalance(Player player) {
+    public double getBalance(OfflinePlayer player) {
         if (!isEconomyEnabled()) {
             return 0.0;
         }
@@ -0,0 +1,397 @@
+package com.gsoldera.gAuction.economy;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.slf4j.Logger;
+
+import com.gsoldera.gAuction.GAuctionPlugin;
+import com.gsoldera.gAuction.database.DatabaseManager;
+import com.gsoldera.gAuction.database.PendingWrite;
+import com.gsoldera.gAuction.messages.MessageManager;
+
+/**
+ * Two-phase fund handling for bids, backed by the auction_escrow ledger
+ * A bid only reserves money: the reservation is checked against the bidder's balance minus
+ * their other open reservations, and no economy call is made until the auction ends.
+ * Outbids and cancellations just release the reservation, and only the winning one is withdrawn.
+ * Holds are soft: the balance is checked when they are made, not locked, so a bidder can still
+ * spend the money elsewhere and fail to settle; the item then goes back to the seller.
+ * Money owed to offline players is kept as a pending credit and paid when they next join.
+ * Hidden maximum bids reserve their whole ceiling; the bids made under it are covered by it.
+ */
+public final class EscrowManager {
+    // Ledger sequence of maximum bid ceilings; bid states start at 1
+    private static final long CEILING_SEQUENCE = -1;
+
+    private final GAuctionPlugin plugin;
+    private final Logger logger;
+    private final EconomyManager economyManager;
+    private final DatabaseManager databaseManager;
+    private final MessageManager messageManager;
+
+    // Open reservations per player, keyed by auction id and bid sequence
+    private final Map<UUID, Map<String, Double>> holds;
+    // Players with pending credits, so joins of everyone else skip the ledger
+    private final Set<UUID> pendingCredits;
+    // False if the pending credits could not be loaded, every join is then checked
+    private volatile boolean pendingCreditsLoaded;
+
+    public EscrowManager(GAuctionPlugin plugin) {
+        this.plugin = plugin;
+        this.logger = plugin.getPluginLogger();
+        this.economyManager = plugin.getEconomyManager();
+        this.databaseManager = plugin.getDatabaseManager();
+        this.messageManager = plugin.getMessageManager();
+        this.holds = new HashMap<>();
+        this.pendingCredits = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Loads which players have pending credits with one query
+     */
+    public void loadPendingCredits() {
+        pendingCredits.clear();
+        try (Connection conn = databaseManager.getDatabaseConnection().getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                "SELECT DISTINCT player_uuid FROM auction_escrow WHERE entry_type = 'CREDIT' AND status = 'PENDING'"
+             )) {
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    pendingCredits.add(UUID.fromString(rs.getString("player_uuid")));
+                }
+            }
+            pendingCreditsLoaded = true;
+            logger.info("Loaded pending credits for {} players", pendingCredits.size());
+        } catch (SQLException | IllegalArgumentException e) {
+            pendingCreditsLoaded = false;
+            logger.error("Error loading pending credits, every join will check the ledger", e);
+        }
+    }
+
+    /**
+     * Releases reservations left open by a crash or a hard stop
+     * Holds of bids still leading a saved auction are kept, that auction resumes with them.
+     * Nothing was withdrawn for the others, so no money has to move
+     */
+    public void releaseStaleHolds() {
+        try (Connection conn = databaseManager.getDatabaseConnection().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                "UPDATE auction_escrow SET status = 'RELEASED', updated_at = ? " +
+                "WHERE entry_type = 'HOLD' AND status = 'HELD' AND NOT EXISTS (" +
+                "SELECT 1 FROM auction_queue q WHERE q.auction_id = auction_escrow.auction_id " +
+                "AND q.bid_sequence = auction_escrow.bid_sequence AND q.bidder_uuid = auction_escrow.player_uuid)"
+             )) {
+
+            stmt.setLong(1, System.currentTimeMillis());
+            int released = stmt.executeUpdate();
+            if (released > 0) {
+                logger.info("Released {} escrow holds left from the last run", released);
+            }
+        } catch (SQLException e) {
+            logger.error("Error releasing stale escrow holds", e);
+        }
+    }
+
+    /**
+     * Checks if a player could reserve an amount for an auction
+     * Their other open reservations count against their balance
+     */
+    public synchronized boolean canReserve(Player player, UUID auctionId, double amount) {
+        if (!economyManager.isEconomyEnabled()) {
+            return true;
+        }
+        return economyManager.hasBalance(player, amount + getReservedElsewhere(player.getUniqueId(), auctionId));
+    }
+
+    /**
+     * Reserves money for a bid
+     * @param player The bidder
+     * @param auctionId The auction bid on
+     * @param sequence Sequence of the bid state the reservation belongs to
+     * @param amount Amount bid
+     * @return true if the reservation was made
+     */
+    public synchronized boolean reserve(Player player, UUID auctionId, long sequence, double amount) {
+        if (!canReserve(player, auctionId, amount)) {
+            return false;
+        }
+
+        addHold(player.getUniqueId(), auctionId, sequence, amount);
+        return true;
+    }
+
+    /**
+     * Reserves the ceiling of a hidden maximum bid, replacing the player's previous one on that auction
+     * @return true if the reservation was made
+     */
+    public synchronized boolean reserveCeiling(Player player, UUID auctionId, double amount) {
+        if (!canReserve(player, auctionId, amount)) {
+            return false;
+        }
+
+        release(player.getUniqueId(), auctionId, CEILING_SEQUENCE);
+        addHold(player.getUniqueId(), auctionId, CEILING_SEQUENCE, amount);
+        return true;
+    }
+
+    /**
+     * Releases the ceiling of a hidden maximum bid
+     */
+    public synchronized void releaseCeiling(UUID playerUUID, UUID auctionId) {
+        release(playerUUID, auctionId, CEILING_SEQUENCE);
+    }
+
+    /**
+     * Reserves a bid made under the player's ceiling on the same auction
+     * The ceiling already holds the money, so the balance is not checked again and the player
+     * does not have to be online
+     * @return false if the player has no ceiling that covers the amount
+     */
+    public synchronized boolean reserveUnderCeiling(UUID playerUUID, UUID auctionId, long sequence, double amount) {
+        Map<String, Double> playerHolds = holds.get(playerUUID);
+        Double ceiling = playerHolds != null ? playerHolds.get(holdKey(auctionId, CEILING_SEQUENCE)) : null;
+        if (ceiling == null || ceiling < amount) {
+            return false;
+        }
+
+        addHold(playerUUID, auctionId, sequence, amount);
+        return true;
+    }
+
+    /**
+     * Tracks a reservation kept from before a restart
+     * Its ledger row is still held, so only the in-memory view is rebuilt
+     */
+    public synchronized void restoreHold(UUID playerUUID, UUID auctionId, long sequence, double amount) {
+        holds.computeIfAbsent(playerUUID, uuid -> new HashMap<>()).put(holdKey(auctionId, sequence), amount);
+    }
+
+    /**
+     * Releases a reservation without moving any money
+     * Used when a bid is outbid, rolled back or its auction is cancelled
+     */
+    public synchronized void release(UUID playerUUID, UUID auctionId, long sequence) {
+        if (removeHold(playerUUID, auctionId, sequence) == null) {
+            return;
+        }
+        updateHold(playerUUID, auctionId, sequence, "RELEASED");
+    }
+
+    /**
+     * Withdraws the winning reservation
+     * Works for offline winners too, the money was reserved while they bid
+     * @return true if the winner was charged
+     */
+    public synchronized boolean settle(UUID playerUUID, UUID auctionId, long sequence) {
+        Double amount = removeHold(playerUUID, auctionId, sequence);
+        if (amount == null) {
+            logger.warn("No escrow hold for {} on auction {}", playerUUID, auctionId);
+            return false;
+        }
+
+        OfflinePlayer player = Bukkit.getOfflinePlayer(playerUUID);
+        boolean charged = economyManager.withdrawPlayer(player, amount);
+        updateHold(playerUUID, auctionId, sequence, charged ? "SETTLED" : "FAILED");
+        if (!charged) {
+            logger.warn("Could not settle escrow of {} for {} on auction {}", amount, playerUUID, auctionId);
+        }
+        return charged;
+    }
+
+    /**
+     * Pays a player, or records a pending credit if they are offline or the deposit fails
+     * @return true if the money was deposited right away
+     */
+    public boolean credit(UUID playerUUID, double amount) {
+        Player player = Bukkit.getPlayer(playerUUID);
+        if (player != null && economyManager.depositPlayer(player, amount)) {
+            return true;
+        }
+
+        String owner = playerUUID.toString();
+        long now = System.currentTimeMillis();
+        pendingCredits.add(playerUUID);
+        databaseManager.getWriteQueue().submit(new PendingWrite(
+            "INSERT INTO auction_escrow (auction_id, bid_sequence, player_uuid, amount, entry_type, status, created_at, updated_at) " +
+            "VALUES (NULL, 0, ?, ?, 'CREDIT', 'PENDING', ?, ?)",
+            stmt -> {
+                stmt.setString(1, owner);
+                stmt.setDouble(2, amount);
+                stmt.setLong(3, now);
+                stmt.setLong(4, now);
+            }
+        ));
+        return false;
+    }
+
+    /**
+     * Pays the pending credits of a player who just joined
+     * The credits are claimed in the database first so they can never be paid twice.
+     * Players with nothing owed return right away without touching the database.
+     */
+    public void settlePendingCredits(Player player) {
+        UUID playerUUID = player.getUniqueId();
+        // Removed before the flush: a credit recorded from here on adds the player back
+        if (!pendingCredits.remove(playerUUID) && pendingCreditsLoaded) {
+            return;
+        }
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            // Make sure credits written just before the player joined are visible
+            databaseManager.getWriteQueue().flush().join();
+
+            double total;
+            try {
+                total = claimPendingCredits(playerUUID);
+            } catch (SQLException e) {
+                logger.error("Error claiming pending credits for {}", playerUUID, e);
+                // Still owed, try again on the next join
+                pendingCredits.add(playerUUID);
+                return;
+            }
+            if (total <= 0) return;
+
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                Player online = Bukkit.getPlayer(playerUUID);
+                if (online == null || !economyManager.depositPlayer(online, total)) {
+                    // Keep the money owed for the next join
+                    credit(playerUUID, total);
+                    return;
+                }
+
+                Map<String, String> placeholders = new HashMap<>();
+                placeholders.put("amount", economyManager.formatMoney(total));
+                messageManager.sendMessage(online, "messages.player.escrow.credited", placeholders);
+            });
+        });
+    }
+
+    private double claimPendingCredits(UUID playerUUID) throws SQLException {
+        try (Connection conn = databaseManager.getDatabaseConnection().getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                double total = 0;
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        "SELECT COALESCE(SUM(amount), 0) AS total FROM auction_escrow " +
+                        "WHERE player_uuid = ? AND entry_type = 'CREDIT' AND status = 'PENDING'")) {
+                    stmt.setString(1, playerUUID.toString());
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        if (rs.next()) {
+                            total = rs.getDouble("total");
+                        }
+                    }
+                }
+
+                if (total > 0) {
+                    try (PreparedStatement stmt = conn.prepareStatement(
+                            "UPDATE auction_escrow SET status = 'PAID', updated_at = ? " +
+                            "WHERE player_uuid = ? AND entry_type = 'CREDIT' AND status = 'PENDING'")) {
+                        stmt.setLong(1, System.currentTimeMillis());
+                        stmt.setString(2, playerUUID.toString());
+                        stmt.executeUpdate();
+                    }
+                }
+                conn.commit();
+                return total;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Gets the total a player has reserved, optionally leaving one auction out
+     * A player's holds on one auction overlap, a bid sits under its ceiling, so each auction
+     * counts with its largest hold
+     */
+    private double getReservedElsewhere(UUID playerUUID, UUID auctionId) {
+        Map<String, Double> playerHolds = holds.get(playerUUID);
+        if (playerHolds == null) {
+            return 0;
+        }
+
+        String prefix = auctionId + ":";
+        Map<String, Double> perAuction = new HashMap<>();
+        for (Map.Entry<String, Double> entry : playerHolds.entrySet()) {
+            String key = entry.getKey();
+            if (!key.startsWith(prefix)) {
+                perAuction.merge(key.substring(0, key.indexOf(':')), entry.getValue(), Math::max);
+            }
+        }
+
+        double total = 0;
+        for (double amount : perAuction.values()) {
+            total += amount;
+        }
+        return total;
+    }
+
+    private void addHold(UUID playerUUID, UUID auctionId, long sequence, double amount) {
+        holds.computeIfAbsent(playerUUID, uuid -> new HashMap<>()).put(holdKey(auctionId, sequence), amount);
+
+        String auction = auctionId.toString();
+        String owner = playerUUID.toString();
+        long now = System.currentTimeMillis();
+        databaseManager.getWriteQueue().submit(new PendingWrite(
+            "INSERT INTO auction_escrow (auction_id, bid_sequence, player_uuid, amount, entry_type, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, 'HOLD', 'HELD', ?, ?)",
+            stmt -> {
+                stmt.setString(1, auction);
+                stmt.setLong(2, sequence);
+                stmt.setString(3, owner);
+                stmt.setDouble(4, amount);
+                stmt.setLong(5, now);
+                stmt.setLong(6, now);
+            }
+        ));
+    }
+
+    private Double removeHold(UUID playerUUID, UUID auctionId, long sequence) {
+        Map<String, Double> playerHolds = holds.get(playerUUID);
+        if (playerHolds == null) {
+            return null;
+        }
+
+        Double amount = playerHolds.remove(holdKey(auctionId, sequence));
+        if (playerHolds.isEmpty()) {
+            holds.remove(playerUUID);
+        }
+        return amount;
+    }
+
+    private void updateHold(UUID playerUUID, UUID auctionId, long sequence, String status) {
+        String auction = auctionId.toString();
+        String owner = playerUUID.toString();
+        long now = System.currentTimeMillis();
+        databaseManager.getWriteQueue().submit(new PendingWrite(
+            "UPDATE auction_escrow SET status = ?, updated_at = ? " +
+            "WHERE auction_id = ? AND bid_sequence = ? AND player_uuid = ? AND entry_type = 'HOLD'",
+            stmt -> {
+                stmt.setString(1, status);
+                stmt.setLong(2, now);
+                stmt.setString(3, auction);
+                stmt.setLong(4, sequence);
+                stmt.setString(5, owner);
+            }
+        ));
+    }
+
+    private static String holdKey(UUID auctionId, long sequence) {
+        return auctionId + ":" + sequence;
+    }
+}
@@ -8,43 +8,43 @@ import java.util.Map;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
-import org.bukkit.event.player.AsyncPlayerChatEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 import com.gsoldera.gAuction.GAuctionPlugin;
 import com.gsoldera.gAuction.auction.AuctionItem;
+import com.gsoldera.gAuction.gui.GuiTemplates.Button;
+import com.gsoldera.gAuction.gui.GuiTemplates.Layout;
 import com.gsoldera.gAuction.messages.MessageManager;
 
 /**
- * GUI for placing bids on current auction
+ * GUI for placing bids on the auction running in one lane
  */
-public final class AuctionBidGUI implements InventoryHolder {
+public final class AuctionBidGUI implements AuctionView {
     private final GAuctionPlugin plugin;
     private final Player player;
     private final MessageManager messageManager;
-    private final AuctionItem currentAuction;
+    private final int lane;
+    private AuctionItem currentAuction;
     private Inventory inventory;
-    private boolean hasPendingBid;
 
     private static final int CURRENT_ITEM_SLOT = 13;
     private static final int STEP_BID_SLOT = 11;
     private static final int CUSTOM_BID_SLOT = 15;
+    private static final int MAX_BID_SLOT = 22;
 
-    public AuctionBidGUI(GAuctionPlugin plugin, Player player) {
+    /**
+     * @param lane Zero-based index of the auction lane to bid on
+     */
+    public AuctionBidGUI(GAuctionPlugin plugin, Player player, int lane) {
         this.plugin = plugin;
         this.player = player;
         this.messageManager = plugin.getMessageManager();
-        this.currentAuction = plugin.getAuctionManager().getCurrentAuction();
-        this.hasPendingBid = false;
+        this.lane = lane;
+        this.currentAuction = plugin.getAuctionManager().getCurrentAuction(lane);
 
-        Map<String, String> placeholders = new HashMap<>();
-        String title = messageManager.getPlainMessage("gui.bid.title", placeholders);
+        String title = messageManager.getPlainMessage("gui.bid.title");
         createInventory(title);
         initializeItems();
     }
@@ -55,38 +55,39 @@ public final class AuctionBidGUI implements InventoryHolder {
     }
 
     private void initializeItems() {
-        inventory.clear();
-        
-        fillBorders();
+        inventory.setContents(plugin.getGuiTemplates().getLayout(Layout.BID));
+        updateAuctionSlots();
+    }
 
+    /**
+     * Updates the auction and bid button slots, the only ones that change while the GUI is open
+     */
+    private void updateAuctionSlots() {
         if (currentAuction == null) {
-            inventory.setItem(CURRENT_ITEM_SLOT, createNoAuctionItem());
+            ViewManager.updateSlot(inventory, CURRENT_ITEM_SLOT, plugin.getGuiTemplates().getButton(Button.BID_NO_AUCTION));
+            ViewManager.updateSlot(inventory, STEP_BID_SLOT, null);
+            ViewManager.updateSlot(inventory, CUSTOM_BID_SLOT, null);
+            ViewManager.updateSlot(inventory, MAX_BID_SLOT, null);
             return;
         }
 
-        inventory.setItem(CURRENT_ITEM_SLOT, createCurrentAuctionItem());
-
-        if (plugin.getConfigManager().isStepEnabled()) {
-            inventory.setItem(STEP_BID_SLOT, createStepBidButton());
-        }
-        inventory.setItem(CUSTOM_BID_SLOT, createCustomBidButton());
+        // Shared with every other bid menu on this lane during a render
+        ViewManager viewManager = plugin.getViewManager();
+        ViewManager.updateSlot(inventory, CURRENT_ITEM_SLOT,
+            viewManager.getSharedItem("bid.item." + lane, this::createCurrentAuctionItem));
+        ViewManager.updateSlot(inventory, STEP_BID_SLOT, plugin.getConfigManager().isStepEnabled()
+            ? viewManager.getSharedItem("bid.step." + lane, this::createStepBidButton) : null);
+        ViewManager.updateSlot(inventory, CUSTOM_BID_SLOT, createCustomBidButton());
+        ViewManager.updateSlot(inventory, MAX_BID_SLOT, createMaxBidButton());
     }
 
-    @SuppressWarnings("deprecation")
-    private ItemStack createNoAuctionItem() {
-        ItemStack item = new ItemStack(Material.BARRIER);
-        ItemMeta meta = item.getItemMeta();
-        if (meta != null) {
-            Map<String, String> placeholders = new HashMap<>();
-            meta.setDisplayName(messageManager.getPlainMessage("gui.bid.no_auction.title", placeholders));
-            
-            List<String> lore = new ArrayList<>();
-            lore.add(messageManager.getPlainMessage("gui.bid.no_auction.description", placeholders));
-            meta.setLore(lore);
-            
-            item.setItemMeta(meta);
-        }
-        return item;
+    /**
+     * Follows the lane to its current auction, which may have ended or changed since the GUI opened
+     */
+    @Override
+    public void refresh() {
+        currentAuction = plugin.getAuctionManager().getCurrentAuction(lane);
+        updateAuctionSlots();
     }
 
     @SuppressWarnings("deprecation")
@@ -156,24 +157,26 @@ public final class AuctionBidGUI implements InventoryHolder {
     }
 
     @SuppressWarnings("deprecation")
-    private void fillBorders() {
-        ItemStack border = new ItemStack(Material.BLACK_STAINED_GLASS_PANE);
-        ItemMeta meta = border.getItemMeta();
+    private ItemStack createMaxBidButton() {
+        ItemStack button = new ItemStack(Material.NAME_TAG);
+        ItemMeta meta = button.getItemMeta();
         if (meta != null) {
-            meta.setDisplayName(" ");
-            border.setItemMeta(meta);
-        }
-
-        for (int i = 0; i < 9; i++) {
-            inventory.setItem(i, border.clone());
-            inventory.setItem(18 + i, border.clone());
-        }
+            Map<String, String> placeholders = new HashMap<>();
+            placeholders.put("min_bid", plugin.getEconomyManager().formatMoney(currentAuction.getMinimumNextBid()));
+            meta.setDisplayName(messageManager.getPlainMessage("gui.bid.max_button.title", placeholders));
 
-        for (int i = 9; i < 18; i++) {
-            if (i == 9 || i == 17) {
-                inventory.setItem(i, border.clone());
+            List<String> lore = new ArrayList<>();
+            lore.add(messageManager.getPlainMessage("gui.bid.max_button.description", placeholders));
+            double maxBid = plugin.getAuctionManager().getMaxBid(currentAuction, player.getUniqueId());
+            if (maxBid > 0) {
+                placeholders.put("max", plugin.getEconomyManager().formatMoney(maxBid));
+                lore.add(messageManager.getPlainMessage("gui.bid.max_button.current", placeholders));
             }
+            meta.setLore(lore);
+
+            button.setItemMeta(meta);
         }
+        return button;
     }
 
     private String formatTimeRemaining(long remainingMs) {
@@ -184,8 +187,7 @@ public final class AuctionBidGUI implements InventoryHolder {
 
     public void handleInventoryClick(Player player, int slot) {
         if (currentAuction == null) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.player.bids.failed.no_auction", placeholders);
+            messageManager.sendMessage(player, "messages.player.bids.failed.no_auction");
             player.closeInventory();
             return;
         }
@@ -194,13 +196,14 @@ public final class AuctionBidGUI implements InventoryHolder {
             handleStepBid(player);
         } else if (slot == CUSTOM_BID_SLOT) {
             handleCustomBid(player);
+        } else if (slot == MAX_BID_SLOT) {
+            handleMaxBid(player);
         }
     }
 
     public void open() {
         if (currentAuction == null) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.player.bids.failed.no_auction", placeholders);
+            messageManager.sendMessage(player, "messages.player.bids.failed.no_auction");
             return;
         }
         player.openInventory(inventory);
@@ -211,22 +214,17 @@ public final class AuctionBidGUI implements InventoryHolder {
         return inventory;
     }
 
-    public boolean hasPendingBid() {
-        return hasPendingBid;
-    }
-
     private void handleStepBid(Player player) {
         if (currentAuction == null) return;
         
         double nextBid = currentAuction.getMinimumNextBid();
         
         if (!plugin.getEconomyManager().hasBalance(player, nextBid)) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "gui.bid.messages.no_money", placeholders);
+            messageManager.sendMessage(player, "gui.bid.messages.no_money");
             return;
         }
         
-        if (plugin.getAuctionManager().placeBid(player, nextBid)) {
+        if (plugin.getAuctionManager().placeBid(player, lane, currentAuction.getId(), nextBid)) {
             Map<String, String> placeholders = new HashMap<>();
             placeholders.put("bid", plugin.getEconomyManager().formatMoney(nextBid));
             placeholders.put("item", currentAuction.getItem().getType().name());
@@ -238,61 +236,72 @@ public final class AuctionBidGUI implements InventoryHolder {
     private void handleCustomBid(Player player) {
         if (currentAuction == null) return;
         
-        hasPendingBid = true;
         player.closeInventory();
         
         Map<String, String> placeholders = new HashMap<>();
         placeholders.put("min_bid", plugin.getEconomyManager().formatMoney(currentAuction.getMinimumNextBid()));
         messageManager.sendMessage(player, "gui.bid.custom.prompt", placeholders);
         messageManager.sendMessage(player, "gui.bid.custom.min_bid", placeholders);
-        
-        Listener chatListener = new Listener() {
-            @SuppressWarnings("deprecation")
-            @EventHandler
-            public void onChat(AsyncPlayerChatEvent event) {
-                if (!event.getPlayer().equals(player)) return;
-                event.setCancelled(true);
-                
-                if (event.getMessage().equalsIgnoreCase("cancel")) {
-                    Map<String, String> placeholders = new HashMap<>();
-                    messageManager.sendMessage(player, "gui.bid.custom.cancelled", placeholders);
-                    hasPendingBid = false;
-                    HandlerList.unregisterAll(this);
+
+        AuctionItem auction = currentAuction;
+        plugin.getChatPromptManager().prompt(player, "gui.bid.custom.cancelled", input -> {
+            double bidAmount;
+            try {
+                bidAmount = Double.parseDouble(input);
+            } catch (NumberFormatException e) {
+                messageManager.sendMessage(player, "gui.bid.custom.invalid_amount");
+                return null;
+            }
+
+            // Bid state is lock-free, so the minimum can be checked right here on the chat thread
+            double minimumBid = auction.getMinimumNextBid();
+            if (Double.isNaN(bidAmount) || bidAmount < minimumBid) {
+                Map<String, String> minPlaceholders = new HashMap<>();
+                minPlaceholders.put("min_bid", plugin.getEconomyManager().formatMoney(minimumBid));
+                messageManager.sendMessage(player, "gui.bid.messages.minimum_bid", minPlaceholders);
+                return null;
+            }
+
+            // Balance checks and the bid itself go through the economy, which belongs on the main thread
+            return () -> {
+                if (!plugin.getEconomyManager().hasBalance(player, bidAmount)) {
+                    messageManager.sendMessage(player, "gui.bid.messages.no_money");
                     return;
                 }
-                
-                try {
-                    double bidAmount = Double.parseDouble(event.getMessage());
-                    
-                    if (bidAmount < currentAuction.getMinimumNextBid()) {
-                        Map<String, String> placeholders = new HashMap<>();
-                        placeholders.put("min_bid", plugin.getEconomyManager().formatMoney(currentAuction.getMinimumNextBid()));
-                        messageManager.sendMessage(player, "gui.bid.messages.minimum_bid", placeholders);
-                        return;
-                    }
-                    
-                    if (!plugin.getEconomyManager().hasBalance(player, bidAmount)) {
-                        Map<String, String> placeholders = new HashMap<>();
-                        messageManager.sendMessage(player, "gui.bid.messages.no_money", placeholders);
-                        return;
-                    }
-                    
-                    if (plugin.getAuctionManager().placeBid(player, bidAmount)) {
-                        Map<String, String> placeholders = new HashMap<>();
-                        placeholders.put("bid", plugin.getEconomyManager().formatMoney(bidAmount));
-                        placeholders.put("item", currentAuction.getItem().getType().name());
-                        messageManager.sendMessage(player, "gui.bid.messages.success", placeholders);
-                    }
-                } catch (NumberFormatException e) {
-                    Map<String, String> placeholders = new HashMap<>();
-                    messageManager.sendMessage(player, "gui.bid.custom.invalid_amount", placeholders);
-                } finally {
-                    hasPendingBid = false;
-                    HandlerList.unregisterAll(this);
+
+                // The lane may have moved on while the player typed, only bid on the auction they saw
+                if (plugin.getAuctionManager().placeBid(player, lane, auction.getId(), bidAmount)) {
+                    Map<String, String> successPlaceholders = new HashMap<>();
+                    successPlaceholders.put("bid", plugin.getEconomyManager().formatMoney(bidAmount));
+                    successPlaceholders.put("item", auction.getItem().getType().name());
+                    messageManager.sendMessage(player, "gui.bid.messages.success", successPlaceholders);
                 }
+            };
+        });
+    }
+
+    private void handleMaxBid(Player player) {
+        if (currentAuction == null) return;
+
+        player.closeInventory();
+
+        Map<String, String> placeholders = new HashMap<>();
+        placeholders.put("min_bid", plugin.getEconomyManager().formatMoney(currentAuction.getMinimumNextBid()));
+        messageManager.sendMessage(player, "gui.bid.max.prompt", placeholders);
+        messageManager.sendMessage(player, "gui.bid.custom.min_bid", placeholders);
+
+        AuctionItem auction = currentAuction;
+        plugin.getChatPromptManager().prompt(player, "gui.bid.custom.cancelled", input -> {
+            double maxAmount;
+            try {
+                maxAmount = Double.parseDouble(input);
+            } catch (NumberFormatException e) {
+                messageManager.sendMessage(player, "gui.bid.custom.invalid_amount");
+                return null;
             }
-        };
-        
-        Bukkit.getPluginManager().registerEvents(chatListener, plugin);
+
+            // The minimum and the reservation are checked by the auction manager on the main thread
+            return () -> plugin.getAuctionManager().placeMaxBid(player, lane, auction.getId(), maxAmount);
+        });
     }
-}
\ No newline at end of file
+}
@@ -14,6 +14,7 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 import com.gsoldera.gAuction.GAuctionPlugin;
+import com.gsoldera.gAuction.gui.GuiTemplates.Layout;
 import com.gsoldera.gAuction.messages.MessageManager;
 
 /**
@@ -32,8 +33,8 @@ public final class AuctionConfirmGUI implements InventoryHolder {
     private static final int CONFIRM_START_SLOT = 10;
     private static final int CONFIRM_END_SLOT = 12;
     private static final int ITEM_SLOT = 13;
-    private static final int CANCEL_START_SLOT = 14;
-    private static final int CANCEL_END_SLOT = 16;
+    static final int CANCEL_START_SLOT = 14;
+    static final int CANCEL_END_SLOT = 16;
 
     public AuctionConfirmGUI(GAuctionPlugin plugin, Player player, ItemStack itemToAuction, 
                             double minBid, double stepValue) {
@@ -44,8 +45,7 @@ public final class AuctionConfirmGUI implements InventoryHolder {
         this.stepValue = stepValue;
         this.confirmed = false;
 
-        Map<String, String> placeholders = new HashMap<>();
-        String title = messageManager.getPlainMessage("gui.confirm.title", placeholders);
+        String title = messageManager.getPlainMessage("gui.confirm.title");
         createInventory(title);
         initializeItems();
     }
@@ -56,21 +56,13 @@ public final class AuctionConfirmGUI implements InventoryHolder {
     }
 
     private void initializeItems() {
-        // Limpa o inventári
-        inventory.clear();
-        
-        fillBorders();
+        inventory.setContents(plugin.getGuiTemplates().getLayout(Layout.CONFIRM));
 
         ItemStack confirmButton = createConfirmButton();
         for (int i = CONFIRM_START_SLOT; i <= CONFIRM_END_SLOT; i++) {
             inventory.setItem(i, confirmButton);
         }
 
-        ItemStack cancelButton = createCancelButton();
-        for (int i = CANCEL_START_SLOT; i <= CANCEL_END_SLOT; i++) {
-            inventory.setItem(i, cancelButton);
-        }
-
         inventory.setItem(ITEM_SLOT, itemToAuction.clone());
     }
 
@@ -97,44 +89,6 @@ public final class AuctionConfirmGUI implements InventoryHolder {
         return button;
     }
 
-    @SuppressWarnings("deprecation")
-    private ItemStack createCancelButton() {
-        ItemStack button = new ItemStack(Material.RED_STAINED_GLASS_PANE);
-        ItemMeta meta = button.getItemMeta();
-        if (meta != null) {
-            Map<String, String> placeholders = new HashMap<>();
-            meta.setDisplayName(messageManager.getPlainMessage("gui.confirm.cancel_button.title", placeholders));
-            
-            List<String> lore = new ArrayList<>();
-            lore.add(messageManager.getPlainMessage("gui.confirm.cancel_button.description", placeholders));
-            meta.setLore(lore);
-            
-            button.setItemMeta(meta);
-        }
-        return button;
-    }
-
-    @SuppressWarnings("deprecation")
-    private void fillBorders() {
-        ItemStack border = new ItemStack(Material.BLACK_STAINED_GLASS_PANE);
-        ItemMeta meta = border.getItemMeta();
-        if (meta != null) {
-            meta.setDisplayName(" ");
-            border.setItemMeta(meta);
-        }
-
-        for (int i = 0; i < 9; i++) {
-            inventory.setItem(i, border.clone());
-            inventory.setItem(18 + i, border.clone());
-        }
-
-        for (int i = 9; i < 18; i++) {
-            if (i == 9 || i == 17) {
-                inventory.setItem(i, border.clone());
-            }
-        }
-    }
-
     public void handleInventoryClick(Player player, int slot) {
         if (slot >= CONFIRM_START_SLOT && slot <= CONFIRM_END_SLOT) {
             confirmed = true;
@@ -152,8 +106,7 @@ public final class AuctionConfirmGUI implements InventoryHolder {
         } 
         else if (slot >= CANCEL_START_SLOT && slot <= CANCEL_END_SLOT) {
             player.closeInventory();
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "gui.confirm.cancelled", placeholders);
+            messageManager.sendMessage(player, "gui.confirm.cancelled");
         }
     }
 
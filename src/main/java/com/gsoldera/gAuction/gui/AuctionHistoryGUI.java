@@ -9,34 +9,36 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 import org.bukkit.Bukkit;
-import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.SkullMeta;
 
 import com.gsoldera.gAuction.GAuctionPlugin;
+import com.gsoldera.gAuction.gui.GuiTemplates.Button;
+import com.gsoldera.gAuction.gui.GuiTemplates.Layout;
 import com.gsoldera.gAuction.messages.MessageManager;
-import com.gsoldera.gAuction.utils.ItemSerializer;
 
 /**
  * GUI for viewing auction history
  * Shows past auctions and their outcomes
+ * Pages are loaded in the background; the GUI opens right away with a loading indicator.
  */
-public final class AuctionHistoryGUI implements InventoryHolder {
+public final class AuctionHistoryGUI implements LoadingView {
     private final GAuctionPlugin plugin;
     private final Player player;
     private final MessageManager messageManager;
     private Inventory inventory;
     private int currentPage;
     private boolean showingPersonalOnly = false;
-    private List<HistoryEntry> allHistoryEntries;
-    private List<HistoryEntry> filteredHistoryEntries;
+    private HistoryPage page;
+    private final List<PageCursor> pageCursors;
+    private CompletableFuture<HistoryPage> nextPagePrefetch;
+    private final ViewLoader loader;
 
     private static final int ROWS = 6;
     private static final int PAGE_SIZE = 28;
@@ -44,10 +46,19 @@ public final class AuctionHistoryGUI implements InventoryHolder {
     private static final int LAST_SLOT = 43;
     private static final int PREV_PAGE_SLOT = 45;
     private static final int NEXT_PAGE_SLOT = 53;
-    private static final int BACK_BUTTON_SLOT = 48;
+    static final int BACK_BUTTON_SLOT = 48;
     private static final int FILTER_BUTTON_SLOT = 50;
+    private static final int STATUS_SLOT = 22;
+
+    // Keyset pagination: rows after (end_time, id) in descending order, one extra row to detect a next page
+    private static final String KEYSET_CONDITION = "(end_time < ? OR (end_time = ? AND id < ?))";
+    private static final String PERSONAL_CONDITION = "(seller_uuid = ? OR buyer_uuid = ?)";
+    private static final String PAGE_QUERY =
+        "SELECT id, item_data, item_serialized, seller_name, buyer_name, final_bid, end_time, status " +
+        "FROM auction_history %s ORDER BY end_time DESC, id DESC LIMIT " + (PAGE_SIZE + 1);
 
     private record HistoryEntry(
+        long id,
         ItemStack item,
         String sellerName,
         String buyerName,
@@ -56,17 +67,29 @@ public final class AuctionHistoryGUI implements InventoryHolder {
         String status
     ) {}
 
+    /**
+     * Position right after the last row of a page
+     */
+    private record PageCursor(long endTime, long id) {}
+
+    private record HistoryPage(List<HistoryEntry> entries, boolean hasMore) {
+        PageCursor nextCursor() {
+            HistoryEntry last = entries.get(entries.size() - 1);
+            return new PageCursor(last.endTime(), last.id());
+        }
+    }
+
     public AuctionHistoryGUI(GAuctionPlugin plugin, Player player) {
         this.plugin = plugin;
         this.player = player;
         this.messageManager = plugin.getMessageManager();
         this.currentPage = 0;
+        this.pageCursors = new ArrayList<>();
+        this.loader = new ViewLoader(plugin, player, this);
 
-        Map<String, String> placeholders = new HashMap<>();
-        String title = messageManager.getPlainMessage("gui.history.title", placeholders);
+        String title = messageManager.getPlainMessage("gui.history.title");
         createInventory(title);
-        loadHistoryEntries();
-        initializeItems();
+        showLoading();
     }
 
     @SuppressWarnings("deprecation")
@@ -74,97 +97,176 @@ public final class AuctionHistoryGUI implements InventoryHolder {
         this.inventory = Bukkit.createInventory(this, ROWS * 9, title);
     }
 
-    private void loadHistoryEntries() {
-        allHistoryEntries = new ArrayList<>();
-        try (var conn = plugin.getDatabaseManager().getDatabaseConnection().getConnection();
-             var stmt = conn.prepareStatement(
-                "SELECT item_serialized, seller_name, buyer_name, final_bid, end_time, status " +
-                "FROM auction_history " +
-                "ORDER BY end_time DESC"
-             )) {
-            
+    /**
+     * Loads one page of history using the (end_time, id) keyset
+     * Safe to call off the main thread
+     * @param after Cursor of the previous page or null for the first page
+     */
+    private HistoryPage loadPage(PageCursor after, boolean personalOnly) {
+        List<String> conditions = new ArrayList<>(2);
+        if (after != null) {
+            conditions.add(KEYSET_CONDITION);
+        }
+        if (personalOnly) {
+            conditions.add(PERSONAL_CONDITION);
+        }
+        String where = conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+
+        List<HistoryEntry> entries = new ArrayList<>(PAGE_SIZE + 1);
+        try (var conn = plugin.getDatabaseManager().getDatabaseConnection().getReadConnection();
+             var stmt = conn.prepareStatement(String.format(PAGE_QUERY, where))) {
+
+            int index = 1;
+            if (after != null) {
+                stmt.setLong(index++, after.endTime());
+                stmt.setLong(index++, after.endTime());
+                stmt.setLong(index++, after.id());
+            }
+            if (personalOnly) {
+                String playerUUID = player.getUniqueId().toString();
+                stmt.setString(index++, playerUUID);
+                stmt.setString(index, playerUUID);
+            }
+
             try (var rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    ItemStack item = ItemSerializer.deserializeItemStack(rs.getString("item_serialized"));
-                    if (item != null) {
-                        allHistoryEntries.add(new HistoryEntry(
-                            item,
-                            rs.getString("seller_name"),
-                            rs.getString("buyer_name"),
-                            rs.getDouble("final_bid"),
-                            rs.getLong("end_time"),
-                            rs.getString("status")
-                        ));
+                    if (entries.size() == PAGE_SIZE) {
+                        return new HistoryPage(entries, true);
                     }
+
+                    // Undecodable rows are kept so the keyset cursor still advances past them
+                    ItemStack item = plugin.getItemCache().get(
+                        rs.getLong("id"), rs.getBytes("item_data"), rs.getString("item_serialized"));
+                    entries.add(new HistoryEntry(
+                        rs.getLong("id"),
+                        item,
+                        rs.getString("seller_name"),
+                        rs.getString("buyer_name"),
+                        rs.getDouble("final_bid"),
+                        rs.getLong("end_time"),
+                        rs.getString("status")
+                    ));
                 }
             }
-            updateFilteredEntries();
         } catch (SQLException e) {
             plugin.getPluginLogger().error("Error loading auction history", e);
         }
+        return new HistoryPage(entries, false);
     }
 
-    private void updateFilteredEntries() {
-        if (showingPersonalOnly) {
-            filteredHistoryEntries = allHistoryEntries.stream()
-                .filter(entry -> player.getName().equals(entry.sellerName()) || 
-                               player.getName().equals(entry.buyerName()))
-                .collect(Collectors.toList());
-        } else {
-            filteredHistoryEntries = new ArrayList<>(allHistoryEntries);
-        }
+    private void showFirstPage() {
+        cancelPrefetch();
         currentPage = 0;
+        pageCursors.clear();
+        pageCursors.add(null);
+
+        boolean personalOnly = showingPersonalOnly;
+        showLoading();
+        loader.load(() -> loadPage(null, personalOnly), this::showPage);
     }
 
-    private void initializeItems() {
-        clearInventory();
-        fillBorders();
-        displayCurrentPage();
-        updateNavigationButtons();
-        createSpecialButtons();
+    private void showPage(HistoryPage loadedPage) {
+        this.page = loadedPage;
+        refreshInventory();
+        prefetchNextPage();
     }
 
-    private void clearInventory() {
-        inventory.clear();
+    /**
+     * Starts loading the page after the visible one in the background
+     */
+    private void prefetchNextPage() {
+        if (!page.hasMore()) {
+            nextPagePrefetch = null;
+            return;
+        }
+
+        PageCursor cursor = page.nextCursor();
+        boolean personalOnly = showingPersonalOnly;
+        nextPagePrefetch = CompletableFuture.supplyAsync(
+            () -> loadPage(cursor, personalOnly),
+            plugin.getViewManager().getLoadExecutor()
+        );
     }
 
-    @SuppressWarnings("deprecation")
-    private void fillBorders() {
-        ItemStack border = new ItemStack(Material.BLACK_STAINED_GLASS_PANE);
-        ItemMeta meta = border.getItemMeta();
-        if (meta != null) {
-            meta.setDisplayName(" ");
-            border.setItemMeta(meta);
+    private void cancelPrefetch() {
+        if (nextPagePrefetch != null) {
+            nextPagePrefetch.cancel(false);
+            nextPagePrefetch = null;
+        }
+    }
+
+    private void showNextPage() {
+        if (page == null || !page.hasMore()) {
+            return;
         }
 
-        for (int i = 0; i < inventory.getSize(); i++) {
-            if (isSlotOnBorder(i)) {
-                inventory.setItem(i, border.clone());
-            }
+        PageCursor cursor = page.nextCursor();
+        int targetPage = currentPage + 1;
+        CompletableFuture<HistoryPage> prefetched = nextPagePrefetch;
+        nextPagePrefetch = null;
+
+        // Usually finished already, then the page shows without a loading step
+        if (prefetched != null && prefetched.isDone() && !prefetched.isCompletedExceptionally()) {
+            showPageAt(targetPage, cursor, prefetched.join());
+            return;
+        }
+        if (prefetched != null) {
+            prefetched.cancel(false);
+        }
+
+        boolean personalOnly = showingPersonalOnly;
+        showLoading();
+        loader.load(() -> loadPage(cursor, personalOnly), loaded -> showPageAt(targetPage, cursor, loaded));
+    }
+
+    private void showPreviousPage() {
+        if (page == null || currentPage == 0) {
+            return;
+        }
+
+        cancelPrefetch();
+        int targetPage = currentPage - 1;
+        PageCursor cursor = pageCursors.get(targetPage);
+        boolean personalOnly = showingPersonalOnly;
+        showLoading();
+        loader.load(() -> loadPage(cursor, personalOnly), loaded -> showPageAt(targetPage, cursor, loaded));
+    }
+
+    private void showPageAt(int pageIndex, PageCursor cursor, HistoryPage loadedPage) {
+        currentPage = pageIndex;
+        if (pageCursors.size() <= currentPage) {
+            pageCursors.add(cursor);
+        } else {
+            pageCursors.set(currentPage, cursor);
         }
+        showPage(loadedPage);
     }
 
-    private boolean isSlotOnBorder(int slot) {
-        int row = slot / 9;
-        int col = slot % 9;
-        return row == 0 || row == 5 || col == 0 || col == 8;
+    /**
+     * Clears the page and shows the loading indicator until the next page arrives
+     */
+    private void showLoading() {
+        page = null;
+        inventory.setContents(plugin.getGuiTemplates().getLayout(Layout.HISTORY));
+        inventory.setItem(FILTER_BUTTON_SLOT, createFilterButton());
+        inventory.setItem(STATUS_SLOT, plugin.getGuiTemplates().getButton(Button.LOADING));
     }
 
     private void displayCurrentPage() {
-        int startIndex = currentPage * PAGE_SIZE;
-        int endIndex = Math.min(startIndex + PAGE_SIZE, filteredHistoryEntries.size());
         int slot = FIRST_SLOT;
         int itemsInCurrentRow = 0;
 
-        for (int i = startIndex; i < endIndex; i++) {
+        for (HistoryEntry entry : page.entries()) {
             if (slot > LAST_SLOT) break;
             if (itemsInCurrentRow == 7) {
                 slot += 2;
                 itemsInCurrentRow = 0;
             }
             
-            HistoryEntry entry = filteredHistoryEntries.get(i);
-            inventory.setItem(slot++, createHistoryItem(entry));
+            if (entry.item() != null) {
+                inventory.setItem(slot, createHistoryItem(entry));
+            }
+            slot++;
             itemsInCurrentRow++;
         }
     }
@@ -208,26 +310,12 @@ public final class AuctionHistoryGUI implements InventoryHolder {
 
     private void updateNavigationButtons() {
         if (currentPage > 0) {
-            inventory.setItem(PREV_PAGE_SLOT, createNavigationButton(true));
+            inventory.setItem(PREV_PAGE_SLOT, plugin.getGuiTemplates().getButton(Button.HISTORY_PREVIOUS));
         }
 
-        int maxPages = (int) Math.ceil(filteredHistoryEntries.size() / (double) PAGE_SIZE);
-        if (currentPage < maxPages - 1) {
-            inventory.setItem(NEXT_PAGE_SLOT, createNavigationButton(false));
-        }
-    }
-
-    @SuppressWarnings("deprecation")
-    private ItemStack createNavigationButton(boolean isPrevious) {
-        ItemStack button = new ItemStack(Material.ARROW);
-        ItemMeta meta = button.getItemMeta();
-        if (meta != null) {
-            Map<String, String> placeholders = new HashMap<>();
-            String key = isPrevious ? "gui.history.buttons.previous_page" : "gui.history.buttons.next_page";
-            meta.setDisplayName(messageManager.getPlainMessage(key, placeholders));
-            button.setItemMeta(meta);
+        if (page.hasMore()) {
+            inventory.setItem(NEXT_PAGE_SLOT, plugin.getGuiTemplates().getButton(Button.HISTORY_NEXT));
         }
-        return button;
     }
 
     private String formatTime(long timestamp) {
@@ -240,37 +328,30 @@ public final class AuctionHistoryGUI implements InventoryHolder {
 
     public void handleInventoryClick(Player player, int slot) {
         if (slot == PREV_PAGE_SLOT && currentPage > 0) {
-            currentPage--;
-            refreshInventory();
+            showPreviousPage();
         } 
         else if (slot == NEXT_PAGE_SLOT) {
-            int maxPages = (int) Math.ceil(filteredHistoryEntries.size() / (double) PAGE_SIZE);
-            if (currentPage < maxPages - 1) {
-                currentPage++;
-                refreshInventory();
-            }
+            showNextPage();
         }
         else if (slot == BACK_BUTTON_SLOT) {
+            cancelLoad();
             player.closeInventory();
             new AuctionMainGUI(plugin, player).open();
         }
         else if (slot == FILTER_BUTTON_SLOT) {
             showingPersonalOnly = !showingPersonalOnly;
-            updateFilteredEntries();
-            refreshInventory();
+            showFirstPage();
         }
     }
 
     private void refreshInventory() {
-        clearInventory();
-        fillBorders();
-        displayCurrentPage();
+        inventory.setContents(plugin.getGuiTemplates().getLayout(Layout.HISTORY));
+        if (page.entries().isEmpty()) {
+            inventory.setItem(STATUS_SLOT, plugin.getGuiTemplates().getButton(Button.HISTORY_EMPTY));
+        } else {
+            displayCurrentPage();
+        }
         updateNavigationButtons();
-        createSpecialButtons();
-    }
-
-    private void createSpecialButtons() {
-        inventory.setItem(BACK_BUTTON_SLOT, createBackButton());
         inventory.setItem(FILTER_BUTTON_SLOT, createFilterButton());
     }
 
@@ -279,61 +360,32 @@ public final class AuctionHistoryGUI implements InventoryHolder {
         return inventory;
     }
 
+    /**
+     * Opens the GUI right away and loads the first page in the background
+     */
     public void open() {
-        if (filteredHistoryEntries.isEmpty()) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "gui.history.empty.description", placeholders);
-            return;
-        }
         player.openInventory(inventory);
+        showFirstPage();
     }
 
-    @SuppressWarnings("deprecation")
-    private ItemStack createBackButton() {
-        ItemStack button = new ItemStack(Material.ARROW);
-        ItemMeta meta = button.getItemMeta();
-        if (meta != null) {
-            Map<String, String> placeholders = new HashMap<>();
-            meta.setDisplayName(messageManager.getPlainMessage("gui.history.buttons.back.title", placeholders));
-            
-            List<String> lore = new ArrayList<>();
-            lore.add(messageManager.getPlainMessage("gui.history.buttons.back.description", placeholders));
-            meta.setLore(lore);
-            
-            button.setItemMeta(meta);
-        }
-        return button;
+    @Override
+    public void cancelLoad() {
+        loader.cancel();
+        cancelPrefetch();
     }
 
-    @SuppressWarnings("deprecation")
+    /**
+     * Gets the filter button; the personal one shows the player's own head
+     */
     private ItemStack createFilterButton() {
-        ItemStack button;
-        if (showingPersonalOnly) {
-            button = new ItemStack(Material.PLAYER_HEAD);
-            if (button.getItemMeta() instanceof SkullMeta meta) {
-                meta.setOwningPlayer(player);
-                
-                Map<String, String> placeholders = new HashMap<>();
-                meta.setDisplayName(messageManager.getPlainMessage("gui.history.buttons.filter.personal.title", placeholders));
-                
-                List<String> lore = new ArrayList<>();
-                lore.add(messageManager.getPlainMessage("gui.history.buttons.filter.personal.description", placeholders));
-                meta.setLore(lore);
-                
-                button.setItemMeta(meta);
-            }
-        } else {
-            button = new ItemStack(Material.PLAYER_HEAD);
-            if (button.getItemMeta() instanceof SkullMeta meta) {
-                Map<String, String> placeholders = new HashMap<>();
-                meta.setDisplayName(messageManager.getPlainMessage("gui.history.buttons.filter.all.title", placeholders));
-                
-                List<String> lore = new ArrayList<>();
-                lore.add(messageManager.getPlainMessage("gui.history.buttons.filter.all.description", placeholders));
-                meta.setLore(lore);
-                
-                button.setItemMeta(meta);
-            }
+        if (!showingPersonalOnly) {
+            return plugin.getGuiTemplates().getButton(Button.HISTORY_FILTER_ALL);
+        }
+
+        ItemStack button = plugin.getGuiTemplates().getButton(Button.HISTORY_FILTER_PERSONAL).clone();
+        if (button.getItemMeta() instanceof SkullMeta meta) {
+            meta.setOwningPlayer(player);
+            button.setItemMeta(meta);
         }
         return button;
     }
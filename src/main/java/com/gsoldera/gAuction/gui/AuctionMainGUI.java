@@ -8,43 +8,38 @@ import java.util.Map;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
-import org.bukkit.event.player.AsyncPlayerChatEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 import com.gsoldera.gAuction.GAuctionPlugin;
 import com.gsoldera.gAuction.auction.AuctionItem;
+import com.gsoldera.gAuction.gui.GuiTemplates.Layout;
 import com.gsoldera.gAuction.messages.MessageManager;
 
 /**
  * Main auction GUI
  * Shows current auction and navigation buttons
  */
-public final class AuctionMainGUI implements InventoryHolder {
+public final class AuctionMainGUI implements AuctionView {
     private final GAuctionPlugin plugin;
     private final Player player;
     private final MessageManager messageManager;
     private Inventory inventory;
 
     private static final int CURRENT_AUCTION_SLOT = 22;
-    private static final int BID_BUTTON_SLOT = 29;
-    private static final int WAREHOUSE_BUTTON_SLOT = 33;
-    private static final int HISTORY_BUTTON_SLOT = 40;
+    static final int BID_BUTTON_SLOT = 29;
+    static final int WAREHOUSE_BUTTON_SLOT = 33;
+    static final int HISTORY_BUTTON_SLOT = 40;
     private static final int CREATE_AUCTION_SLOT = 4;
-    private static final int QUEUE_BUTTON_SLOT = 31;
+    static final int QUEUE_BUTTON_SLOT = 31;
 
     public AuctionMainGUI(GAuctionPlugin plugin, Player player) {
         this.plugin = plugin;
         this.player = player;
         this.messageManager = plugin.getMessageManager();
         
-        Map<String, String> placeholders = new HashMap<>();
-        String title = messageManager.getPlainMessage("gui.main.title", placeholders);
+        String title = messageManager.getPlainMessage("gui.main.title");
         createInventory(title);
         initializeItems();
     }
@@ -55,35 +50,64 @@ public final class AuctionMainGUI implements InventoryHolder {
     }
 
     private void initializeItems() {
-        inventory.clear();
+        inventory.setContents(plugin.getGuiTemplates().getLayout(Layout.MAIN));
         
-        fillBorders();
-        
-        inventory.setItem(CURRENT_AUCTION_SLOT, createCurrentAuctionItem());
-        inventory.setItem(BID_BUTTON_SLOT, createBidButton());
-        inventory.setItem(WAREHOUSE_BUTTON_SLOT, createWarehouseButton());
-        inventory.setItem(HISTORY_BUTTON_SLOT, createHistoryButton());
+        updateLaneSlots();
         
         ItemStack handItem = player.getInventory().getItemInMainHand();
         if (handItem.getType() != Material.AIR) {
             inventory.setItem(CREATE_AUCTION_SLOT, createQuickAuctionButton(handItem));
         }
-        inventory.setItem(QUEUE_BUTTON_SLOT, createQueueButton());
+    }
+
+    /**
+     * Updates the lane slots, the only ones that change while the GUI is open
+     * Lane items look the same to everyone, so a render builds each one once for all open menus
+     */
+    private void updateLaneSlots() {
+        int laneCount = plugin.getAuctionManager().getLaneCount();
+        for (int lane = 0; lane < laneCount; lane++) {
+            int index = lane;
+            ItemStack item = plugin.getViewManager().getSharedItem("main.lane." + lane,
+                () -> createCurrentAuctionItem(index, laneCount));
+            ViewManager.updateSlot(inventory, getLaneSlot(lane, laneCount), item);
+        }
+    }
+
+    /**
+     * Gets the slot of a lane; lanes are laid out centered on the current auction slot
+     */
+    private int getLaneSlot(int lane, int laneCount) {
+        return CURRENT_AUCTION_SLOT - (laneCount - 1) / 2 + lane;
+    }
+
+    /**
+     * Gets the lane shown in a slot
+     * @return Zero-based lane index or -1 if the slot shows no lane
+     */
+    private int getLaneAtSlot(int slot) {
+        int laneCount = plugin.getAuctionManager().getLaneCount();
+        int lane = slot - getLaneSlot(0, laneCount);
+        return lane >= 0 && lane < laneCount ? lane : -1;
     }
 
     @SuppressWarnings("deprecation")
-    private ItemStack createCurrentAuctionItem() {
-        AuctionItem currentAuction = plugin.getAuctionManager().getCurrentAuction();
+    private ItemStack createCurrentAuctionItem(int lane, int laneCount) {
+        AuctionItem currentAuction = plugin.getAuctionManager().getCurrentAuction(lane);
+        Map<String, String> lanePlaceholders = new HashMap<>();
+        lanePlaceholders.put("lane", String.valueOf(lane + 1));
 
         if (currentAuction == null) {
             ItemStack item = new ItemStack(Material.BARRIER);
             ItemMeta meta = item.getItemMeta();
             if (meta != null) {
-                Map<String, String> placeholders = new HashMap<>();
-                meta.setDisplayName(messageManager.getPlainMessage("gui.main.no_auction.title", placeholders));
+                meta.setDisplayName(messageManager.getPlainMessage("gui.main.no_auction.title"));
                 
                 List<String> lore = new ArrayList<>();
-                lore.add(messageManager.getPlainMessage("gui.main.no_auction.description", placeholders));
+                lore.add(messageManager.getPlainMessage("gui.main.no_auction.description"));
+                if (laneCount > 1) {
+                    lore.add(messageManager.getPlainMessage("gui.main.current_auction.lane", lanePlaceholders));
+                }
                 meta.setLore(lore);
                 
                 item.setItemMeta(meta);
@@ -111,6 +135,10 @@ public final class AuctionMainGUI implements InventoryHolder {
             lore.add(messageManager.getPlainMessage("gui.main.current_auction.current_bid", placeholders));
             lore.add(messageManager.getPlainMessage("gui.main.current_auction.seller", placeholders));
             lore.add(messageManager.getPlainMessage("gui.main.current_auction.time", placeholders));
+            if (laneCount > 1) {
+                lore.add(messageManager.getPlainMessage("gui.main.current_auction.lane", lanePlaceholders));
+                lore.add(messageManager.getPlainMessage("gui.main.current_auction.click_to_bid", lanePlaceholders));
+            }
             
             meta.setLore(lore);
             displayItem.setItemMeta(meta);
@@ -118,112 +146,21 @@ public final class AuctionMainGUI implements InventoryHolder {
         return displayItem;
     }
 
-    @SuppressWarnings("deprecation")
-    private ItemStack createBidButton() {
-        ItemStack button = new ItemStack(Material.GOLD_INGOT);
-        ItemMeta meta = button.getItemMeta();
-        if (meta != null) {
-            Map<String, String> placeholders = new HashMap<>();
-            meta.setDisplayName(messageManager.getPlainMessage("gui.main.bid_button.title", placeholders));
-            
-            List<String> lore = new ArrayList<>();
-            lore.add(messageManager.getPlainMessage("gui.main.bid_button.description", placeholders));
-            meta.setLore(lore);
-            
-            button.setItemMeta(meta);
-        }
-        return button;
-    }
-
-    @SuppressWarnings("deprecation")
-    private ItemStack createWarehouseButton() {
-        ItemStack button = new ItemStack(Material.CHEST);
-        ItemMeta meta = button.getItemMeta();
-        if (meta != null) {
-            Map<String, String> placeholders = new HashMap<>();
-            meta.setDisplayName(messageManager.getPlainMessage("gui.main.warehouse_button.title", placeholders));
-            
-            List<String> lore = new ArrayList<>();
-            lore.add(messageManager.getPlainMessage("gui.main.warehouse_button.description", placeholders));
-            meta.setLore(lore);
-            
-            button.setItemMeta(meta);
-        }
-        return button;
-    }
-
-    @SuppressWarnings("deprecation")
-    private ItemStack createHistoryButton() {
-        ItemStack button = new ItemStack(Material.BOOK);
-        ItemMeta meta = button.getItemMeta();
-        if (meta != null) {
-            Map<String, String> placeholders = new HashMap<>();
-            meta.setDisplayName(messageManager.getPlainMessage("gui.main.history_button.title", placeholders));
-            
-            List<String> lore = new ArrayList<>();
-            lore.add(messageManager.getPlainMessage("gui.main.history_button.description", placeholders));
-            meta.setLore(lore);
-            
-            button.setItemMeta(meta);
-        }
-        return button;
-    }
-
     @SuppressWarnings("deprecation")
     private ItemStack createQuickAuctionButton(ItemStack handItem) {
         ItemStack displayItem = handItem.clone();
         ItemMeta meta = displayItem.getItemMeta();
         if (meta != null) {
-            Map<String, String> placeholders = new HashMap<>();
-            meta.setDisplayName(messageManager.getPlainMessage("gui.main.quick_auction.title", placeholders));
+            meta.setDisplayName(messageManager.getPlainMessage("gui.main.quick_auction.title"));
             
             List<String> lore = new ArrayList<>();
-            lore.add(messageManager.getPlainMessage("gui.main.quick_auction.description", placeholders));
+            lore.add(messageManager.getPlainMessage("gui.main.quick_auction.description"));
             meta.setLore(lore);
             displayItem.setItemMeta(meta);
         }
         return displayItem;
     }
 
-    @SuppressWarnings("deprecation")
-    private ItemStack createQueueButton() {
-        ItemStack button = new ItemStack(Material.HOPPER);
-        ItemMeta meta = button.getItemMeta();
-        if (meta != null) {
-            Map<String, String> placeholders = new HashMap<>();
-            meta.setDisplayName(messageManager.getPlainMessage("gui.main.queue_button.title", placeholders));
-            
-            List<String> lore = new ArrayList<>();
-            lore.add(messageManager.getPlainMessage("gui.main.queue_button.description", placeholders));
-            meta.setLore(lore);
-            
-            button.setItemMeta(meta);
-        }
-        return button;
-    }
-
-    @SuppressWarnings("deprecation")
-    private void fillBorders() {
-        ItemStack border = new ItemStack(Material.BLACK_STAINED_GLASS_PANE);
-        ItemMeta meta = border.getItemMeta();
-        if (meta != null) {
-            meta.setDisplayName(" ");
-            border.setItemMeta(meta);
-        }
-
-        for (int i = 0; i < inventory.getSize(); i++) {
-            if (isSlotOnBorder(i)) {
-                inventory.setItem(i, border.clone());
-            }
-        }
-    }
-
-    private boolean isSlotOnBorder(int slot) {
-        int row = slot / 9;
-        int col = slot % 9;
-        return row == 0 || row == 5 || col == 0 || col == 8;
-    }
-
     private String formatTimeRemaining(long remainingMs) {
         long minutes = remainingMs / (60 * 1000);
         long seconds = (remainingMs % (60 * 1000)) / 1000;
@@ -231,10 +168,17 @@ public final class AuctionMainGUI implements InventoryHolder {
     }
 
     public void handleInventoryClick(Player player, int slot) {
+        int lane = getLaneAtSlot(slot);
+        if (lane >= 0 && plugin.getAuctionManager().getCurrentAuction(lane) != null) {
+            player.closeInventory();
+            new AuctionBidGUI(plugin, player, lane).open();
+            return;
+        }
+
         switch (slot) {
             case BID_BUTTON_SLOT -> {
                 player.closeInventory();
-                new AuctionBidGUI(plugin, player).open();
+                new AuctionBidGUI(plugin, player, plugin.getAuctionManager().getFirstActiveLane()).open();
             }
             case WAREHOUSE_BUTTON_SLOT -> {
                 player.closeInventory();
@@ -257,57 +201,36 @@ public final class AuctionMainGUI implements InventoryHolder {
     private void handleQuickAuction(Player player) {
         ItemStack handItem = player.getInventory().getItemInMainHand();
         if (handItem.getType() == Material.AIR) {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.player.auction.no_item", placeholders);
+            messageManager.sendMessage(player, "messages.player.auction.no_item");
             return;
         }
 
         player.closeInventory();
         
-        Map<String, String> placeholders = new HashMap<>();
-        messageManager.sendMessage(player, "gui.main.quick_auction.prompt", placeholders);
-        
-        Listener chatListener = new Listener() {
-            @SuppressWarnings("deprecation")
-            @EventHandler
-            public void onChat(AsyncPlayerChatEvent event) {
-                if (!event.getPlayer().equals(player)) return;
-                event.setCancelled(true);
-                
-                if (event.getMessage().equalsIgnoreCase("cancel")) {
-                    Map<String, String> placeholders = new HashMap<>();
-                    messageManager.sendMessage(player, "gui.main.quick_auction.cancelled", placeholders);
-                    HandlerList.unregisterAll(this);
-                    return;
-                }
-                
-                try {
-                    double minBid = Double.parseDouble(event.getMessage());
-                    if (minBid <= 0) {
-                        Map<String, String> placeholders = new HashMap<>();
-                        messageManager.sendMessage(player, "messages.player.auction.invalid_min_bid", placeholders);
-                        return;
-                    }
-                    
-                    double stepValue = minBid * (plugin.getConfigManager().getStepPercentage() / 100.0);
-                    
-                    AuctionConfirmGUI confirmGUI = new AuctionConfirmGUI(plugin, player, handItem, minBid, stepValue);
-                    Bukkit.getScheduler().runTask(plugin, () -> player.openInventory(confirmGUI.getInventory()));
-                    
-                } catch (NumberFormatException e) {
-                    Map<String, String> placeholders = new HashMap<>();
-                    messageManager.sendMessage(player, "messages.player.auction.invalid_min_bid", placeholders);
-                } finally {
-                    HandlerList.unregisterAll(this);
-                }
+        messageManager.sendMessage(player, "gui.main.quick_auction.prompt");
+
+        plugin.getChatPromptManager().prompt(player, "gui.main.quick_auction.cancelled", input -> {
+            double minBid;
+            try {
+                minBid = Double.parseDouble(input);
+            } catch (NumberFormatException e) {
+                minBid = -1;
             }
-        };
-        
-        Bukkit.getPluginManager().registerEvents(chatListener, plugin);
+            if (minBid <= 0 || Double.isNaN(minBid) || Double.isInfinite(minBid)) {
+                messageManager.sendMessage(player, "messages.player.auction.invalid_min_bid");
+                return null;
+            }
+
+            double startingBid = minBid;
+            double stepValue = minBid * (plugin.getConfigManager().getStepPercentage() / 100.0);
+            return () -> player.openInventory(
+                new AuctionConfirmGUI(plugin, player, handItem, startingBid, stepValue).getInventory());
+        });
     }
 
+    @Override
     public void refresh() {
-        initializeItems();
+        updateLaneSlots();
     }
 
     public void open() {
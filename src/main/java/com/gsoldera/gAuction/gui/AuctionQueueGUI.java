@@ -6,33 +6,39 @@ import java.util.List;
 import java.util.Map;
 
 import org.bukkit.Bukkit;
-import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 import com.gsoldera.gAuction.GAuctionPlugin;
 import com.gsoldera.gAuction.auction.AuctionItem;
+import com.gsoldera.gAuction.auction.AuctionManager.QueueSlot;
+import com.gsoldera.gAuction.gui.GuiTemplates.Button;
+import com.gsoldera.gAuction.gui.GuiTemplates.Layout;
 import com.gsoldera.gAuction.messages.MessageManager;
 
-public final class AuctionQueueGUI implements InventoryHolder {
+/**
+ * GUI listing the running and queued auctions
+ * Admins can remove entries or clear the queue
+ */
+public final class AuctionQueueGUI implements AuctionView {
     private final GAuctionPlugin plugin;
     private final Player player;
     private final MessageManager messageManager;
     private Inventory inventory;
     private static final int ROWS = 3;
     private static final int CLEAR_QUEUE_BUTTON_SLOT = 4;
-    private static final int BACK_BUTTON_SLOT = 22;
+    static final int BACK_BUTTON_SLOT = 22;
+    private static final int FIRST_QUEUE_SLOT = 10;
+    private static final int QUEUE_SLOTS = 7;
 
     public AuctionQueueGUI(GAuctionPlugin plugin, Player player) {
         this.plugin = plugin;
         this.player = player;
         this.messageManager = plugin.getMessageManager();
         
-        Map<String, String> placeholders = new HashMap<>();
-        String title = messageManager.getPlainMessage("gui.queue.title", placeholders);
+        String title = messageManager.getPlainMessage("gui.queue.title");
         createInventory(title);
         initializeItems();
     }
@@ -43,20 +49,22 @@ public final class AuctionQueueGUI implements InventoryHolder {
     }
 
     private void initializeItems() {
-        inventory.clear();
-        fillBorders();
+        inventory.setContents(plugin.getGuiTemplates().getLayout(Layout.QUEUE));
+        updateQueueSlots();
         
-        List<AuctionItem> queueItems = plugin.getAuctionManager().getQueuePreview(7);
-        int slot = 10;
-        
-        for (AuctionItem auction : queueItems) {
-            inventory.setItem(slot++, createQueueItemDisplay(auction));
+        if (player.hasPermission("gauction.admin")) {
+            inventory.setItem(CLEAR_QUEUE_BUTTON_SLOT, plugin.getGuiTemplates().getButton(Button.QUEUE_CLEAR));
         }
+    }
 
-        inventory.setItem(BACK_BUTTON_SLOT, createBackButton());
-        
-        if (player.hasPermission("gauction.admin")) {
-            inventory.setItem(CLEAR_QUEUE_BUTTON_SLOT, createClearQueueButton());
+    /**
+     * Updates the queue slots, the only ones that change while the GUI is open
+     */
+    private void updateQueueSlots() {
+        List<AuctionItem> queueItems = plugin.getAuctionManager().getQueuePreview(QUEUE_SLOTS);
+        for (int i = 0; i < QUEUE_SLOTS; i++) {
+            ItemStack display = i < queueItems.size() ? createQueueItemDisplay(queueItems.get(i)) : null;
+            ViewManager.updateSlot(inventory, FIRST_QUEUE_SLOT + i, display);
         }
     }
 
@@ -75,6 +83,18 @@ public final class AuctionQueueGUI implements InventoryHolder {
             lore.add(messageManager.getPlainMessage("gui.queue.item.seller", placeholders));
             lore.add(messageManager.getPlainMessage("gui.queue.item.min_bid", placeholders));
             lore.add(messageManager.getPlainMessage("gui.queue.item.step", placeholders));
+
+            // Running auctions have no queue position
+            QueueSlot slot = plugin.getAuctionManager().getQueueSlot(auction);
+            if (slot != null) {
+                placeholders.put("position", String.valueOf(slot.position() + 1));
+                placeholders.put("eta", formatTimeRemaining(slot.estimatedWait()));
+                lore.add(messageManager.getPlainMessage("gui.queue.item.position", placeholders));
+                lore.add(messageManager.getPlainMessage("gui.queue.item.eta", placeholders));
+                if (auction.getPriority() > 0) {
+                    lore.add(messageManager.getPlainMessage("gui.queue.item.boosted", placeholders));
+                }
+            }
             
             if (player.hasPermission("gauction.admin")) {
                 lore.add("");
@@ -87,38 +107,10 @@ public final class AuctionQueueGUI implements InventoryHolder {
         return displayItem;
     }
 
-    @SuppressWarnings("deprecation")
-    private ItemStack createBackButton() {
-        ItemStack button = new ItemStack(Material.ARROW);
-        ItemMeta meta = button.getItemMeta();
-        if (meta != null) {
-            Map<String, String> placeholders = new HashMap<>();
-            meta.setDisplayName(messageManager.getPlainMessage("gui.queue.buttons.back.title", placeholders));
-            
-            List<String> lore = new ArrayList<>();
-            lore.add(messageManager.getPlainMessage("gui.queue.buttons.back.description", placeholders));
-            meta.setLore(lore);
-            
-            button.setItemMeta(meta);
-        }
-        return button;
-    }
-
-    @SuppressWarnings("deprecation")
-    private ItemStack createClearQueueButton() {
-        ItemStack button = new ItemStack(Material.BARRIER);
-        ItemMeta meta = button.getItemMeta();
-        if (meta != null) {
-            Map<String, String> placeholders = new HashMap<>();
-            meta.setDisplayName(messageManager.getPlainMessage("gui.queue.buttons.clear.title", placeholders));
-            
-            List<String> lore = new ArrayList<>();
-            lore.add(messageManager.getPlainMessage("gui.queue.buttons.clear.description", placeholders));
-            meta.setLore(lore);
-            
-            button.setItemMeta(meta);
-        }
-        return button;
+    private String formatTimeRemaining(long remainingMs) {
+        long minutes = remainingMs / (60 * 1000);
+        long seconds = (remainingMs % (60 * 1000)) / 1000;
+        return String.format("%d min %d sec", minutes, seconds);
     }
 
     public void handleInventoryClick(Player player, int slot, boolean isRightClick) {
@@ -138,18 +130,19 @@ public final class AuctionQueueGUI implements InventoryHolder {
         }
 
         if (isValidQueueSlot(slot) && player.hasPermission("gauction.admin") && isRightClick) {
-            int index = getQueueIndex(slot);
-            if (index == 0) {
-                plugin.getAuctionManager().cancelCurrentAuction();
-                Map<String, String> placeholders = new HashMap<>();
-                messageManager.sendMessage(player, "gui.queue.messages.current_cancelled", placeholders);
+            AuctionItem clickedAuction = plugin.getAuctionManager().getQueueItemAt(getQueueIndex(slot));
+            if (clickedAuction == null) {
+                return;
+            }
+
+            // Running auctions come first in the preview, one per active lane
+            int lane = plugin.getAuctionManager().getLaneOf(clickedAuction);
+            if (lane >= 0) {
+                plugin.getAuctionManager().cancelCurrentAuction(lane);
+                messageManager.sendMessage(player, "gui.queue.messages.current_cancelled");
             } else {
-                AuctionItem clickedAuction = plugin.getAuctionManager().getQueueItemAt(index);
-                if (clickedAuction != null) {
-                    plugin.getAuctionManager().cancelQueuedAuction(clickedAuction);
-                    Map<String, String> placeholders = new HashMap<>();
-                    messageManager.sendMessage(player, "gui.queue.messages.removed", placeholders);
-                }
+                plugin.getAuctionManager().cancelQueuedAuction(clickedAuction);
+                messageManager.sendMessage(player, "gui.queue.messages.removed");
             }
             refresh();
         }
@@ -168,8 +161,9 @@ public final class AuctionQueueGUI implements InventoryHolder {
         return row * 7 + col;
     }
 
+    @Override
     public void refresh() {
-        initializeItems();
+        updateQueueSlots();
     }
 
     @Override
@@ -177,31 +171,13 @@ public final class AuctionQueueGUI implements InventoryHolder {
         return inventory;
     }
 
-    @SuppressWarnings("deprecation")
-    private void fillBorders() {
-        ItemStack border = new ItemStack(Material.BLACK_STAINED_GLASS_PANE);
-        ItemMeta meta = border.getItemMeta();
-        if (meta != null) {
-            meta.setDisplayName(" ");
-            border.setItemMeta(meta);
-        }
-
-        for (int i = 0; i < 9; i++) {
-            inventory.setItem(i, border.clone());
-            inventory.setItem(18 + i, border.clone());
-        }
-        inventory.setItem(9, border.clone());
-        inventory.setItem(17, border.clone());
-    }
-
     public void open() {
         player.openInventory(inventory);
     }
 
     private void clearQueue() {
         plugin.getAuctionManager().clearAllAuctions();
-        Map<String, String> placeholders = new HashMap<>();
-        messageManager.sendMessage(player, "gui.queue.messages.queue_cleared", placeholders);
+        messageManager.sendMessage(player, "gui.queue.messages.queue_cleared");
         refresh();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.gsoldera.gAuction.gui;
+
+import org.bukkit.inventory.InventoryHolder;
+
+/**
+ * An auction GUI that shows live auction state
+ * Open views are tracked by {@link ViewManager} and refreshed when that state changes.
+ */
+public interface AuctionView extends InventoryHolder {
+
+    /**
+     * Updates the slots that show live auction state
+     * Implementations should only touch slots whose content actually changed
+     */
+    void refresh();
+}
@@ -9,30 +9,39 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 import org.bukkit.Bukkit;
-import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 import com.gsoldera.gAuction.GAuctionPlugin;
+import com.gsoldera.gAuction.gui.GuiTemplates.Button;
+import com.gsoldera.gAuction.gui.GuiTemplates.Layout;
 import com.gsoldera.gAuction.messages.MessageManager;
-import com.gsoldera.gAuction.utils.ItemSerializer;
 
 /**
  * GUI for managing items in player's warehouse
  * Shows unclaimed items from expired or successful auctions
+ * Items are loaded in the background; the GUI opens right away with a loading indicator.
+ * Collecting claims the rows on a loader thread and hands out the items on the main thread.
  */
-public final class AuctionWarehouseGUI implements InventoryHolder {
+public final class AuctionWarehouseGUI implements LoadingView {
     private final GAuctionPlugin plugin;
     private final Player player;
     private final MessageManager messageManager;
     private Inventory inventory;
     private final List<WarehouseItem> warehouseItems;
     private int currentPage;
+    private final ViewLoader loader;
+    // Set while a claim is in flight, clicks are ignored until it is handed out
+    private boolean claiming;
 
     private static final int ROWS = 6;
     private static final int PAGE_SIZE = 28;
@@ -41,7 +50,18 @@ public final class AuctionWarehouseGUI implements InventoryHolder {
     private static final int PREV_PAGE_SLOT = 45;
     private static final int NEXT_PAGE_SLOT = 53;
     private static final int COLLECT_ALL_SLOT = 49;
-    private static final int BACK_BUTTON_SLOT = 45;
+    static final int BACK_BUTTON_SLOT = 45;
+    private static final int PLAYER_STORAGE_SIZE = 36;
+    private static final int STATUS_SLOT = 22;
+
+    // One branch per owner role so each side can use its (uuid, status) index instead of an OR scan
+    private static final String WAREHOUSE_COLUMNS =
+        "SELECT id, item_data, item_serialized, seller_name, buyer_name, final_bid, end_time, status FROM auction_history ";
+    private static final String WAREHOUSE_QUERY =
+        WAREHOUSE_COLUMNS + "WHERE seller_uuid = ? AND status IN ('EXPIRED', 'CANCELLED') " +
+        "UNION ALL " +
+        WAREHOUSE_COLUMNS + "WHERE buyer_uuid = ? AND status = 'SOLD' " +
+        "ORDER BY end_time DESC";
 
     private record WarehouseItem(
         long id,
@@ -59,12 +79,11 @@ public final class AuctionWarehouseGUI implements InventoryHolder {
         this.messageManager = plugin.getMessageManager();
         this.warehouseItems = new ArrayList<>();
         this.currentPage = 0;
+        this.loader = new ViewLoader(plugin, player, this);
 
-        Map<String, String> placeholders = new HashMap<>();
-        String title = messageManager.getPlainMessage("gui.warehouse.title", placeholders);
+        String title = messageManager.getPlainMessage("gui.warehouse.title");
         createInventory(title);
-        loadWarehouseItems();
-        initializeItems();
+        refreshInventory();
     }
 
     @SuppressWarnings("deprecation")
@@ -72,15 +91,34 @@ public final class AuctionWarehouseGUI implements InventoryHolder {
         this.inventory = Bukkit.createInventory(this, ROWS * 9, title);
     }
 
+    /**
+     * Starts loading the player's items, showing the loading indicator meanwhile
+     */
     private void loadWarehouseItems() {
-        try (var conn = plugin.getDatabaseManager().getDatabaseConnection().getConnection();
-             var stmt = conn.prepareStatement(
-                "SELECT id, item_serialized, seller_name, buyer_name, final_bid, end_time, status " +
-                "FROM auction_history " +
-                "WHERE (seller_uuid = ? AND status in ('EXPIRED', 'CANCELLED')) " +
-                "OR (buyer_uuid = ? AND status = 'SOLD') " +
-                "ORDER BY end_time DESC"
-             )) {
+        // Nothing to collect, skip the flush and the query entirely
+        if (!plugin.getWarehouseManager().hasClaimableItems(player.getUniqueId())) {
+            return;
+        }
+
+        inventory.setContents(plugin.getGuiTemplates().getLayout(Layout.WAREHOUSE));
+        inventory.setItem(STATUS_SLOT, plugin.getGuiTemplates().getButton(Button.LOADING));
+
+        loader.load(this::queryWarehouseItems, loaded -> {
+            warehouseItems.clear();
+            warehouseItems.addAll(loaded);
+            currentPage = 0;
+            refreshInventory();
+        });
+    }
+
+    /**
+     * Reads and decodes the player's claimable items
+     * Runs on a loader thread
+     */
+    private List<WarehouseItem> queryWarehouseItems() {
+        List<WarehouseItem> loaded = new ArrayList<>();
+        try (var conn = plugin.getDatabaseManager().getDatabaseConnection().getReadConnection();
+             var stmt = conn.prepareStatement(WAREHOUSE_QUERY)) {
             
             String playerUUID = player.getUniqueId().toString();
             stmt.setString(1, playerUUID);
@@ -88,9 +126,10 @@ public final class AuctionWarehouseGUI implements InventoryHolder {
 
             try (var rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    ItemStack item = ItemSerializer.deserializeItemStack(rs.getString("item_serialized"));
+                    ItemStack item = plugin.getItemCache().get(
+                        rs.getLong("id"), rs.getBytes("item_data"), rs.getString("item_serialized"));
                     if (item != null) {
-                        warehouseItems.add(new WarehouseItem(
+                        loaded.add(new WarehouseItem(
                             rs.getLong("id"),
                             item,
                             rs.getString("seller_name"),
@@ -104,101 +143,10 @@ public final class AuctionWarehouseGUI implements InventoryHolder {
             }
         } catch (SQLException e) {
             plugin.getPluginLogger().error("Error loading warehouse items", e);
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "messages.player.error.warehouse_load_failed", placeholders);
-        }
-    }
-
-    private void initializeItems() {
-        clearInventory();
-        fillBorders();
-        
-        inventory.setItem(BACK_BUTTON_SLOT, createBackButton());
-
-        if (warehouseItems.isEmpty()) {
-            inventory.setItem(22, createEmptyWarehouseItem());
-        } else {
-            displayCurrentPage();
-            updateNavigationButtons();
-            inventory.setItem(COLLECT_ALL_SLOT, createCollectAllButton());
-        }
-    }
-
-    @SuppressWarnings("deprecation")
-    private ItemStack createCollectAllButton() {
-        ItemStack button = new ItemStack(Material.HOPPER);
-        ItemMeta meta = button.getItemMeta();
-        if (meta != null) {
-            Map<String, String> placeholders = new HashMap<>();
-            meta.setDisplayName(messageManager.getPlainMessage("gui.warehouse.buttons.collect_all.title", placeholders));
-            
-            List<String> lore = new ArrayList<>();
-            lore.add(messageManager.getPlainMessage("gui.warehouse.buttons.collect_all.description", placeholders));
-            meta.setLore(lore);
-            
-            button.setItemMeta(meta);
-        }
-        return button;
-    }
-
-    @SuppressWarnings("deprecation")
-    private ItemStack createEmptyWarehouseItem() {
-        ItemStack item = new ItemStack(Material.BARRIER);
-        ItemMeta meta = item.getItemMeta();
-        if (meta != null) {
-            Map<String, String> placeholders = new HashMap<>();
-            meta.setDisplayName(messageManager.getPlainMessage("gui.warehouse.empty.title", placeholders));
-            
-            List<String> lore = new ArrayList<>();
-            lore.add(messageManager.getPlainMessage("gui.warehouse.empty.description", placeholders));
-            meta.setLore(lore);
-            
-            item.setItemMeta(meta);
-        }
-        return item;
-    }
-
-    @SuppressWarnings("deprecation")
-    private ItemStack createBackButton() {
-        ItemStack button = new ItemStack(Material.ARROW);
-        ItemMeta meta = button.getItemMeta();
-        if (meta != null) {
-            Map<String, String> placeholders = new HashMap<>();
-            meta.setDisplayName(messageManager.getPlainMessage("gui.warehouse.buttons.back.title", placeholders));
-            
-            List<String> lore = new ArrayList<>();
-            lore.add(messageManager.getPlainMessage("gui.warehouse.buttons.back.description", placeholders));
-            meta.setLore(lore);
-            
-            button.setItemMeta(meta);
-        }
-        return button;
-    }
-
-    private void clearInventory() {
-        inventory.clear();
-    }
-
-    @SuppressWarnings("deprecation")
-    private void fillBorders() {
-        ItemStack border = new ItemStack(Material.BLACK_STAINED_GLASS_PANE);
-        ItemMeta meta = border.getItemMeta();
-        if (meta != null) {
-            meta.setDisplayName(" ");
-            border.setItemMeta(meta);
-        }
-
-        for (int i = 0; i < inventory.getSize(); i++) {
-            if (isSlotOnBorder(i)) {
-                inventory.setItem(i, border.clone());
-            }
+            // The player object is only read here, sending a message is thread-safe
+            messageManager.sendMessage(player, "messages.player.error.warehouse_load_failed");
         }
-    }
-
-    private boolean isSlotOnBorder(int slot) {
-        int row = slot / 9;
-        int col = slot % 9;
-        return row == 0 || row == 5 || col == 0 || col == 8;
+        return loaded;
     }
 
     @Override
@@ -206,8 +154,17 @@ public final class AuctionWarehouseGUI implements InventoryHolder {
         return inventory;
     }
 
+    /**
+     * Opens the GUI right away and loads the items in the background
+     */
     public void open() {
         player.openInventory(inventory);
+        loadWarehouseItems();
+    }
+
+    @Override
+    public void cancelLoad() {
+        loader.cancel();
     }
 
     private void displayCurrentPage() {
@@ -283,6 +240,7 @@ public final class AuctionWarehouseGUI implements InventoryHolder {
     public void handleInventoryClick(Player player, int slot) {
         if (warehouseItems.isEmpty()) {
             if (slot == BACK_BUTTON_SLOT) {
+                cancelLoad();
                 player.closeInventory();
                 new AuctionMainGUI(plugin, player).open();
             }
@@ -325,100 +283,161 @@ public final class AuctionWarehouseGUI implements InventoryHolder {
     }
 
     private void collectItem(int index) {
-        if (index < 0 || index >= warehouseItems.size()) return;
+        if (claiming || index < 0 || index >= warehouseItems.size()) return;
 
         WarehouseItem item = warehouseItems.get(index);
-        HashMap<Integer, ItemStack> leftover = player.getInventory().addItem(item.item().clone());
-        
-        if (leftover.isEmpty()) {
-            markItemAsCollected(item.id());
-            warehouseItems.remove(index);
-            
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "gui.warehouse.messages.collected", placeholders);
-            
-            refreshInventory();
-        } else {
-            Map<String, String> placeholders = new HashMap<>();
-            messageManager.sendMessage(player, "gui.warehouse.messages.inventory_full", placeholders);
+        if (selectFittingItems(List.of(item)).isEmpty()) {
+            messageManager.sendMessage(player, "gui.warehouse.messages.inventory_full");
+            return;
         }
+
+        claim(List.of(item), claimed -> {
+            if (claimed.contains(item.id())) {
+                messageManager.sendMessage(player, "gui.warehouse.messages.collected");
+            }
+        });
     }
 
     private void collectAllItems() {
-        boolean anyCollected = false;
-        List<WarehouseItem> remaining = new ArrayList<>();
-
-        for (WarehouseItem item : warehouseItems) {
-            HashMap<Integer, ItemStack> leftover = player.getInventory().addItem(item.item().clone());
-            if (leftover.isEmpty()) {
-                markItemAsCollected(item.id());
-                anyCollected = true;
-            } else {
-                remaining.add(item);
+        if (claiming) return;
+
+        List<WarehouseItem> fitting = selectFittingItems(warehouseItems);
+        Map<String, String> placeholders = new HashMap<>();
+        if (fitting.isEmpty()) {
+            messageManager.sendMessage(player, "gui.warehouse.messages.inventory_full", placeholders);
+            refreshInventory();
+            return;
+        }
+
+        claim(fitting, claimed -> {
+            if (!claimed.isEmpty()) {
+                placeholders.put("count", String.valueOf(warehouseItems.size()));
+                messageManager.sendMessage(player, "gui.warehouse.messages.items_collected", placeholders);
             }
+        });
+    }
+
+    /**
+     * Claims the rows of some items in one transaction on a loader thread
+     * The items are handed out afterwards on the main thread; only rows this call claimed are given.
+     * @param onClaimed Runs on the main thread after a successful claim, with the claimed ids
+     */
+    private void claim(List<WarehouseItem> items, Consumer<Set<Long>> onClaimed) {
+        claiming = true;
+        UUID owner = player.getUniqueId();
+        List<Long> ids = new ArrayList<>(items.size());
+        for (WarehouseItem item : items) {
+            ids.add(item.id());
         }
 
-        warehouseItems.clear();
-        warehouseItems.addAll(remaining);
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                return plugin.getWarehouseManager().claimItems(owner, ids);
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, plugin.getViewManager().getLoadExecutor()).whenComplete((claimed, error) -> {
+            if (!plugin.isEnabled()) {
+                if (claimed != null) {
+                    unclaim(items, claimed);
+                }
+                return;
+            }
+            Bukkit.getScheduler().runTask(plugin, () -> finishClaim(items, claimed, error, onClaimed));
+        });
+    }
 
-        Map<String, String> placeholders = new HashMap<>();
-        if (anyCollected) {
-            placeholders.put("count", String.valueOf(remaining.size()));
-            messageManager.sendMessage(player, "gui.warehouse.messages.items_collected", placeholders);
-        } else {
-            messageManager.sendMessage(player, "gui.warehouse.messages.inventory_full", placeholders);
+    private void finishClaim(List<WarehouseItem> items, Set<Long> claimed, Throwable error, Consumer<Set<Long>> onClaimed) {
+        claiming = false;
+        if (error != null) {
+            // Nothing was claimed, the rows stay in the list
+            messageManager.sendMessage(player, "gui.warehouse.messages.error");
+            refreshInventory();
+            return;
+        }
+        if (!player.isOnline()) {
+            unclaim(items, claimed);
+            return;
         }
 
+        for (WarehouseItem item : items) {
+            if (claimed.contains(item.id())) {
+                giveItem(item);
+            }
+        }
+        // Rows that were not claimed were already collected elsewhere
+        warehouseItems.removeAll(items);
+        onClaimed.accept(claimed);
         refreshInventory();
     }
 
-    private void markItemAsCollected(long itemId) {
-        try (var conn = plugin.getDatabaseManager().getDatabaseConnection().getConnection();
-             var stmt = conn.prepareStatement(
-                "UPDATE auction_history SET status = 'COLLECTED' WHERE id = ?"
-             )) {
-            stmt.setLong(1, itemId);
-            stmt.executeUpdate();
-        } catch (SQLException e) {
-            plugin.getPluginLogger().error("Error marking item as collected", e);
+    /**
+     * Puts back rows that were claimed but never handed out
+     */
+    private void unclaim(List<WarehouseItem> items, Set<Long> claimed) {
+        Map<Long, String> statuses = new HashMap<>();
+        for (WarehouseItem item : items) {
+            if (claimed.contains(item.id())) {
+                statuses.put(item.id(), item.status());
+            }
+        }
+        if (!statuses.isEmpty()) {
+            plugin.getWarehouseManager().unclaimItems(player.getUniqueId(), statuses);
+        }
+    }
+
+    /**
+     * Works out which items fit in the player's inventory without touching it
+     * Items are tried in order against a copy of the storage contents
+     */
+    private List<WarehouseItem> selectFittingItems(List<WarehouseItem> candidates) {
+        Inventory simulated = Bukkit.createInventory(null, PLAYER_STORAGE_SIZE);
+        simulated.setStorageContents(cloneContents(player.getInventory().getStorageContents()));
+
+        List<WarehouseItem> fitting = new ArrayList<>();
+        for (WarehouseItem item : candidates) {
+            if (simulated.addItem(item.item().clone()).isEmpty()) {
+                fitting.add(item);
+            }
+        }
+        return fitting;
+    }
+
+    private ItemStack[] cloneContents(ItemStack[] contents) {
+        ItemStack[] copy = new ItemStack[contents.length];
+        for (int i = 0; i < contents.length; i++) {
+            copy[i] = contents[i] != null ? contents[i].clone() : null;
+        }
+        return copy;
+    }
+
+    private void giveItem(WarehouseItem item) {
+        // The row is already claimed, so anything that no longer fits must not be lost
+        for (ItemStack leftover : player.getInventory().addItem(item.item().clone()).values()) {
+            player.getWorld().dropItemNaturally(player.getLocation(), leftover);
         }
     }
 
     private void updateNavigationButtons() {
         if (currentPage > 0) {
-            inventory.setItem(PREV_PAGE_SLOT, createNavigationButton(true));
+            inventory.setItem(PREV_PAGE_SLOT, plugin.getGuiTemplates().getButton(Button.WAREHOUSE_PREVIOUS));
         }
 
         int maxPages = (int) Math.ceil(warehouseItems.size() / (double) PAGE_SIZE);
         if (currentPage < maxPages - 1) {
-            inventory.setItem(NEXT_PAGE_SLOT, createNavigationButton(false));
-        }
-    }
-
-    @SuppressWarnings("deprecation")
-    private ItemStack createNavigationButton(boolean isPrevious) {
-        ItemStack button = new ItemStack(Material.ARROW);
-        ItemMeta meta = button.getItemMeta();
-        if (meta != null) {
-            Map<String, String> placeholders = new HashMap<>();
-            String key = isPrevious ? "gui.warehouse.prev_page" : "gui.warehouse.next_page";
-            meta.setDisplayName(messageManager.getPlainMessage(key, placeholders));
-            button.setItemMeta(meta);
+            inventory.setItem(NEXT_PAGE_SLOT, plugin.getGuiTemplates().getButton(Button.WAREHOUSE_NEXT));
         }
-        return button;
     }
 
     private void refreshInventory() {
-        clearInventory();
-        fillBorders();
-        inventory.setItem(BACK_BUTTON_SLOT, createBackButton());
+        inventory.setContents(plugin.getGuiTemplates().getLayout(Layout.WAREHOUSE));
         
         if (warehouseItems.isEmpty()) {
-            inventory.setItem(22, createEmptyWarehouseItem());
+            inventory.setItem(STATUS_SLOT, plugin.getGuiTemplates().getButton(Button.WAREHOUSE_EMPTY));
         } else {
             displayCurrentPage();
             updateNavigationButtons();
-            inventory.setItem(COLLECT_ALL_SLOT, createCollectAllButton());
+            inventory.setItem(COLLECT_ALL_SLOT, plugin.getGuiTemplates().getButton(Button.WAREHOUSE_COLLECT_ALL));
         }
     }
 }
\ No newline at end of file
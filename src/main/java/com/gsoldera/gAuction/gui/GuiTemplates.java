@@ -0,0 +1,189 @@
+package com.gsoldera.gAuction.gui;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.slf4j.Logger;
+
+import com.gsoldera.gAuction.GAuctionPlugin;
+import com.gsoldera.gAuction.messages.MessageManager;
+
+/**
+ * Pre-rendered static parts of every GUI for the loaded language
+ * Borders, navigation and other fixed buttons are built once on load and reload, so opening
+ * or repainting a GUI copies a ready layout with one setContents call instead of building
+ * an ItemStack and looking up messages for every slot.
+ * The cached stacks are shared and must never be modified; inventories copy them when set.
+ */
+public final class GuiTemplates {
+    private final Logger logger;
+    private final MessageManager messageManager;
+
+    // Replaced as a whole on reload so a GUI never mixes two languages
+    private volatile Templates templates;
+
+    /**
+     * Static layouts, one per GUI
+     */
+    public enum Layout {
+        MAIN(54),
+        BID(27),
+        CONFIRM(27),
+        QUEUE(27),
+        HISTORY(54),
+        WAREHOUSE(54);
+
+        private final int size;
+
+        Layout(int size) {
+            this.size = size;
+        }
+    }
+
+    /**
+     * Fixed buttons; the key is the message section holding the title and description
+     */
+    public enum Button {
+        MAIN_BID(Material.GOLD_INGOT, "gui.main.bid_button", true),
+        MAIN_WAREHOUSE(Material.CHEST, "gui.main.warehouse_button", true),
+        MAIN_HISTORY(Material.BOOK, "gui.main.history_button", true),
+        MAIN_QUEUE(Material.HOPPER, "gui.main.queue_button", true),
+        BID_NO_AUCTION(Material.BARRIER, "gui.bid.no_auction", true),
+        CONFIRM_CANCEL(Material.RED_STAINED_GLASS_PANE, "gui.confirm.cancel_button", true),
+        QUEUE_BACK(Material.ARROW, "gui.queue.buttons.back", true),
+        QUEUE_CLEAR(Material.BARRIER, "gui.queue.buttons.clear", true),
+        HISTORY_BACK(Material.ARROW, "gui.history.buttons.back", true),
+        HISTORY_PREVIOUS(Material.ARROW, "gui.history.buttons.previous_page", false),
+        HISTORY_NEXT(Material.ARROW, "gui.history.buttons.next_page", false),
+        HISTORY_FILTER_ALL(Material.PLAYER_HEAD, "gui.history.buttons.filter.all", true),
+        HISTORY_FILTER_PERSONAL(Material.PLAYER_HEAD, "gui.history.buttons.filter.personal", true),
+        HISTORY_EMPTY(Material.BARRIER, "gui.history.empty", true),
+        WAREHOUSE_BACK(Material.ARROW, "gui.warehouse.buttons.back", true),
+        WAREHOUSE_PREVIOUS(Material.ARROW, "gui.warehouse.prev_page", false),
+        WAREHOUSE_NEXT(Material.ARROW, "gui.warehouse.next_page", false),
+        WAREHOUSE_COLLECT_ALL(Material.HOPPER, "gui.warehouse.buttons.collect_all", true),
+        WAREHOUSE_EMPTY(Material.BARRIER, "gui.warehouse.empty", true),
+        LOADING(Material.CLOCK, "gui.loading", true);
+
+        private final Material material;
+        private final String key;
+        // Sections have a title and a description, plain keys are only a name
+        private final boolean section;
+
+        Button(Material material, String key, boolean section) {
+            this.material = material;
+            this.key = key;
+            this.section = section;
+        }
+    }
+
+    private record Templates(Map<Layout, ItemStack[]> layouts, Map<Button, ItemStack> buttons) {}
+
+    public GuiTemplates(GAuctionPlugin plugin) {
+        this.logger = plugin.getPluginLogger();
+        this.messageManager = plugin.getMessageManager();
+        rebuild();
+    }
+
+    /**
+     * Rebuilds every template from the currently loaded messages
+     * Must run after the messages are (re)loaded
+     */
+    public void rebuild() {
+        Map<Button, ItemStack> buttons = new EnumMap<>(Button.class);
+        for (Button button : Button.values()) {
+            buttons.put(button, createButton(button));
+        }
+
+        ItemStack border = createBorder();
+        Map<Layout, ItemStack[]> layouts = new EnumMap<>(Layout.class);
+        for (Layout layout : Layout.values()) {
+            layouts.put(layout, createLayout(layout, border, buttons));
+        }
+
+        templates = new Templates(layouts, buttons);
+        logger.debug("Built GUI templates for language {}", messageManager.getCurrentLanguage());
+    }
+
+    /**
+     * Gets a copy of a layout, ready for {@link org.bukkit.inventory.Inventory#setContents}
+     * The array is new, the stacks in it are the shared templates
+     */
+    public ItemStack[] getLayout(Layout layout) {
+        return templates.layouts().get(layout).clone();
+    }
+
+    /**
+     * Gets a shared button stack
+     * Safe to pass to setItem, which copies it; clone it before changing anything
+     */
+    public ItemStack getButton(Button button) {
+        return templates.buttons().get(button);
+    }
+
+    private ItemStack[] createLayout(Layout layout, ItemStack border, Map<Button, ItemStack> buttons) {
+        ItemStack[] contents = new ItemStack[layout.size];
+        int lastRow = layout.size / 9 - 1;
+        for (int slot = 0; slot < contents.length; slot++) {
+            int row = slot / 9;
+            int col = slot % 9;
+            if (row == 0 || row == lastRow || col == 0 || col == 8) {
+                contents[slot] = border;
+            }
+        }
+
+        switch (layout) {
+            case MAIN -> {
+                contents[AuctionMainGUI.BID_BUTTON_SLOT] = buttons.get(Button.MAIN_BID);
+                contents[AuctionMainGUI.WAREHOUSE_BUTTON_SLOT] = buttons.get(Button.MAIN_WAREHOUSE);
+                contents[AuctionMainGUI.HISTORY_BUTTON_SLOT] = buttons.get(Button.MAIN_HISTORY);
+                contents[AuctionMainGUI.QUEUE_BUTTON_SLOT] = buttons.get(Button.MAIN_QUEUE);
+            }
+            case CONFIRM -> {
+                for (int slot = AuctionConfirmGUI.CANCEL_START_SLOT; slot <= AuctionConfirmGUI.CANCEL_END_SLOT; slot++) {
+                    contents[slot] = buttons.get(Button.CONFIRM_CANCEL);
+                }
+            }
+            case QUEUE -> contents[AuctionQueueGUI.BACK_BUTTON_SLOT] = buttons.get(Button.QUEUE_BACK);
+            case HISTORY -> contents[AuctionHistoryGUI.BACK_BUTTON_SLOT] = buttons.get(Button.HISTORY_BACK);
+            case WAREHOUSE -> contents[AuctionWarehouseGUI.BACK_BUTTON_SLOT] = buttons.get(Button.WAREHOUSE_BACK);
+            case BID -> { }
+        }
+        return contents;
+    }
+
+    @SuppressWarnings("deprecation")
+    private ItemStack createButton(Button button) {
+        ItemStack item = new ItemStack(button.material);
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
+            if (button.section) {
+                meta.setDisplayName(messageManager.getPlainMessage(button.key + ".title"));
+
+                List<String> lore = new ArrayList<>();
+                lore.add(messageManager.getPlainMessage(button.key + ".description"));
+                meta.setLore(lore);
+            } else {
+                meta.setDisplayName(messageManager.getPlainMessage(button.key));
+            }
+            item.setItemMeta(meta);
+        }
+        return item;
+    }
+
+    @SuppressWarnings("deprecation")
+    private ItemStack createBorder() {
+        ItemStack border = new ItemStack(Material.BLACK_STAINED_GLASS_PANE);
+        ItemMeta meta = border.getItemMeta();
+        if (meta != null) {
+            meta.setDisplayName(" ");
+            border.setItemMeta(meta);
+        }
+        return border;
+    }
+}
@@ -0,0 +1,15 @@
+package com.gsoldera.gAuction.gui;
+
+import org.bukkit.inventory.InventoryHolder;
+
+/**
+ * A GUI whose contents are loaded off the main thread
+ * {@link ViewManager} cancels the pending load when the view is closed or replaced.
+ */
+interface LoadingView extends InventoryHolder {
+
+    /**
+     * Drops any load still in flight, its result will never be applied
+     */
+    void cancelLoad();
+}
@@ -0,0 +1,105 @@
+package com.gsoldera.gAuction.gui;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.InventoryHolder;
+
+import com.gsoldera.gAuction.GAuctionPlugin;
+
+/**
+ * Runs the database loads of one GUI on the shared GUI loader threads
+ * Only the latest load of a view counts: starting a new one or cancelling makes every earlier
+ * load stale, and a stale or closed view never gets a result applied.
+ * Results are always applied on the main thread.
+ */
+final class ViewLoader {
+    // Same limit the main menu waited on before opening the history and warehouse GUIs
+    private static final long FLUSH_TIMEOUT_SECONDS = 2;
+
+    private final GAuctionPlugin plugin;
+    private final Player player;
+    private final InventoryHolder view;
+
+    // Bumped on every load and cancel; read by loader threads to skip stale work
+    private volatile int generation;
+    private CompletableFuture<?> pending;
+
+    ViewLoader(GAuctionPlugin plugin, Player player, InventoryHolder view) {
+        this.plugin = plugin;
+        this.player = player;
+        this.view = view;
+    }
+
+    /**
+     * Loads data in the background and applies it to the view
+     * Pending writes are flushed first so rows written moments ago are visible
+     * @param query Runs on a loader thread, must not touch Bukkit state
+     * @param apply Runs on the main thread, only if this is still the latest load and the view is open
+     * @return Future of the loaded data, for callers that want to keep it around
+     */
+    <T> CompletableFuture<T> load(Supplier<T> query, Consumer<T> apply) {
+        cancel();
+        int loadGeneration = generation;
+
+        CompletableFuture<T> future = plugin.getDatabaseManager().getWriteQueue().flush()
+            .completeOnTimeout(null, FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .thenApplyAsync(ignored -> {
+                // Skip the query entirely if the player already moved on
+                if (loadGeneration != generation) {
+                    throw new CancellationException();
+                }
+                return query.get();
+            }, plugin.getViewManager().getLoadExecutor());
+        pending = future;
+
+        future.whenComplete((result, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                if (!(cause instanceof CancellationException)) {
+                    plugin.getPluginLogger().error("Error loading GUI data for {}", player.getName(), cause);
+                }
+                return;
+            }
+            if (loadGeneration != generation || !plugin.isEnabled()) {
+                return;
+            }
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (loadGeneration != generation || !isOpen()) {
+                    return;
+                }
+                pending = null;
+                apply.accept(result);
+            });
+        });
+        return future;
+    }
+
+    /**
+     * Makes every load started so far stale
+     */
+    void cancel() {
+        generation++;
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+    }
+
+    /**
+     * Checks if a load is still in flight
+     */
+    boolean isLoading() {
+        return pending != null;
+    }
+
+    private boolean isOpen() {
+        return player.isOnline() && player.getOpenInventory().getTopInventory().getHolder() == view;
+    }
+}
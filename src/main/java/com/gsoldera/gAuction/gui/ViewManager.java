@@ -0,0 +1,169 @@
+package com.gsoldera.gAuction.gui;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+import org.slf4j.Logger;
+
+import com.gsoldera.gAuction.GAuctionPlugin;
+
+/**
+ * Keeps track of open auction views and refreshes them when auction state changes
+ * Changes only mark the views dirty; they are re-rendered at most once per tick,
+ * however many bids, starts and ends happened during that tick. Items that look the same to
+ * every player are built once per render and shared by all the views showing them.
+ * Also owns the threads that load history and warehouse pages, so loads for different
+ * players run in parallel and never block the main thread.
+ */
+public final class ViewManager implements Listener {
+    private final GAuctionPlugin plugin;
+    private final Logger logger;
+
+    // Only touched on the main thread, from inventory events and the render task
+    private final Set<AuctionView> openViews;
+    private final AtomicBoolean dirty;
+    private final ExecutorService loadExecutor;
+    // Items built during the current render, keyed by what they show
+    private final Map<String, ItemStack> sharedItems;
+    private boolean rendering;
+
+    // One thread per SQLite reader, more would only wait for a connection
+    private static final int LOADER_THREADS = 4;
+
+    public ViewManager(GAuctionPlugin plugin) {
+        this.plugin = plugin;
+        this.logger = plugin.getPluginLogger();
+        this.openViews = new LinkedHashSet<>();
+        this.dirty = new AtomicBoolean(false);
+        this.sharedItems = new HashMap<>();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.loadExecutor = Executors.newFixedThreadPool(LOADER_THREADS, task -> {
+            Thread thread = new Thread(task, "GAuction-GUI-Loader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests a refresh of every open view on the next tick
+     * Safe to call from any thread
+     */
+    public void markDirty() {
+        if (dirty.compareAndSet(false, true)) {
+            Bukkit.getScheduler().runTask(plugin, this::render);
+        }
+    }
+
+    /**
+     * Gets the executor GUI data is loaded on
+     */
+    Executor getLoadExecutor() {
+        return loadExecutor;
+    }
+
+    /**
+     * Stops the loader threads, loads still queued are dropped
+     */
+    public void shutdown() {
+        loadExecutor.shutdownNow();
+        try {
+            loadExecutor.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Gets how many auction views are open
+     */
+    public int getOpenViewCount() {
+        return openViews.size();
+    }
+
+    /**
+     * Gets an item that looks the same to every player, built at most once per render
+     * Outside a render it is simply built. The item must not be modified, only put in inventories.
+     * @param key Identifies what the item shows, e.g. the lane it belongs to
+     * @param builder Builds the item
+     */
+    ItemStack getSharedItem(String key, Supplier<ItemStack> builder) {
+        if (!rendering) {
+            return builder.get();
+        }
+        ItemStack item = sharedItems.get(key);
+        if (item == null) {
+            item = builder.get();
+            sharedItems.put(key, item);
+        }
+        return item;
+    }
+
+    private void render() {
+        dirty.set(false);
+        rendering = true;
+        try {
+            // Copied because a refresh may close or open inventories
+            for (AuctionView view : new ArrayList<>(openViews)) {
+                try {
+                    view.refresh();
+                } catch (Exception e) {
+                    logger.error("Error refreshing auction view", e);
+                }
+            }
+        } finally {
+            rendering = false;
+            sharedItems.clear();
+        }
+    }
+
+    @EventHandler
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        InventoryHolder holder = event.getInventory().getHolder();
+        if (holder instanceof AuctionView view) {
+            openViews.add(view);
+        }
+    }
+
+    @EventHandler
+    public void onInventoryClose(InventoryCloseEvent event) {
+        InventoryHolder holder = event.getInventory().getHolder();
+        if (holder instanceof AuctionView view) {
+            openViews.remove(view);
+        }
+        if (holder instanceof LoadingView view) {
+            view.cancelLoad();
+        }
+    }
+
+    /**
+     * Sets a slot only if its content changed, so unchanged slots are not sent to the client again
+     * @param inventory Inventory to update
+     * @param slot Slot to update
+     * @param item New content, null to empty the slot
+     */
+    public static void updateSlot(Inventory inventory, int slot, ItemStack item) {
+        if (!Objects.equals(inventory.getItem(slot), item)) {
+            inventory.setItem(slot, item);
+        }
+    }
+}
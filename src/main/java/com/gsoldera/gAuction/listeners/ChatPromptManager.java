@@ -0,0 +1,124 @@
+package com.gsoldera.gAuction.listeners;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import com.gsoldera.gAuction.GAuctionPlugin;
+import com.gsoldera.gAuction.messages.MessageManager;
+
+/**
+ * Collects values typed in chat, such as custom bids and quick auction prices
+ * One permanent listener serves every prompt. Input is parsed and validated on the async chat
+ * thread, and only the resulting action is handed to the main thread.
+ * Prompts expire after a while and are dropped when the player quits.
+ */
+public final class ChatPromptManager implements Listener {
+    private static final long PROMPT_TIMEOUT_MILLIS = 60_000;
+    private static final long SWEEP_INTERVAL_TICKS = 20L * 5;
+
+    private final GAuctionPlugin plugin;
+    private final MessageManager messageManager;
+    private final Map<UUID, PendingPrompt> prompts;
+
+    /**
+     * A prompt waiting for a player's answer
+     * @param parser Runs on the chat thread; returns the action for the main thread, or null if the input was rejected
+     * @param cancelledKey Message sent when the player types "cancel"
+     * @param expiresAt When the prompt stops accepting input
+     */
+    private record PendingPrompt(Function<String, Runnable> parser, String cancelledKey, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    public ChatPromptManager(GAuctionPlugin plugin) {
+        this.plugin = plugin;
+        this.messageManager = plugin.getMessageManager();
+        this.prompts = new ConcurrentHashMap<>();
+
+        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::expirePrompts,
+            SWEEP_INTERVAL_TICKS, SWEEP_INTERVAL_TICKS);
+    }
+
+    /**
+     * Waits for the next chat message of a player
+     * A prompt already open for the player is replaced
+     * @param player Player to prompt
+     * @param cancelledKey Message sent when the player types "cancel"
+     * @param parser Parses and validates the input on the chat thread, sending its own error messages;
+     *               returns the action to run on the main thread, or null if the input was rejected
+     */
+    public void prompt(Player player, String cancelledKey, Function<String, Runnable> parser) {
+        prompts.put(player.getUniqueId(),
+            new PendingPrompt(parser, cancelledKey, System.currentTimeMillis() + PROMPT_TIMEOUT_MILLIS));
+    }
+
+    /**
+     * Checks if a player has a prompt waiting for input
+     */
+    public boolean hasPrompt(UUID playerUUID) {
+        PendingPrompt prompt = prompts.get(playerUUID);
+        return prompt != null && !prompt.isExpired(System.currentTimeMillis());
+    }
+
+    @SuppressWarnings("deprecation")
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onChat(AsyncPlayerChatEvent event) {
+        Player player = event.getPlayer();
+        PendingPrompt prompt = prompts.remove(player.getUniqueId());
+        if (prompt == null) return;
+
+        if (prompt.isExpired(System.currentTimeMillis())) {
+            // Too late to be an answer, let it through as normal chat
+            messageManager.sendMessage(player, "messages.player.prompt_expired");
+            return;
+        }
+
+        event.setCancelled(true);
+
+        String input = event.getMessage().trim();
+        if (input.equalsIgnoreCase("cancel")) {
+            messageManager.sendMessage(player, prompt.cancelledKey());
+            return;
+        }
+
+        Runnable action = prompt.parser().apply(input);
+        if (action != null) {
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (player.isOnline()) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        prompts.remove(event.getPlayer().getUniqueId());
+    }
+
+    private void expirePrompts() {
+        long now = System.currentTimeMillis();
+        prompts.entrySet().removeIf(entry -> {
+            if (!entry.getValue().isExpired(now)) {
+                return false;
+            }
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player != null) {
+                messageManager.sendMessage(player, "messages.player.prompt_expired");
+            }
+            return true;
+        });
+    }
+}
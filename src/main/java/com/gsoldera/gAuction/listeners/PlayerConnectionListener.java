@@ -0,0 +1,28 @@
+package com.gsoldera.gAuction.listeners;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+
+import com.gsoldera.gAuction.economy.EscrowManager;
+
+/**
+ * Handles players joining the server
+ * Pays out money that was owed to them while they were offline
+ */
+public final class PlayerConnectionListener implements Listener {
+    private final EscrowManager escrowManager;
+
+    public PlayerConnectionListener(EscrowManager escrowManager) {
+        this.escrowManager = escrowManager;
+    }
+
+    /**
+     * Settles pending escrow credits of the joining player
+     * @param event The join event
+     */
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        escrowManager.settlePendingCredits(event.getPlayer());
+    }
+}
@@ -0,0 +1,86 @@
+package com.gsoldera.gAuction.messages;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import com.gsoldera.gAuction.GAuctionPlugin;
+
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+
+/**
+ * Delivers broadcasts on the main thread in batches
+ * Broadcasts can be queued from any thread; everything queued before the next tick is sent by
+ * one task, to one audience built once per batch. Players without the broadcast permission or
+ * who turned broadcasts off are left out of that audience.
+ */
+final class BroadcastDispatcher {
+    private static final String PERMISSION = "gauction.broadcasts";
+
+    private final GAuctionPlugin plugin;
+    private final Queue<Component> pending;
+    private final AtomicBoolean scheduled;
+    private final Set<UUID> optedOut;
+
+    BroadcastDispatcher(GAuctionPlugin plugin) {
+        this.plugin = plugin;
+        this.pending = new ConcurrentLinkedQueue<>();
+        this.scheduled = new AtomicBoolean(false);
+        this.optedOut = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Queues a rendered broadcast for the next tick
+     */
+    void enqueue(Component message) {
+        // Nothing can be scheduled once the plugin is being disabled
+        if (!plugin.isEnabled()) return;
+
+        pending.add(message);
+        if (scheduled.compareAndSet(false, true)) {
+            Bukkit.getScheduler().runTask(plugin, this::drain);
+        }
+    }
+
+    /**
+     * Turns broadcasts off or back on for a player
+     * @return true if the player receives broadcasts now
+     */
+    boolean toggle(UUID playerUUID) {
+        if (optedOut.remove(playerUUID)) {
+            return true;
+        }
+        optedOut.add(playerUUID);
+        return false;
+    }
+
+    private void drain() {
+        scheduled.set(false);
+        if (pending.isEmpty()) return;
+
+        Audience audience = Audience.audience(getRecipients());
+        Component message;
+        while ((message = pending.poll()) != null) {
+            audience.sendMessage(message);
+        }
+    }
+
+    private List<Player> getRecipients() {
+        List<Player> recipients = new ArrayList<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (player.hasPermission(PERMISSION) && !optedOut.contains(player.getUniqueId())) {
+                recipients.add(player);
+            }
+        }
+        return recipients;
+    }
+}
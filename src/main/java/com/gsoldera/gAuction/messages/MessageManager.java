@@ -1,6 +1,7 @@
 package com.gsoldera.gAuction.messages;
 
 import java.io.File;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.bukkit.command.CommandSender;
@@ -11,16 +12,23 @@ import org.slf4j.Logger;
 
 import com.gsoldera.gAuction.GAuctionPlugin;
 
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import net.md_5.bungee.api.ChatColor;
 
 /**
  * Manages all plugin messages and broadcasts
  * Uses BungeeCord Chat API for rich text formatting
+ * Broadcasts go out as Adventure components through {@link BroadcastDispatcher}
  */
 public final class MessageManager {
     private final GAuctionPlugin plugin;
     private final Logger logger;
+    private final BroadcastDispatcher broadcastDispatcher;
     private FileConfiguration messages;
+
+    // Compiled on load and reload, replaced as a whole so readers never see a half-built map
+    private volatile Map<String, MessageTemplate> templates;
+    private volatile String broadcastPrefix;
     
     // Message settings
     private boolean messagesEnabled;
@@ -37,6 +45,7 @@ public final class MessageManager {
     public MessageManager(GAuctionPlugin plugin) {
         this.plugin = plugin;
         this.logger = plugin.getPluginLogger();
+        this.broadcastDispatcher = new BroadcastDispatcher(plugin);
         loadMessages();
     }
 
@@ -60,10 +69,37 @@ public final class MessageManager {
         broadcastsEnabled = messages.getBoolean("messages.broadcasts.enabled", true);
         countdownEnabled = messages.getBoolean("messages.broadcasts.countdown.enabled", true);
         bidBroadcastsEnabled = messages.getBoolean("messages.broadcasts.bids.enabled", true);
+
+        compileTemplates();
         
         logger.info("Messages loaded successfully for language: {}", currentLanguage);
     }
 
+    /**
+     * Compiles every message of the language file into a template
+     */
+    private void compileTemplates() {
+        // Needed first, it is substituted into every template
+        String prefix = ChatColor.translateAlternateColorCodes('&', messages.getString("messages.prefix", ""));
+        Map<String, MessageTemplate> compiled = new HashMap<>();
+        for (String key : messages.getKeys(true)) {
+            if (messages.isString(key)) {
+                compiled.put(key, MessageTemplate.compile(messages.getString(key), prefix));
+            }
+        }
+
+        broadcastPrefix = ChatColor.translateAlternateColorCodes('&', messages.getString("messages.prefix", "&6[Leilão]&r "));
+        templates = Map.copyOf(compiled);
+        logger.debug("Compiled {} message templates", compiled.size());
+    }
+
+    /**
+     * Sends a message without placeholders to a player
+     */
+    public void sendMessage(Player player, String key) {
+        sendMessage(player, key, null);
+    }
+
     /**
      * Sends a message to a player with rich text formatting
      */
@@ -72,70 +108,78 @@ public final class MessageManager {
         player.sendMessage(getPlainMessage(key, placeholders));
     }
 
+    /**
+     * Broadcasts a message without placeholders
+     */
+    public void broadcast(String key) {
+        broadcast(key, null, "");
+    }
+
     /**
      * Broadcasts a message with rich text formatting
      */
     public void broadcast(String key, Map<String, String> placeholders) {
+        broadcast(key, placeholders, "");
+    }
+
+    /**
+     * Broadcasts a message with a channel tag placed right after the prefix
+     * Safe to call from any thread, delivery happens on the main thread
+     * @param tag Already formatted tag, such as the auction lane
+     */
+    public void broadcast(String key, Map<String, String> placeholders, String tag) {
         if (!messagesEnabled || !broadcastsEnabled) {
             logger.debug("Broadcast disabled: messagesEnabled={}, broadcastsEnabled={}", 
                 messagesEnabled, broadcastsEnabled);
             return;
         }
         
-        String message = messages.getString(key);
-        if (message == null || message.isEmpty()) {
+        MessageTemplate template = templates.get(key);
+        if (template == null) {
             logger.warn("No message found for broadcast key: {}", key);
             return;
         }
-        
-        String prefix = messages.getString("messages.prefix", "&6[Leilão]&r ");
-        message = message.replace("{prefix}", prefix);
-        
-        message = ChatColor.translateAlternateColorCodes('&', message);
-        
-        if (placeholders != null) {
-            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                String value = entry.getValue();
-                if (value != null) {
-                    message = message.replace("{" + entry.getKey() + "}", value);
-                }
-            }
-        }
 
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
-            if (player != null) {
-                player.sendMessage(message);
-            }
+        String message = template.render(placeholders, tag.isEmpty() ? broadcastPrefix : broadcastPrefix + tag);
+        if (message.isEmpty()) {
+            logger.warn("No message found for broadcast key: {}", key);
+            return;
         }
+
+        // Parsed once here instead of once per player
+        broadcastDispatcher.enqueue(LegacyComponentSerializer.legacySection().deserialize(message));
+    }
+
+    /**
+     * Turns auction broadcasts off or back on for a player
+     * @return true if the player receives broadcasts now
+     */
+    public boolean toggleBroadcasts(Player player) {
+        return broadcastDispatcher.toggle(player.getUniqueId());
+    }
+
+    /**
+     * Gets a plain text message without placeholders
+     * @param key Message key
+     * @return Formatted string, the same instance on every call
+     */
+    public String getPlainMessage(String key) {
+        return getPlainMessage(key, null);
     }
 
     /**
      * Gets a plain text message with placeholders replaced
      * @param key Message key
-     * @param placeholders Placeholder map
+     * @param placeholders Placeholder map, may be null
      * @return Formatted string or empty string if message not found
      */
     public String getPlainMessage(String key, Map<String, String> placeholders) {
-        String message = messages.getString(key);
-        if (message == null) {
+        MessageTemplate template = templates.get(key);
+        if (template == null) {
             logger.warn("No message found for key: {}", key);
             return "Message not found: " + key;
         }
-
-        String prefix = messages.getString("messages.prefix", "");
-        message = message.replace("{prefix}", prefix);
-
-        message = ChatColor.translateAlternateColorCodes('&', message);
-
-        if (placeholders != null) {
-            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                String value = entry.getValue();
-                if (value != null) {
-                    message = message.replace("{" + entry.getKey() + "}", value);
-                }
-            }
-        }
-        return message;
+        return template.render(placeholders);
     }
 
     /**
@@ -0,0 +1,158 @@
+package com.gsoldera.gAuction.messages;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import net.md_5.bungee.api.ChatColor;
+
+/**
+ * A message compiled once from the language file
+ * Colors are translated at compile time and the text is split into literal and placeholder
+ * segments, so rendering is a single pass with no lookups or regex.
+ * The chat prefix is substituted while compiling, so messages whose only placeholder is
+ * {prefix} render to one interned constant. Broadcasts, which put a tag after the prefix,
+ * render from the segments that still have {prefix} open.
+ */
+final class MessageTemplate {
+    private static final String PREFIX = "prefix";
+
+    // Reused per thread, broadcasts run off the main thread too
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    // Segments with {prefix} left open, for callers passing their own prefix
+    private final Segments open;
+    // Segments with the chat prefix already substituted
+    private final Segments prefixed;
+
+    /**
+     * literals[i] is followed by placeholders[i]; there is always one more literal than placeholders
+     * @param constant The whole message if there are no placeholders, otherwise null
+     */
+    private record Segments(String[] literals, String[] placeholders, String constant, int baseLength) {
+
+        static Segments of(List<String> literals, List<String> placeholders) {
+            int length = 0;
+            for (String literal : literals) {
+                length += literal.length();
+            }
+            return new Segments(
+                literals.toArray(new String[0]),
+                placeholders.toArray(new String[0]),
+                placeholders.isEmpty() ? literals.get(0).intern() : null,
+                length
+            );
+        }
+    }
+
+    private MessageTemplate(Segments open, Segments prefixed) {
+        this.open = open;
+        this.prefixed = prefixed;
+    }
+
+    /**
+     * Compiles a raw message from the language file
+     * @param raw Message text with '&' color codes and {placeholders}
+     * @param prefix Already colored chat prefix substituted for {prefix}
+     * @return The compiled template
+     */
+    static MessageTemplate compile(String raw, String prefix) {
+        String text = ChatColor.translateAlternateColorCodes('&', raw);
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        int literalStart = 0;
+        int open = text.indexOf('{');
+        while (open >= 0) {
+            int close = text.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+
+            String name = text.substring(open + 1, close);
+            if (name.isEmpty() || name.indexOf('{') >= 0) {
+                // Not a placeholder, keep the brace as text
+                open = text.indexOf('{', open + 1);
+                continue;
+            }
+
+            literals.add(text.substring(literalStart, open));
+            placeholders.add(name);
+            literalStart = close + 1;
+            open = text.indexOf('{', literalStart);
+        }
+        literals.add(text.substring(literalStart));
+
+        // Fold the prefix into the literals around it
+        List<String> prefixedLiterals = new ArrayList<>();
+        List<String> prefixedPlaceholders = new ArrayList<>();
+        StringBuilder literal = new StringBuilder(literals.get(0));
+        for (int i = 0; i < placeholders.size(); i++) {
+            String name = placeholders.get(i);
+            if (PREFIX.equals(name)) {
+                literal.append(prefix);
+            } else {
+                prefixedLiterals.add(literal.toString());
+                prefixedPlaceholders.add(name);
+                literal.setLength(0);
+            }
+            literal.append(literals.get(i + 1));
+        }
+        prefixedLiterals.add(literal.toString());
+
+        return new MessageTemplate(Segments.of(literals, placeholders), Segments.of(prefixedLiterals, prefixedPlaceholders));
+    }
+
+    /**
+     * Checks if the message renders to a constant once the chat prefix is in
+     */
+    boolean isConstant() {
+        return prefixed.constant() != null;
+    }
+
+    /**
+     * Renders the message with the chat prefix it was compiled with
+     * Placeholders missing from the map are left as they are, like the old replace loop did
+     * @param values Placeholder values, may be null
+     * @return The rendered message
+     */
+    String render(Map<String, String> values) {
+        return render(prefixed, values, null);
+    }
+
+    /**
+     * Renders the message with another prefix
+     * @param values Placeholder values, may be null
+     * @param prefix Already colored prefix used for {prefix}
+     * @return The rendered message
+     */
+    String render(Map<String, String> values, String prefix) {
+        return render(open, values, prefix);
+    }
+
+    private static String render(Segments segments, Map<String, String> values, String prefix) {
+        if (segments.constant() != null) {
+            return segments.constant();
+        }
+
+        String[] literals = segments.literals();
+        String[] placeholders = segments.placeholders();
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        builder.ensureCapacity(segments.baseLength() + 16 * placeholders.length);
+
+        for (int i = 0; i < placeholders.length; i++) {
+            builder.append(literals[i]);
+
+            String name = placeholders[i];
+            String value = prefix != null && PREFIX.equals(name) ? prefix : (values != null ? values.get(name) : null);
+            if (value != null) {
+                builder.append(value);
+            } else {
+                builder.append('{').append(name).append('}');
+            }
+        }
+        builder.append(literals[placeholders.length]);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,123 @@
+package com.gsoldera.gAuction.utils;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Size-bounded LRU cache of items decoded from auction_history rows
+ * The item of a history row never changes once written, so every GUI opening the same rows
+ * shares one decoded prototype keyed by row id. Entries are weighed by their encoded size
+ * and the least recently used ones are evicted once the total goes over the budget.
+ * Callers always get their own clone, the prototypes never leave the cache.
+ */
+public final class ItemCache {
+    // Encoded bytes, decoded stacks take a few times more on the heap
+    private static final long MAX_WEIGHT = 8L * 1024 * 1024;
+    // Items bigger than this would push out too much of the cache for a single row
+    private static final long MAX_ENTRY_WEIGHT = MAX_WEIGHT / 16;
+
+    private final Map<Long, Entry> entries;
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    private record Entry(ItemStack prototype, int weight) {}
+
+    /**
+     * Snapshot of the cache counters
+     */
+    public record Stats(int entries, long weight, long maxWeight, long hits, long misses, long evictions) {
+
+        /**
+         * Gets the share of lookups served from the cache, between 0 and 1
+         */
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+
+    public ItemCache() {
+        // Access order, the eldest entry is always the least recently used one
+        this.entries = new LinkedHashMap<>(256, 0.75f, true);
+    }
+
+    /**
+     * Gets the item of a history row, decoding it only if it is not cached
+     * Safe to call from any thread; decoding happens outside the lock
+     * @param rowId Id of the auction_history row
+     * @param data Value of the item_data column
+     * @param legacy Value of the item_serialized column
+     * @return A clone the caller may change, or null if the item cannot be decoded
+     */
+    public ItemStack get(long rowId, byte[] data, String legacy) {
+        synchronized (this) {
+            Entry entry = entries.get(rowId);
+            if (entry != null) {
+                hits++;
+                return entry.prototype().clone();
+            }
+            misses++;
+        }
+
+        ItemStack item = ItemCodec.decode(data, legacy);
+        if (item == null) {
+            return null;
+        }
+
+        int entryWeight = data != null && data.length > 0 ? data.length : (legacy != null ? legacy.length() : 0);
+        if (entryWeight <= MAX_ENTRY_WEIGHT) {
+            put(rowId, new Entry(item.clone(), entryWeight));
+        }
+        return item;
+    }
+
+    /**
+     * Drops the items of rows that left the places they are shown, such as collected warehouse items
+     */
+    public synchronized void invalidate(Collection<Long> rowIds) {
+        for (Long rowId : rowIds) {
+            Entry removed = entries.remove(rowId);
+            if (removed != null) {
+                weight -= removed.weight();
+            }
+        }
+    }
+
+    /**
+     * Drops every cached item
+     */
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * Gets a snapshot of the cache counters
+     */
+    public synchronized Stats getStats() {
+        return new Stats(entries.size(), weight, MAX_WEIGHT, hits, misses, evictions);
+    }
+
+    private synchronized void put(long rowId, Entry entry) {
+        // Another thread may have decoded the same row meanwhile
+        Entry previous = entries.put(rowId, entry);
+        if (previous != null) {
+            weight -= previous.weight();
+        }
+        weight += entry.weight();
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (weight > MAX_WEIGHT && eldest.hasNext()) {
+            Entry evicted = eldest.next();
+            eldest.remove();
+            weight -= evicted.weight();
+            evictions++;
+        }
+    }
+}
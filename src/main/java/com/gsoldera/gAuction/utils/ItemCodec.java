@@ -0,0 +1,128 @@
+package com.gsoldera.gAuction.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.bukkit.inventory.ItemStack;
+import org.slf4j.Logger;
+
+import com.gsoldera.gAuction.GAuctionPlugin;
+
+/**
+ * Versioned binary item format stored in the item_data column
+ * The first byte tells how the rest is encoded:
+ * 0x01 - Paper serializeAsBytes output
+ * 0x02 - Paper serializeAsBytes output, deflate compressed
+ * Anything else is read as a legacy Base64 string from {@link ItemSerializer}
+ */
+public final class ItemCodec {
+    private static final Logger logger = GAuctionPlugin.getInstance().getPluginLogger();
+
+    public static final byte FORMAT_PAPER = 0x01;
+    public static final byte FORMAT_PAPER_DEFLATE = 0x02;
+
+    // Smaller payloads rarely shrink enough to pay for the inflate on read
+    private static final int COMPRESSION_THRESHOLD = 256;
+
+    private ItemCodec() {
+        // Prevent instantiation
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Encodes an item into the current binary format
+     * @param item ItemStack to encode
+     * @return Encoded bytes or null if encoding fails
+     */
+    public static byte[] encode(ItemStack item) {
+        try {
+            byte[] payload = item.serializeAsBytes();
+            if (payload.length >= COMPRESSION_THRESHOLD) {
+                byte[] compressed = deflate(payload);
+                if (compressed.length < payload.length) {
+                    return withHeader(FORMAT_PAPER_DEFLATE, compressed);
+                }
+            }
+            return withHeader(FORMAT_PAPER, payload);
+        } catch (Exception e) {
+            logger.error("Error encoding ItemStack", e);
+            return null;
+        }
+    }
+
+    /**
+     * Decodes bytes written by {@link #encode(ItemStack)} or a legacy Base64 string
+     * @param data Encoded bytes
+     * @return ItemStack or null if decoding fails
+     */
+    public static ItemStack decode(byte[] data) {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+
+        try {
+            return switch (data[0]) {
+                case FORMAT_PAPER -> ItemStack.deserializeBytes(withoutHeader(data));
+                case FORMAT_PAPER_DEFLATE -> ItemStack.deserializeBytes(inflate(data));
+                // Base64 text never starts with a control byte
+                default -> ItemSerializer.deserializeItemStack(new String(data, StandardCharsets.US_ASCII));
+            };
+        } catch (Exception e) {
+            logger.error("Error decoding ItemStack", e);
+            return null;
+        }
+    }
+
+    /**
+     * Decodes an item from a table row
+     * Rows not migrated yet only have the legacy Base64 column filled
+     * @param data Value of the item_data column
+     * @param legacy Value of the item_serialized column
+     * @return ItemStack or null if decoding fails
+     */
+    public static ItemStack decode(byte[] data, String legacy) {
+        if (data != null && data.length > 0) {
+            return decode(data);
+        }
+        if (legacy == null || legacy.isEmpty()) {
+            return null;
+        }
+        return ItemSerializer.deserializeItemStack(legacy);
+    }
+
+    private static byte[] withHeader(byte format, byte[] payload) {
+        byte[] data = new byte[payload.length + 1];
+        data[0] = format;
+        System.arraycopy(payload, 0, data, 1, payload.length);
+        return data;
+    }
+
+    private static byte[] withoutHeader(byte[] data) {
+        byte[] payload = new byte[data.length - 1];
+        System.arraycopy(data, 1, payload, 0, payload.length);
+        return payload;
+    }
+
+    private static byte[] deflate(byte[] payload) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(payload.length);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream deflaterStream = new DeflaterOutputStream(outputStream, deflater)) {
+            deflaterStream.write(payload);
+        } finally {
+            deflater.end();
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] data) throws IOException {
+        try (InflaterInputStream inflaterStream = new InflaterInputStream(
+                new ByteArrayInputStream(data, 1, data.length - 1))) {
+            return inflaterStream.readAllBytes();
+        }
+    }
+}
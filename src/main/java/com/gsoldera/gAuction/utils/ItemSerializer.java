@@ -123,19 +123,12 @@ public final class ItemSerializer {
     }
 
     /**
-     * Checks if an item is in the banned items list
+     * Checks if an item matches the banned item rules
      * @param item ItemStack to check
      * @return true if item is banned, false otherwise
      */
     public static boolean isItemBanned(ItemStack item) {
-        if (item == null || item.getType() == Material.AIR) {
-            return false;
-        }
-
-        return GAuctionPlugin.getInstance()
-                .getConfigManager()
-                .getBannedItems()
-                .contains(item.getType().getKey().toString());
+        return GAuctionPlugin.getInstance().getConfigManager().isItemBanned(item);
     }
 
     /**
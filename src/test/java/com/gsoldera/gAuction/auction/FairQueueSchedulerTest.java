@@ -0,0 +1,78 @@
+package com.gsoldera.gAuction.auction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class FairQueueSchedulerTest {
+    private static final UUID ALICE = new UUID(0, 1);
+    private static final UUID BOB = new UUID(0, 2);
+    private static final UUID CAROL = new UUID(0, 3);
+
+    // A queued listing, ordered like the auction queue orders entries of the same priority
+    private record Listing(UUID seller, double rank, long sequence) {}
+
+    private final FairQueueScheduler scheduler = new FairQueueScheduler(() -> null);
+    private final List<Listing> queue = new ArrayList<>();
+
+    private void queue(UUID seller, int weight) {
+        queue.add(new Listing(seller, scheduler.rank(seller, weight), queue.size()));
+    }
+
+    private List<UUID> startOrder() {
+        return queue.stream()
+            .sorted(Comparator.comparingDouble(Listing::rank).thenComparingLong(Listing::sequence))
+            .map(Listing::seller)
+            .toList();
+    }
+
+    @Test
+    void sellersTakeTurnsInsteadOfQueueOrder() {
+        queue(ALICE, 1);
+        queue(ALICE, 1);
+        queue(ALICE, 1);
+        queue(BOB, 1);
+        queue(BOB, 1);
+        queue(CAROL, 1);
+
+        assertEquals(List.of(ALICE, BOB, CAROL, ALICE, BOB, ALICE), startOrder());
+    }
+
+    @Test
+    void higherWeightComesAroundMoreOften() {
+        queue(ALICE, 2);
+        queue(ALICE, 2);
+        queue(ALICE, 2);
+        queue(ALICE, 2);
+        queue(BOB, 1);
+        queue(BOB, 1);
+
+        assertEquals(List.of(ALICE, ALICE, BOB, ALICE, ALICE, BOB), startOrder());
+    }
+
+    @Test
+    void newSellerJoinsTheCurrentRound() {
+        queue(ALICE, 1);
+        queue(ALICE, 1);
+        queue(ALICE, 1);
+        scheduler.started(null, 1);
+        scheduler.started(null, 2);
+
+        // Starts from the last rank that started, level with Alice's next turn rather than ahead of it
+        assertEquals(3.0, scheduler.rank(BOB, 1));
+    }
+
+    @Test
+    void sellerThatLeftStartsOver() {
+        queue(ALICE, 1);
+        queue(ALICE, 1);
+        scheduler.sellerLeft(ALICE);
+
+        assertEquals(1.0, scheduler.rank(ALICE, 1));
+    }
+}
@@ -0,0 +1,117 @@
+package com.gsoldera.gAuction.auction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class OrderStatisticTreeTest {
+    // Sorted by value, the key breaks ties so elements stay distinct
+    private record Item(int key, int value, long weight) {}
+
+    private static final Comparator<Item> ORDER = Comparator.comparingInt(Item::value).thenComparingInt(Item::key);
+
+    private static OrderStatisticTree<Integer, Item> newTree() {
+        return new OrderStatisticTree<>(ORDER, Item::weight);
+    }
+
+    private static void add(OrderStatisticTree<Integer, Item> tree, int key, int value, long weight) {
+        tree.add(key, new Item(key, value, weight));
+    }
+
+    @Test
+    void ranksAndWeighsInSortedOrder() {
+        OrderStatisticTree<Integer, Item> tree = newTree();
+        add(tree, 1, 30, 300);
+        add(tree, 2, 10, 100);
+        add(tree, 3, 20, 200);
+        add(tree, 4, 20, 50);
+
+        assertEquals(0, tree.rank(2));
+        assertEquals(1, tree.rank(3));
+        assertEquals(2, tree.rank(4));
+        assertEquals(3, tree.rank(1));
+
+        assertEquals(0, tree.weightBefore(2));
+        assertEquals(100, tree.weightBefore(3));
+        assertEquals(300, tree.weightBefore(4));
+        assertEquals(350, tree.weightBefore(1));
+    }
+
+    @Test
+    void rejectsDuplicateKeysAndReportsMissingOnes() {
+        OrderStatisticTree<Integer, Item> tree = newTree();
+        add(tree, 1, 10, 10);
+
+        assertFalse(tree.add(1, new Item(1, 5, 5)));
+        assertEquals(1, tree.size());
+        assertEquals(-1, tree.rank(2));
+        assertEquals(-1, tree.weightBefore(2));
+        assertNull(tree.remove(2));
+    }
+
+    @Test
+    void updatesAfterRemoveAndPoll() {
+        OrderStatisticTree<Integer, Item> tree = newTree();
+        for (int key = 0; key < 5; key++) {
+            add(tree, key, key * 10, key + 1);
+        }
+
+        assertEquals(new Item(2, 20, 3), tree.remove(2));
+        assertEquals(2, tree.rank(3));
+        assertEquals(1 + 2, tree.weightBefore(3));
+
+        assertEquals(new Item(0, 0, 1), tree.poll());
+        assertEquals(0, tree.rank(1));
+        assertEquals(1, tree.rank(3));
+        assertEquals(2, tree.weightBefore(3));
+        assertEquals(2 + 4, tree.weightBefore(4));
+        assertEquals(-1, tree.rank(0));
+
+        tree.poll();
+        tree.poll();
+        tree.poll();
+        assertNull(tree.poll());
+        assertEquals(0, tree.size());
+    }
+
+    @Test
+    void matchesASortedListUnderRandomChanges() {
+        Random random = new Random(42);
+        OrderStatisticTree<Integer, Item> tree = newTree();
+        List<Item> expected = new ArrayList<>();
+
+        for (int step = 0; step < 2000; step++) {
+            int action = random.nextInt(4);
+            if (action < 2 || expected.isEmpty()) {
+                Item item = new Item(step, random.nextInt(100), random.nextInt(1000));
+                tree.add(item.key(), item);
+                expected.add(item);
+                expected.sort(ORDER);
+            } else if (action == 2) {
+                Item item = expected.remove(random.nextInt(expected.size()));
+                assertEquals(item, tree.remove(item.key()));
+            } else {
+                assertEquals(expected.remove(0), tree.poll());
+            }
+
+            assertEquals(expected.size(), tree.size());
+            if (step % 50 == 0) {
+                assertEquals(expected, tree.values());
+                long weight = 0;
+                for (int i = 0; i < expected.size(); i++) {
+                    Item item = expected.get(i);
+                    assertEquals(i, tree.rank(item.key()));
+                    assertEquals(weight, tree.weightBefore(item.key()));
+                    weight += item.weight();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.gsoldera.gAuction.auction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.DoubleUnaryOperator;
+
+import org.junit.jupiter.api.Test;
+
+class ProxyBookTest {
+    private static final DoubleUnaryOperator STEP = amount -> amount + 5;
+
+    private static final UUID ALICE = new UUID(0, 1);
+    private static final UUID BOB = new UUID(0, 2);
+    private static final UUID CAROL = new UUID(0, 3);
+
+    private final ProxyBook book = new ProxyBook();
+
+    private ProxyBook.Resolution resolve(BidState current) {
+        return book.resolve(current, null, null, 0, STEP);
+    }
+
+    private ProxyBook.Resolution resolveManual(BidState current, UUID bidder, double amount) {
+        return book.resolve(current, bidder, "manual", amount, STEP);
+    }
+
+    private static List<UUID> exhausted(ProxyBook.Resolution resolution) {
+        return resolution.exhausted().stream().map(ProxyBook.ProxyBid::bidderUUID).toList();
+    }
+
+    @Test
+    void singleMaximumOpensAtTheMinimumNextBid() {
+        book.register(ALICE, "Alice", 100);
+
+        ProxyBook.Resolution resolution = resolve(BidState.opening(10));
+
+        assertEquals(ALICE, resolution.bidderUUID());
+        assertEquals(15, resolution.amount());
+        assertTrue(resolution.exhausted().isEmpty());
+    }
+
+    @Test
+    void higherMaximumLeadsOneStepAboveTheRunnerUp() {
+        book.register(ALICE, "Alice", 100);
+        BidState current = BidState.opening(10).withBid(ALICE, "Alice", 15);
+        book.register(BOB, "Bob", 60);
+
+        ProxyBook.Resolution resolution = resolve(current);
+
+        assertEquals(ALICE, resolution.bidderUUID());
+        assertEquals(65, resolution.amount());
+        assertEquals(List.of(BOB), exhausted(resolution));
+    }
+
+    @Test
+    void earlierMaximumWinsATie() {
+        book.register(ALICE, "Alice", 100);
+        book.register(BOB, "Bob", 100);
+
+        ProxyBook.Resolution resolution = resolve(BidState.opening(10));
+
+        assertEquals(ALICE, resolution.bidderUUID());
+        assertEquals(100, resolution.amount());
+        assertEquals(List.of(BOB), exhausted(resolution));
+    }
+
+    @Test
+    void replacedMaximumLosesItsPlaceForTies() {
+        book.register(ALICE, "Alice", 100);
+        book.register(BOB, "Bob", 100);
+        book.register(ALICE, "Alice", 100);
+
+        assertEquals(BOB, resolve(BidState.opening(10)).bidderUUID());
+    }
+
+    @Test
+    void manualBidMatchingAMaximumLosesToIt() {
+        book.register(ALICE, "Alice", 100);
+        BidState current = BidState.opening(10).withBid(ALICE, "Alice", 65);
+
+        ProxyBook.Resolution resolution = resolveManual(current, CAROL, 100);
+
+        assertEquals(ALICE, resolution.bidderUUID());
+        assertEquals(100, resolution.amount());
+    }
+
+    @Test
+    void manualBidAboveAMaximumLeadsAtItsOwnAmount() {
+        book.register(ALICE, "Alice", 100);
+        BidState current = BidState.opening(10).withBid(ALICE, "Alice", 65);
+
+        ProxyBook.Resolution resolution = resolveManual(current, CAROL, 120);
+
+        assertEquals(CAROL, resolution.bidderUUID());
+        assertEquals(120, resolution.amount());
+        assertEquals(List.of(ALICE), exhausted(resolution));
+    }
+
+    @Test
+    void manualBidFromTheLeaderRaisesToItsAmount() {
+        book.register(ALICE, "Alice", 100);
+        BidState current = BidState.opening(10).withBid(ALICE, "Alice", 15);
+
+        ProxyBook.Resolution resolution = resolveManual(current, ALICE, 50);
+
+        assertEquals(ALICE, resolution.bidderUUID());
+        assertEquals(50, resolution.amount());
+    }
+
+    @Test
+    void maximumBelowTheNextBidIsExhaustedAndLeaderKeepsItsBid() {
+        BidState current = BidState.opening(10).withBid(BOB, "Bob", 50);
+        book.register(ALICE, "Alice", 40);
+
+        ProxyBook.Resolution resolution = resolve(current);
+
+        assertEquals(BOB, resolution.bidderUUID());
+        assertEquals(50, resolution.amount());
+        assertEquals(List.of(ALICE), exhausted(resolution));
+    }
+
+    @Test
+    void closingReturnsTheRemainingMaximums() {
+        book.register(ALICE, "Alice", 100);
+        book.register(BOB, "Bob", 60);
+
+        assertEquals(2, book.close().size());
+        assertTrue(book.isClosed());
+        assertTrue(book.isEmpty());
+    }
+}
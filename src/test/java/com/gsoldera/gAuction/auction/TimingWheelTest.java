@@ -0,0 +1,119 @@
+package com.gsoldera.gAuction.auction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.helpers.NOPLogger;
+
+class TimingWheelTest {
+    private TimingWheel wheel;
+
+    @AfterEach
+    void tearDown() {
+        if (wheel != null) {
+            wheel.shutdown();
+        }
+    }
+
+    @Test
+    void firesInDeadlineOrderAcrossEveryLevelAndTheOverflow() throws InterruptedException {
+        // 100ns ticks: level 0 covers 6.4us, level 3 about 1.7s, anything later starts in the overflow
+        wheel = new TimingWheel(NOPLogger.NOP_LOGGER, 100, TimeUnit.NANOSECONDS, "test-wheel");
+        long[] delays = {
+            TimeUnit.SECONDS.toNanos(2),
+            TimeUnit.MILLISECONDS.toNanos(500),
+            TimeUnit.MILLISECONDS.toNanos(10),
+            TimeUnit.MICROSECONDS.toNanos(200),
+            TimeUnit.MICROSECONDS.toNanos(3)
+        };
+
+        List<Integer> fired = Collections.synchronizedList(new ArrayList<>());
+        long[] firedAt = new long[delays.length];
+        long[] scheduledAt = new long[delays.length];
+        CountDownLatch done = new CountDownLatch(delays.length);
+        for (int i = 0; i < delays.length; i++) {
+            int index = i;
+            scheduledAt[i] = System.nanoTime();
+            wheel.schedule(null, () -> {
+                firedAt[index] = System.nanoTime();
+                fired.add(index);
+                done.countDown();
+            }, delays[i], TimeUnit.NANOSECONDS);
+        }
+
+        assertTrue(done.await(30, TimeUnit.SECONDS), "every timer should fire");
+        assertEquals(List.of(4, 3, 2, 1, 0), fired);
+        for (int i = 0; i < delays.length; i++) {
+            assertTrue(firedAt[i] - scheduledAt[i] >= delays[i], "timer " + i + " fired early");
+        }
+    }
+
+    @Test
+    void cancelGroupDropsEveryTimerInTheGroup() throws InterruptedException {
+        wheel = new TimingWheel(NOPLogger.NOP_LOGGER, 1, TimeUnit.MILLISECONDS, "test-wheel");
+        AtomicInteger cancelledRuns = new AtomicInteger();
+        CountDownLatch otherGroup = new CountDownLatch(1);
+
+        // Spread over several levels so the group links cross slots
+        TimingWheel.Timeout middle = wheel.schedule("a", cancelledRuns::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+        wheel.schedule("a", cancelledRuns::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        wheel.schedule("a", cancelledRuns::incrementAndGet, 150, TimeUnit.MILLISECONDS);
+        wheel.scheduleAtFixedRate("a", cancelledRuns::incrementAndGet, 30, 10, TimeUnit.MILLISECONDS);
+        wheel.schedule("b", otherGroup::countDown, 200, TimeUnit.MILLISECONDS);
+
+        wheel.cancel(middle);
+        wheel.cancelGroup("a");
+
+        assertTrue(otherGroup.await(5, TimeUnit.SECONDS), "other groups should still fire");
+        assertEquals(0, cancelledRuns.get());
+    }
+
+    @Test
+    void oneShotTimerLeavesItsGroup() throws InterruptedException {
+        wheel = new TimingWheel(NOPLogger.NOP_LOGGER, 1, TimeUnit.MILLISECONDS, "test-wheel");
+        CountDownLatch first = new CountDownLatch(1);
+        AtomicInteger later = new AtomicInteger();
+
+        wheel.schedule("a", first::countDown, 5, TimeUnit.MILLISECONDS);
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+
+        CountDownLatch marker = new CountDownLatch(1);
+        wheel.schedule("a", later::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+        wheel.cancelGroup("a");
+        wheel.schedule(null, marker::countDown, 100, TimeUnit.MILLISECONDS);
+
+        assertTrue(marker.await(5, TimeUnit.SECONDS));
+        assertEquals(0, later.get());
+    }
+
+    @Test
+    void periodicTimerReArmsUntilCancelled() throws InterruptedException {
+        wheel = new TimingWheel(NOPLogger.NOP_LOGGER, 1, TimeUnit.MILLISECONDS, "test-wheel");
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch fiveRuns = new CountDownLatch(5);
+
+        TimingWheel.Timeout timeout = wheel.scheduleAtFixedRate(null, () -> {
+            runs.incrementAndGet();
+            fiveRuns.countDown();
+            // A failing run must not stop the next one
+            throw new IllegalStateException("test");
+        }, 5, 5, TimeUnit.MILLISECONDS);
+
+        assertTrue(fiveRuns.await(5, TimeUnit.SECONDS), "periodic timer should keep firing");
+        wheel.cancel(timeout);
+        // A run that was already collected can still finish after the cancel
+        Thread.sleep(20);
+        int afterCancel = runs.get();
+        Thread.sleep(50);
+        assertEquals(afterCancel, runs.get());
+    }
+}